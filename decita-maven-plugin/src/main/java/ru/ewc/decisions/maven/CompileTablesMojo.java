@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.input.CombinedCsvFileReader;
+import ru.ewc.decisions.input.CompiledTablesSource;
+
+/**
+ * I am the goal that compiles the decision tables into a Java class during the
+ * {@code generate-sources} phase. The generated class is a {@code ContentsReader} with all the
+ * tables embedded, so the application could use it instead of reading the tables' folder at
+ * startup. The malformed tables fail the build.
+ *
+ * @since 0.10.0
+ */
+@Mojo(name = "compile-tables", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
+public final class CompileTablesMojo extends AbstractMojo {
+    /**
+     * The folder with the tables' source files.
+     */
+    @Parameter(defaultValue = "${project.basedir}/src/main/tables", required = true)
+    private File tables;
+
+    /**
+     * The extension of the tables' source files.
+     */
+    @Parameter(defaultValue = ".csv", required = true)
+    private String extension;
+
+    /**
+     * The symbol that separates the fields of the tables' source files.
+     */
+    @Parameter(defaultValue = ";", required = true)
+    private String delimiter;
+
+    /**
+     * The fully qualified name of the generated class.
+     */
+    @Parameter(required = true)
+    private String className;
+
+    /**
+     * The root folder for the generated sources.
+     */
+    @Parameter(
+        defaultValue = "${project.build.directory}/generated-sources/decita",
+        required = true
+    )
+    private File output;
+
+    /**
+     * The project being built.
+     */
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    /**
+     * Ctor for Maven, that injects all the parameters.
+     */
+    public CompileTablesMojo() {
+        super();
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param tables The folder with the tables' source files.
+     * @param delimiter The symbol that separates the fields of the tables' source files.
+     * @param name The fully qualified name of the generated class.
+     * @param output The root folder for the generated sources.
+     * @param project The project being built.
+     */
+    CompileTablesMojo(
+        final File tables,
+        final String delimiter,
+        final String name,
+        final File output,
+        final MavenProject project
+    ) {
+        super();
+        this.tables = tables;
+        this.extension = ".csv";
+        this.delimiter = delimiter;
+        this.className = name;
+        this.output = output;
+        this.project = project;
+    }
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        final CompiledTablesSource source = new CompiledTablesSource(
+            this.className,
+            new CombinedCsvFileReader(this.tables.toURI(), this.extension, this.delimiter)
+        );
+        try {
+            final Path target = this.output.toPath().resolve(source.relativePath());
+            Files.createDirectories(target.getParent());
+            Files.writeString(target, source.asString(), StandardCharsets.UTF_8);
+            this.getLog().info("Compiled the decision tables into %s".formatted(target));
+        } catch (final DecitaException exception) {
+            throw new MojoFailureException(exception.getMessage(), exception);
+        } catch (final IOException exception) {
+            throw new MojoExecutionException("Cannot write the compiled tables", exception);
+        }
+        this.project.addCompileSourceRoot(this.output.getPath());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.maven;
+
+import java.io.File;
+import java.io.IOException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.input.BundledTablesReader;
+import ru.ewc.decisions.input.TablesIndex;
+
+/**
+ * I am the goal that writes the {@link BundledTablesReader#INDEX} manifest of the tables bundled
+ * with the application during the {@code process-resources} phase, i.e. once the tables are copied
+ * to the classes folder. The manifest lists every table found there, so the
+ * {@link BundledTablesReader} reads them all from the application's jar.
+ *
+ * @since 0.10.0
+ */
+@Mojo(name = "index-tables", defaultPhase = LifecyclePhase.PROCESS_RESOURCES, threadSafe = true)
+public final class IndexTablesMojo extends AbstractMojo {
+    /**
+     * The root of the bundle, i.e. the folder with the copied tables.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}/tables", required = true)
+    private File bundle;
+
+    /**
+     * The extension of the tables' files.
+     */
+    @Parameter(defaultValue = ".csv", required = true)
+    private String extension;
+
+    /**
+     * Ctor for Maven, that injects all the parameters.
+     */
+    public IndexTablesMojo() {
+        super();
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param bundle The root of the bundle, i.e. the folder with the copied tables.
+     * @param extension The extension of the tables' files.
+     */
+    IndexTablesMojo(final File bundle, final String extension) {
+        super();
+        this.bundle = bundle;
+        this.extension = extension;
+    }
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        try {
+            this.getLog().info(
+                "Indexed the bundled tables in %s".formatted(
+                    new TablesIndex(this.bundle.toPath(), this.extension).write()
+                )
+            );
+        } catch (final DecitaException exception) {
+            throw new MojoFailureException(exception.getMessage(), exception);
+        } catch (final IOException exception) {
+            throw new MojoExecutionException("Cannot write the tables' manifest", exception);
+        }
+    }
+}
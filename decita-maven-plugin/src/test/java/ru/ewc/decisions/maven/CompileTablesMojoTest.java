@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.maven;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.project.MavenProject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the test for {@link CompileTablesMojo}.
+ *
+ * @since 0.10.0
+ */
+final class CompileTablesMojoTest {
+    @Test
+    void shouldGenerateSourceWithTablesCells(@TempDir final Path temp)
+        throws IOException, MojoExecutionException, MojoFailureException {
+        final Path tables = Files.createDirectory(temp.resolve("tables"));
+        Files.writeString(tables.resolve("piped.csv"), "CND|data::x|1\nOUT|out|a\n");
+        final MavenProject project = new MavenProject();
+        new CompileTablesMojo(
+            tables.toFile(),
+            "\\|",
+            "ru.ewc.generated.Tables",
+            temp.resolve("generated").toFile(),
+            project
+        ).execute();
+        MatcherAssert.assertThat(
+            "Should write the cells split by the delimiter into the class",
+            Files.readString(temp.resolve("generated/ru/ewc/generated/Tables.java")),
+            Matchers.stringContainsInOrder(
+                "package ru.ewc.generated;",
+                "fill(rows, 0, 3, 0, \"CND\", \"data::x\", \"1\");",
+                "fill(rows, 1, 3, 0, \"OUT\", \"out\", \"a\");"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Should add the generated sources to the project",
+            project.getCompileSourceRoots(),
+            Matchers.contains(temp.resolve("generated").toString())
+        );
+    }
+
+    @Test
+    void shouldFailBuildOnMalformedTable(@TempDir final Path temp) throws IOException {
+        final Path tables = Files.createDirectory(temp.resolve("tables"));
+        Files.writeString(tables.resolve("broken.csv"), "HIT;SOMETIMES\nCND;data::x;1\n");
+        final MojoFailureException failure = Assertions.assertThrows(
+            MojoFailureException.class,
+            () -> new CompileTablesMojo(
+                tables.toFile(),
+                ";",
+                "Tables",
+                temp.resolve("generated").toFile(),
+                new MavenProject()
+            ).execute()
+        );
+        MatcherAssert.assertThat(
+            "Should keep the table's failure as the cause",
+            failure.getCause(),
+            Matchers.instanceOf(DecitaException.class)
+        );
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.maven;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.ewc.decisions.input.BundledTablesReader;
+
+/**
+ * I am the test for {@link IndexTablesMojo}.
+ *
+ * @since 0.10.0
+ */
+final class IndexTablesMojoTest {
+    @Test
+    void shouldListEveryBundledTable(@TempDir final Path temp)
+        throws IOException, MojoExecutionException, MojoFailureException {
+        Files.createDirectories(temp.resolve("commands"));
+        Files.writeString(temp.resolve("game.csv"), "OUT;out;a\n");
+        Files.writeString(temp.resolve("commands/move.csv"), "OUT;out;b\n");
+        new IndexTablesMojo(temp.toFile(), ".csv").execute();
+        MatcherAssert.assertThat(
+            "Should write the manifest the bundled tables are read by",
+            new BundledTablesReader(temp, ";").sources().keySet(),
+            Matchers.containsInAnyOrder("game", "move")
+        );
+    }
+}
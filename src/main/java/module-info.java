@@ -1,6 +1,7 @@
 module java.decita.api {
     requires static lombok;
     requires org.hamcrest;
+    requires org.objectweb.asm;
     exports ru.ewc.decisions.input;
     exports ru.ewc.decisions.api;
     exports ru.ewc.state;
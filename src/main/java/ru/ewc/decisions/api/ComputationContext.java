@@ -25,25 +25,42 @@
 package ru.ewc.decisions.api;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import ru.ewc.decisions.core.Coordinate;
 import ru.ewc.decisions.core.DecisionTable;
+import ru.ewc.decisions.core.Symbols;
 import ru.ewc.decisions.input.CombinedCsvFileReader;
 import ru.ewc.state.State;
 
 /**
- * I am the facade for all TruthTable evaluations and Commands executions.
+ * I am the facade for all TruthTable evaluations and Commands executions. I am meant to be used by
+ * a single thread at a time (i.e. one instance per session), while the {@link DecisionTables} I
+ * work with are immutable and could be shared between many instances and threads.
  *
  * @since 0.1
  */
 public final class ComputationContext {
 
     /**
-     * The storage of decision tables.
+     * The storage of decision tables, pinned for the current top-level evaluation.
      */
     private DecisionTables tables;
 
+    /**
+     * The source of the up-to-date decision tables, {@code null} if the tables never change.
+     */
+    private final Supplier<DecisionTables> source;
+
+    /**
+     * The {@link Locator}s of the tables and of the state, linked to the IDs of their names when
+     * the tables are pinned, and once more when the lazy tables add new names. The unlinked
+     * names are looked up by the slower path.
+     */
+    private Locator[] links;
+
     /**
      * The storage of the current state of the system.
      */
@@ -54,6 +71,22 @@ public final class ComputationContext {
      */
     private final OutputPublisher<String> publisher;
 
+    /**
+     * The stack of the {@link EvaluationFrame}s for the tables being evaluated right now. The
+     * frames are reused between evaluations, so only the first {@code depth} of them are in use.
+     */
+    private final List<EvaluationFrame> frames;
+
+    /**
+     * The number of the tables being evaluated right now.
+     */
+    private int depth;
+
+    /**
+     * The fragments read during the current top-level evaluation.
+     */
+    private final ReadSnapshot reads;
+
     public ComputationContext(final State state, final URI tables) {
         this(state, ComputationContext.getAllTables(tables));
     }
@@ -65,17 +98,42 @@ public final class ComputationContext {
      * @param tables The {@link DecisionTables} instance to use.
      */
     public ComputationContext(final State state, final DecisionTables tables) {
-        this(state.extendedWithConstant(), tables, new OutputPublisher<>());
+        this(state, tables, new OutputPublisher<>());
     }
 
     public ComputationContext(
         final State state,
         final DecisionTables tables,
         final OutputPublisher<String> publisher
+    ) {
+        this(state, tables, null, publisher);
+    }
+
+    /**
+     * Ctor for the tables that could change while the context is in use, e.g. the ones reloaded
+     * by the {@link TablesWatcher}. Every top-level evaluation takes the tables from the source
+     * once, so that all its nested evaluations see the same version of the tables.
+     *
+     * @param state The {@link State} instance to use.
+     * @param source The source of the up-to-date {@link DecisionTables}.
+     */
+    public ComputationContext(final State state, final Supplier<DecisionTables> source) {
+        this(state, source.get(), source, new OutputPublisher<>());
+    }
+
+    private ComputationContext(
+        final State state,
+        final DecisionTables tables,
+        final Supplier<DecisionTables> source,
+        final OutputPublisher<String> publisher
     ) {
         this.state = state.extendedWithConstant();
         this.tables = tables;
+        this.source = source;
         this.publisher = publisher;
+        this.frames = new ArrayList<>(1);
+        this.reads = new ReadSnapshot();
+        this.links = tables.linkedWith(this.state);
     }
 
     public OutputTracker<String> startTracking() {
@@ -86,20 +144,114 @@ public final class ComputationContext {
         this.publisher.track("%s: %s".formatted(type.name(), message));
     }
 
+    /**
+     * Tells whether the computation events are tracked, so that the evaluations should report
+     * every step they make, rather than take the shortcuts skipping some of them.
+     *
+     * @return True, if someone tracks the computation events.
+     */
+    public boolean isTracked() {
+        return this.publisher.isTracked();
+    }
+
+    /**
+     * Logs the computation event. The message is prepared only if the events are tracked, so
+     * the evaluations do not format the messages nobody reads.
+     *
+     * @param type The type of the event.
+     * @param message The supplier of the event's message.
+     */
+    public void logComputation(final OutputTracker.EventType type, final Supplier<String> message) {
+        if (this.publisher.isTracked()) {
+            this.logComputation(type, message.get());
+        }
+    }
+
     /**
      * Computes the specified {@link DecisionTable} result as a Dictionary. This method is used by
-     * unit-tests and the library's clients.
+     * unit-tests and the library's clients. For the tables with the {@code COLLECT} hit policy the
+     * values of all the satisfied rules are joined with commas, which is a display-only form that
+     * could not be split back reliably; use {@link #decisionsFor(String)} to get them separately.
      *
      * @param name The name of the table to compute.
      * @return The Dictionary containing the decision result.
      * @throws DecitaException If the table could not be found or computed.
      */
     public Map<String, String> decisionFor(final String name) throws DecitaException {
-        return ((DecisionTable) this.tables.locatorFor(name)).outcome(this);
+        final DecisionTable table = (DecisionTable) this.pinned().locatorFor(name);
+        return this.snapshotted(() -> table.outcome(this));
     }
 
+    /**
+     * Computes all the outcomes of the specified {@link DecisionTable}. Makes sense for the tables
+     * with the {@code COLLECT} hit policy, that could have several satisfied rules at once.
+     *
+     * @param name The name of the table to compute.
+     * @return The outcomes of all the satisfied rules in the order of the table's columns.
+     * @throws DecitaException If the table could not be found or computed.
+     */
+    public List<Map<String, String>> decisionsFor(final String name) throws DecitaException {
+        final DecisionTable table = (DecisionTable) this.pinned().locatorFor(name);
+        return this.snapshotted(() -> table.outcomes(this));
+    }
+
+    /**
+     * Performs the specified command, i.e. sets the values of the fragments according to the
+     * satisfied rules of its {@link DecisionTable}.
+     *
+     * @param command The name of the command to perform.
+     * @throws DecitaException If the command could not be found or performed.
+     */
     public void perform(final String command) {
-        ((DecisionTable) this.tables.locatorFor(command)).perform(this);
+        final DecisionTable table = (DecisionTable) this.pinned().locatorFor(command);
+        this.snapshotted(
+            () -> {
+                table.perform(this);
+                return table;
+            }
+        );
+    }
+
+    /**
+     * Performs the evaluation in its own {@link EvaluationFrame}, so that all the values located
+     * during that evaluation are kept separately and forgotten right after it.
+     *
+     * @param evaluation The evaluation to perform.
+     * @param <T> The type of the evaluation result.
+     * @return The evaluation result.
+     */
+    public <T> T inFrame(final Supplier<T> evaluation) {
+        if (this.frames.size() == this.depth) {
+            this.frames.add(new EvaluationFrame());
+        }
+        this.depth += 1;
+        try {
+            return evaluation.get();
+        } finally {
+            this.depth -= 1;
+            this.frames.get(this.depth).clear();
+        }
+    }
+
+    /**
+     * Returns the value located for the specified {@link Coordinate} during the current
+     * evaluation. Outside of any evaluation the value is computed every time.
+     *
+     * @param coordinate The {@link Coordinate} to get the located value for.
+     * @param computation The computation that locates the value.
+     * @return The located constant {@link Coordinate}.
+     */
+    public Coordinate located(
+        final Coordinate coordinate,
+        final Supplier<Coordinate> computation
+    ) {
+        final Coordinate result;
+        if (this.depth == 0) {
+            result = computation.get();
+        } else {
+            result = this.frames.get(this.depth - 1).located(coordinate, computation);
+        }
+        return result;
     }
 
     /**
@@ -112,12 +264,48 @@ public final class ComputationContext {
      */
     public String valueFor(final String locator, final String fragment) throws DecitaException {
         final Locator found;
-        if (this.tables.hasLocator(locator)) {
-            found = this.tables.locatorFor(locator);
+        final DecisionTables current = this.pinned();
+        if (current.hasLocator(locator)) {
+            found = current.locatorFor(locator);
         } else {
             found = this.state.locatorFor(locator);
         }
-        return found.fragmentBy(fragment, this);
+        return this.reads.valueOf(found, fragment, this);
+    }
+
+    /**
+     * Returns the table of the IDs of the {@link Locator}s' names used by the tables.
+     *
+     * @return The {@link Symbols} table of the tables.
+     */
+    public Symbols symbols() {
+        return this.pinned().symbols();
+    }
+
+    /**
+     * Finds a {@link Coordinate}'s value using the {@link Locator} with the specified ID. The IDs
+     * are given to the {@link Locator}s' names in the tables' {@link Symbols} table, so the
+     * {@link Locator}s are found in an array rather than by their names.
+     *
+     * @param locator The ID of the {@link Locator}'s name in the tables' {@link Symbols} table.
+     * @param fragment String identifier of the value to find.
+     * @return The {@code String} value containing requested state.
+     * @throws DecitaException If the {@link Locator} wasn't found in the context.
+     */
+    public String valueFor(final int locator, final String fragment) throws DecitaException {
+        final Locator found;
+        final DecisionTables current = this.pinned();
+        if (locator >= this.links.length) {
+            this.links = current.linkedWith(this.state);
+        }
+        if (this.links[locator] != null) {
+            found = this.links[locator];
+        } else if (current.hasLocator(locator)) {
+            found = current.locatorFor(locator);
+        } else {
+            found = this.state.locatorFor(current.symbols().nameOf(locator));
+        }
+        return this.reads.valueOf(found, fragment, this);
     }
 
     /**
@@ -131,6 +319,10 @@ public final class ComputationContext {
     public ComputationContext setValueFor(final String loc, final String frag, final String value) {
         final Locator found = this.state.locatorFor(loc);
         found.setFragmentValue(frag, value);
+        this.reads.clear();
+        for (int idx = 0; idx < this.depth; idx += 1) {
+            this.frames.get(idx).clear();
+        }
         return this;
     }
 
@@ -140,25 +332,92 @@ public final class ComputationContext {
     }
 
     public Map<String, List<String>> commandData() {
-        return this.tables.commandsData();
+        return this.pinned().commandsData();
+    }
+
+    /**
+     * Finds the {@link Locator}s referenced by the tables directly, that are missing in this
+     * context. Such tables would fail on their evaluation, so it's worth checking them up front.
+     *
+     * @return The sorted names of the missing {@link Locator}s.
+     */
+    public List<String> missingLocators() {
+        return this.pinned().missingLocators(this.state);
     }
 
     public List<String> tableNames() {
-        return this.tables.tableNames();
+        return this.pinned().tableNames();
     }
 
     /**
      * Used by client applications to reset the computation state, i.e. between tests or
-     * recalculations of {@link DecisionTables}.
-*
+     * recalculations of {@link DecisionTables}. The tables taken from a changing source are
+     * already up-to-date, so only the fixed tables are reloaded.
+     *
      * @param loc The name of the incoming data locator, that should be cleared.
      */
     @SuppressWarnings("unused")
     public void resetComputationState(final String loc) {
-        this.tables = this.tables.reset();
-        if (this.state.hasLocator(loc) && this.state.locatorFor(loc) instanceof InMemoryLocator) {
-            ((InMemoryLocator) this.state.locatorFor(loc)).reset();
+        if (this.source == null) {
+            this.tables = this.tables.reset();
+            this.links = this.tables.linkedWith(this.state);
+        }
+        if (this.state.hasLocator(loc)
+            && this.state.locatorFor(loc) instanceof ResettableLocator) {
+            ((ResettableLocator) this.state.locatorFor(loc)).reset();
+        }
+    }
+
+    /**
+     * Returns the {@link Locator} linked to the name. Used for testing purposes.
+     *
+     * @param name The name of the {@link Locator}.
+     * @return The linked {@link Locator} or {@code null}, if the name is not linked.
+     */
+    Locator linkOf(final String name) {
+        final int symbol = this.pinned().symbols().find(name);
+        final Locator result;
+        if (symbol >= 0 && symbol < this.links.length) {
+            result = this.links[symbol];
+        } else {
+            result = null;
+        }
+        return result;
+    }
+
+    /**
+     * Performs the top-level evaluation, so that every fragment is read at most once during it,
+     * unless the state changes.
+     *
+     * @param evaluation The evaluation to perform.
+     * @param <T> The type of the evaluation result.
+     * @return The evaluation result.
+     */
+    private <T> T snapshotted(final Supplier<T> evaluation) {
+        final boolean started = this.reads.start();
+        try {
+            return evaluation.get();
+        } finally {
+            if (started) {
+                this.reads.finish();
+            }
+        }
+    }
+
+    /**
+     * Takes the up-to-date tables from the source, unless some evaluation is in progress.
+     *
+     * @return The tables to use in the current evaluation.
+     */
+    private DecisionTables pinned() {
+        if (this.source != null && this.depth == 0) {
+            final DecisionTables fresh = this.source.get();
+            if (fresh != this.tables) {
+                this.tables = fresh;
+                this.links = fresh.linkedWith(this.state);
+            }
         }
+        return this.tables;
     }
 
     private static DecisionTables getAllTables(final URI tables) {
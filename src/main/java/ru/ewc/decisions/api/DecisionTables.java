@@ -24,18 +24,25 @@
 
 package ru.ewc.decisions.api;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import ru.ewc.decisions.core.BaseLocators;
+import ru.ewc.decisions.core.BlockingTasks;
 import ru.ewc.decisions.core.DecisionTable;
+import ru.ewc.decisions.core.Symbols;
 import ru.ewc.decisions.input.ContentsReader;
 import ru.ewc.decisions.input.SourceLines;
 
 /**
- * I am a set of decision tables.
+ * I am a set of decision tables. I am immutable once created, so the same instance could be shared
+ * by many {@link ComputationContext}s evaluating the tables in parallel.
  *
  * @since 0.6.0
  */
@@ -46,19 +53,126 @@ public final class DecisionTables extends BaseLocators {
      */
     private final ContentsReader contents;
 
-    private DecisionTables(final ContentsReader contents, final Map<String, Locator> locators) {
-        super(locators);
+    /**
+     * Whether the tables are compiled on demand.
+     */
+    private final boolean lazy;
+
+    private DecisionTables(
+        final ContentsReader contents,
+        final Map<String, Locator> locators,
+        final Symbols symbols,
+        final boolean lazy
+    ) {
+        super(locators, symbols);
         this.contents = contents;
+        this.lazy = lazy;
     }
 
+    /**
+     * Loads the tables provided by the reader. Every table is read and then compiled by its own
+     * task in the {@link BlockingTasks} pool, and all the failures are collected. If there's more
+     * than one failure, they are reported together, ordered by the tables' names. The names of
+     * the {@link Locator}s the tables refer to get their IDs in the shared {@link Symbols} table
+     * while the tables are compiled.
+     *
+     * @param contents The reader providing the source data for the decision tables.
+     * @return The loaded tables.
+     * @throws DecitaException If any of the tables cannot be loaded.
+     */
     public static DecisionTables using(final ContentsReader contents) {
+        final Symbols symbols = new Symbols();
+        final List<Loaded> loaded = BlockingTasks.resultsOf(
+            contents.sources().entrySet().stream()
+                .<Supplier<Loaded>>map(
+                    source -> () -> Loaded.from(source.getKey(), source.getValue(), symbols)
+                )
+                .toList()
+        );
+        final List<Loaded> failed = loaded.stream()
+            .filter(Loaded::isFailed)
+            .sorted(Comparator.comparing(Loaded::name))
+            .toList();
+        if (failed.size() == 1) {
+            throw failed.get(0).failure();
+        }
+        if (!failed.isEmpty()) {
+            throw new DecitaException(
+                failed.stream()
+                    .map(table -> "%s: %s".formatted(table.name(), table.failure().getMessage()))
+                    .collect(Collectors.joining("\n", "Cannot load the tables:\n", ""))
+            );
+        }
         return new DecisionTables(
             contents,
-            contents.readAll().stream().map(SourceLines::asDecisionTable)
-                .collect(Collectors.toMap(Locator::locatorName, Function.identity()))
+            loaded.stream().map(Loaded::table)
+                .collect(
+                    Collectors.toUnmodifiableMap(Locator::locatorName, Function.identity())
+                ),
+            symbols,
+            false
         );
     }
 
+    /**
+     * Indexes the tables provided by the reader by their names only. Every table is read and
+     * compiled once, when it's requested for the first time, so the malformed tables fail only
+     * when they are used. The tables' names get their IDs right away, so the contexts link them
+     * at once, and the rest of the names get theirs when the tables are compiled.
+     *
+     * @param contents The reader providing the source data for the decision tables.
+     * @return The tables to be compiled on demand.
+     */
+    public static DecisionTables lazy(final ContentsReader contents) {
+        final Symbols symbols = new Symbols();
+        final Map<String, Supplier<SourceLines>> sources = contents.sources();
+        sources.keySet().stream().sorted().forEach(symbols::idOf);
+        return new DecisionTables(
+            contents, new LazyTables(sources, symbols), symbols, true
+        );
+    }
+
+    /**
+     * Finds the {@link Locator}s referenced by the tables directly, that are neither the tables
+     * nor the {@link Locator}s of the state. The lazy tables are not compiled for that, so they
+     * are checked only on their first use.
+     *
+     * @param state The {@link Locator}s of the state.
+     * @return The sorted names of the missing {@link Locator}s.
+     */
+    public List<String> missingLocators(final BaseLocators state) {
+        final List<String> result;
+        if (this.lazy) {
+            result = List.of();
+        } else {
+            result = this.decisionTables()
+                .flatMap(table -> table.referencedLocators().stream())
+                .filter(name -> !this.hasLocator(name) && !state.hasLocator(name))
+                .distinct()
+                .sorted()
+                .toList();
+        }
+        return result;
+    }
+
+    /**
+     * Creates a copy of these tables with some of them replaced or removed. The tables themselves
+     * are not recompiled, and these tables are not changed. The copy shares the {@link Symbols}
+     * table with these tables, so the IDs already known to the unchanged tables stay valid.
+     *
+     * @param changed The new versions of the changed tables.
+     * @param removed The names of the removed tables.
+     * @return The updated copy of these tables.
+     */
+    DecisionTables updated(final Collection<Locator> changed, final Collection<String> removed) {
+        final Map<String, Locator> result = new HashMap<>(this.locators());
+        result.keySet().removeAll(removed);
+        for (final Locator table : changed) {
+            result.put(table.locatorName(), table);
+        }
+        return new DecisionTables(this.contents, Map.copyOf(result), this.symbols(), false);
+    }
+
     public Map<String, List<String>> commandsData() {
         return this.decisionTables()
             .filter(DecisionTable::describesCommand)
@@ -66,11 +180,28 @@ public final class DecisionTables extends BaseLocators {
     }
 
     public List<String> tableNames() {
-        return this.decisionTables().map(Locator::locatorName).toList();
+        return List.copyOf(this.locators().keySet());
     }
 
     public DecisionTables reset() {
-        return DecisionTables.using(this.contents);
+        final DecisionTables result;
+        if (this.lazy) {
+            result = DecisionTables.lazy(this.contents);
+        } else {
+            result = DecisionTables.using(this.contents);
+        }
+        return result;
+    }
+
+    @Override
+    protected Locator linkOf(final int symbol, final String name) {
+        final Locator result;
+        if (this.lazy) {
+            result = new LinkedLater(this, symbol, name);
+        } else {
+            result = super.linkOf(symbol, name);
+        }
+        return result;
     }
 
     private Stream<DecisionTable> decisionTables() {
@@ -78,4 +209,97 @@ public final class DecisionTables extends BaseLocators {
             .filter(DecisionTable.class::isInstance)
             .map(DecisionTable.class::cast);
     }
+
+    /**
+     * I am the link to the lazy table, that compiles the table only on its first use.
+     *
+     * @since 0.10.0
+     */
+    private static final class LinkedLater implements Locator {
+        /**
+         * The tables to find the linked one in.
+         */
+        private final DecisionTables tables;
+
+        /**
+         * The ID of the table's name.
+         */
+        private final int symbol;
+
+        /**
+         * The table's name.
+         */
+        private final String name;
+
+        /**
+         * Ctor.
+         *
+         * @param tables The tables to find the linked one in.
+         * @param symbol The ID of the table's name.
+         * @param name The table's name.
+         */
+        LinkedLater(final DecisionTables tables, final int symbol, final String name) {
+            this.tables = tables;
+            this.symbol = symbol;
+            this.name = name;
+        }
+
+        @Override
+        public String fragmentBy(final String fragment, final ComputationContext context) {
+            return this.tables.locatorFor(this.symbol).fragmentBy(fragment, context);
+        }
+
+        @Override
+        public void setFragmentValue(final String fragment, final String value) {
+            this.tables.locatorFor(this.symbol).setFragmentValue(fragment, value);
+        }
+
+        @Override
+        public String locatorName() {
+            return this.name;
+        }
+    }
+
+    /**
+     * I am the result of loading a single table, i.e. either the table or the failure.
+     *
+     * @param name The name of the table.
+     * @param table The loaded table or {@code null}, if it failed.
+     * @param failure The failure or {@code null}, if the table is loaded.
+     * @since 0.10.0
+     */
+    private record Loaded(String name, ComputableLocator table, RuntimeException failure) {
+        /**
+         * Reads and loads the table, catching the failure.
+         *
+         * @param name The name of the table.
+         * @param source The table's source lines, read when they are requested.
+         * @param symbols The {@link Symbols} table of the tables being loaded.
+         * @return The result of loading.
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        static Loaded from(
+            final String name,
+            final Supplier<SourceLines> source,
+            final Symbols symbols
+        ) {
+            Loaded result;
+            try {
+                final SourceLines lines = source.get();
+                result = new Loaded(lines.fileName(), lines.asDecisionTable(symbols), null);
+            } catch (final RuntimeException exception) {
+                result = new Loaded(name, null, exception);
+            }
+            return result;
+        }
+
+        /**
+         * Checks if the table failed to load.
+         *
+         * @return True, if it did.
+         */
+        boolean isFailed() {
+            return this.failure != null;
+        }
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import ru.ewc.decisions.core.Coordinate;
+
+/**
+ * I am the storage for the values located during a single evaluation of a decision table. My main
+ * responsibility is to keep those values out of the shared {@link Coordinate}s, so that the
+ * compiled tables stay immutable and could be evaluated by many threads at once.
+ *
+ * @since 0.10.0
+ */
+public final class EvaluationFrame {
+    /**
+     * The located constant {@link Coordinate}s, keyed by the {@link Coordinate}s they were
+     * located for. The keys are compared by their descriptions, since every rule has its
+     * own copy of the same {@link Coordinate}, while all the copies point to the same value.
+     */
+    private final Map<Coordinate, Coordinate> located = new HashMap<>();
+
+    /**
+     * Returns the value located for the specified {@link Coordinate} during this evaluation. If
+     * there's no such value yet, computes and stores it.
+     *
+     * @param coordinate The {@link Coordinate} to get the located value for.
+     * @param computation The computation that locates the value.
+     * @return The located constant {@link Coordinate}.
+     */
+    public Coordinate located(
+        final Coordinate coordinate,
+        final Supplier<Coordinate> computation
+    ) {
+        Coordinate result = this.located.get(coordinate);
+        if (result == null) {
+            result = computation.get();
+            this.located.put(coordinate, result);
+        }
+        return result;
+    }
+
+    /**
+     * Forgets all the located values, i.e. when the underlying state has changed.
+     */
+    void clear() {
+        this.located.clear();
+    }
+}
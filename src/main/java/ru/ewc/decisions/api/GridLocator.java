@@ -0,0 +1,339 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * I am the in-memory storage for the board-like states, whose fragments are named after the
+ * board's cells, like {@code A1} or {@code H8}: the letter is the cell's column and the number is
+ * its row. My main responsibility is to keep the cells in a flat array, so that reading a cell,
+ * e.g. via the {@code cells::${request::move}} coordinate, takes no map lookup, and to read and
+ * write the whole board at once.
+ *
+ * <p>The fragments that are not cells of the board are kept just like the {@link InMemoryLocator}
+ * keeps them. I am not thread-safe.
+ *
+ * @since 0.10.0
+ */
+public final class GridLocator implements ResettableLocator {
+    /**
+     * The maximum number of the columns, named {@code A} to {@code Z}.
+     */
+    private static final int MAX_COLUMNS = 26;
+
+    /**
+     * The maximum number of the rows, named {@code 1} to {@code 99}.
+     */
+    private static final int MAX_ROWS = 99;
+
+    /**
+     * The column's index for every ASCII character, {@code -1} for non-letters.
+     */
+    private static final byte[] COLUMNS = GridLocator.table('A', 'Z');
+
+    /**
+     * The digit's value for every ASCII character, {@code -1} for non-digits.
+     */
+    private static final byte[] DIGITS = GridLocator.table('0', '9');
+
+    /**
+     * The name of the locator.
+     */
+    private final String name;
+
+    /**
+     * The number of the rows.
+     */
+    private final int rows;
+
+    /**
+     * The number of the columns.
+     */
+    private final int columns;
+
+    /**
+     * The names of the cells, row by row.
+     */
+    private final String[] names;
+
+    /**
+     * The values of the cells, row by row, {@code null} for the cells not set.
+     */
+    private final String[] cells;
+
+    /**
+     * The fragments that are not the board's cells.
+     */
+    private final Map<String, Object> others;
+
+    /**
+     * Ctor.
+     *
+     * @param name The name of the locator.
+     * @param rows The number of the board's rows, up to 99.
+     * @param columns The number of the board's columns, up to 26.
+     */
+    public GridLocator(final String name, final int rows, final int columns) {
+        this(name, rows, columns, Map.of());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param name The name of the locator.
+     * @param rows The number of the board's rows, up to 99.
+     * @param columns The number of the board's columns, up to 26.
+     * @param storage The pre-filled fragments to start with.
+     * @throws DecitaException If the board's size is not supported.
+     */
+    public GridLocator(
+        final String name,
+        final int rows,
+        final int columns,
+        final Map<String, ?> storage
+    ) {
+        if (rows < 1 || rows > GridLocator.MAX_ROWS
+            || columns < 1 || columns > GridLocator.MAX_COLUMNS) {
+            throw new DecitaException(
+                "The board of %s should have 1 to %d rows and 1 to %d columns, got %dx%d".formatted(
+                    name, GridLocator.MAX_ROWS, GridLocator.MAX_COLUMNS, rows, columns
+                )
+            );
+        }
+        this.name = name;
+        this.rows = rows;
+        this.columns = columns;
+        this.names = GridLocator.namesOf(rows, columns);
+        this.cells = new String[rows * columns];
+        this.others = new HashMap<>();
+        storage.forEach((fragment, value) -> this.setFragmentValue(fragment, value.toString()));
+    }
+
+    @Override
+    public String fragmentBy(final String fragment, final ComputationContext context) {
+        final int index = this.indexOf(fragment);
+        final String result;
+        if (index < 0) {
+            result = this.others.getOrDefault(fragment, "undefined").toString();
+        } else if (this.cells[index] == null) {
+            result = "undefined";
+        } else {
+            result = this.cells[index];
+        }
+        return result;
+    }
+
+    @Override
+    public void setFragmentValue(final String fragment, final String value) {
+        final int index = this.indexOf(fragment);
+        if (index < 0) {
+            this.others.put(fragment, value);
+        } else {
+            this.cells[index] = value;
+        }
+    }
+
+    /**
+     * Returns the value of the cell.
+     *
+     * @param row The cell's row, starting from 1.
+     * @param column The cell's column, starting from 1.
+     * @return The value of the cell or {@code undefined}, if it's not set.
+     */
+    public String cell(final int row, final int column) {
+        final String value = this.cells[this.indexOf(row, column)];
+        final String result;
+        if (value == null) {
+            result = "undefined";
+        } else {
+            result = value;
+        }
+        return result;
+    }
+
+    /**
+     * Sets the value of the cell.
+     *
+     * @param row The cell's row, starting from 1.
+     * @param column The cell's column, starting from 1.
+     * @param value The value to set.
+     */
+    public void cell(final int row, final int column, final String value) {
+        this.cells[this.indexOf(row, column)] = value;
+    }
+
+    /**
+     * Returns the values of all the cells, row by row, starting from {@code A1}, {@code B1} and so
+     * on. The cells that are not set are {@code null}.
+     *
+     * @return The copy of the board.
+     */
+    public String[] board() {
+        return this.cells.clone();
+    }
+
+    /**
+     * Sets the values of all the cells at once, row by row, starting from {@code A1}, {@code B1}
+     * and so on. The {@code null} values clear the cells.
+     *
+     * @param values The new values of the cells.
+     * @throws DecitaException If the number of the values doesn't match the board's size.
+     */
+    public void board(final String... values) {
+        if (values.length != this.cells.length) {
+            throw new DecitaException(
+                "The board of %s has %d cells, got %d values".formatted(
+                    this.name, this.cells.length, values.length
+                )
+            );
+        }
+        System.arraycopy(values, 0, this.cells, 0, values.length);
+    }
+
+    @Override
+    public Map<String, Object> state() {
+        final Map<String, Object> result = new LinkedHashMap<>(this.others);
+        for (int index = 0; index < this.cells.length; index += 1) {
+            if (this.cells[index] != null) {
+                result.put(this.names[index], this.cells[index]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String locatorName() {
+        return this.name;
+    }
+
+    /**
+     * Clears all the cells and removes the rest of the fragments.
+     */
+    @Override
+    public void reset() {
+        Arrays.fill(this.cells, null);
+        this.others.clear();
+    }
+
+    /**
+     * Finds the cell named by the fragment, like {@code C7}.
+     *
+     * @param fragment The fragment's name.
+     * @return The index of the cell or {@code -1}, if the fragment is not a cell of the board.
+     */
+    private int indexOf(final String fragment) {
+        final int length = fragment.length();
+        int result = -1;
+        if (length == 2 || length == 3) {
+            final int column = GridLocator.code(GridLocator.COLUMNS, fragment.charAt(0));
+            int row = GridLocator.code(GridLocator.DIGITS, fragment.charAt(1));
+            if (length == 3 && row >= 0) {
+                final int units = GridLocator.code(GridLocator.DIGITS, fragment.charAt(2));
+                if (units < 0) {
+                    row = -1;
+                } else {
+                    row = row * 10 + units;
+                }
+            }
+            if (column >= 0 && column < this.columns && row >= 1 && row <= this.rows
+                && fragment.equals(this.names[(row - 1) * this.columns + column])) {
+                result = (row - 1) * this.columns + column;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the cell by its row and column.
+     *
+     * @param row The cell's row, starting from 1.
+     * @param column The cell's column, starting from 1.
+     * @return The index of the cell.
+     * @throws DecitaException If there's no such cell on the board.
+     */
+    private int indexOf(final int row, final int column) {
+        if (row < 1 || row > this.rows || column < 1 || column > this.columns) {
+            throw new DecitaException(
+                "The board of %s has no cell at row %d, column %d".formatted(
+                    this.name, row, column
+                )
+            );
+        }
+        return (row - 1) * this.columns + column - 1;
+    }
+
+    /**
+     * Looks the character up in the table.
+     *
+     * @param table The table to use.
+     * @param symbol The character.
+     * @return The character's code or {@code -1}, if it has none.
+     */
+    private static int code(final byte[] table, final char symbol) {
+        int result = -1;
+        if (symbol < table.length) {
+            result = table[symbol];
+        }
+        return result;
+    }
+
+    /**
+     * Creates the lookup table for the ASCII characters, coding the characters in the range by
+     * their offsets from its start.
+     *
+     * @param first The first character of the range.
+     * @param last The last character of the range.
+     * @return The lookup table.
+     */
+    private static byte[] table(final char first, final char last) {
+        final byte[] result = new byte[128];
+        Arrays.fill(result, (byte) -1);
+        for (char symbol = first; symbol <= last; symbol += 1) {
+            result[symbol] = (byte) (symbol - first);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the names of all the board's cells, row by row.
+     *
+     * @param rows The number of the rows.
+     * @param columns The number of the columns.
+     * @return The names of the cells.
+     */
+    private static String[] namesOf(final int rows, final int columns) {
+        final String[] result = new String[rows * columns];
+        for (int row = 0; row < rows; row += 1) {
+            for (int column = 0; column < columns; column += 1) {
+                result[row * columns + column] = "%c%d".formatted('A' + column, row + 1);
+            }
+        }
+        return result;
+    }
+}
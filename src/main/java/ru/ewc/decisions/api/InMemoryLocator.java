@@ -34,7 +34,7 @@ import java.util.Map;
  * @since 0.2
  */
 @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
-public final class InMemoryLocator implements Locator {
+public final class InMemoryLocator implements ResettableLocator {
     /**
      * Simple key-value storage.
      */
@@ -86,6 +86,7 @@ public final class InMemoryLocator implements Locator {
         return this.name;
     }
 
+    @Override
     public void reset() {
         this.storage.clear();
     }
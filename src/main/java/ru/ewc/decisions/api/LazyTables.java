@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import ru.ewc.decisions.core.Symbols;
+import ru.ewc.decisions.input.SourceLines;
+
+/**
+ * I am the read-only map of the decision tables that are compiled on demand. I know only the
+ * tables' names from the start, and every table is read and compiled once, on the first request,
+ * even if it's requested by many threads at once.
+ *
+ * @since 0.10.0
+ */
+final class LazyTables extends AbstractMap<String, Locator> {
+    /**
+     * The pending tables, keyed by their names.
+     */
+    private final Map<String, Pending> tables;
+
+    /**
+     * Ctor.
+     *
+     * @param sources The sources of the tables, keyed by the tables' names.
+     * @param symbols The {@link Symbols} table to compile the tables with.
+     */
+    LazyTables(final Map<String, Supplier<SourceLines>> sources, final Symbols symbols) {
+        this.tables = sources.entrySet().stream().collect(
+            Collectors.toUnmodifiableMap(
+                Map.Entry::getKey, entry -> new Pending(entry.getValue(), symbols)
+            )
+        );
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.tables.containsKey(key);
+    }
+
+    @Override
+    public Locator get(final Object key) {
+        final Pending pending = this.tables.get(key);
+        final Locator result;
+        if (pending == null) {
+            result = null;
+        } else {
+            result = pending.table();
+        }
+        return result;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return this.tables.keySet();
+    }
+
+    @Override
+    public int size() {
+        return this.tables.size();
+    }
+
+    @Override
+    public Set<Entry<String, Locator>> entrySet() {
+        return this.tables.entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().table()))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * I am a single table that is compiled on the first request.
+     *
+     * @since 0.10.0
+     */
+    private static final class Pending {
+        /**
+         * The source of the table.
+         */
+        private final Supplier<SourceLines> source;
+
+        /**
+         * The {@link Symbols} table to compile the table with.
+         */
+        private final Symbols symbols;
+
+        /**
+         * The compiled table, {@code null} until it's requested.
+         */
+        private volatile Locator compiled;
+
+        /**
+         * Ctor.
+         *
+         * @param source The source of the table.
+         * @param symbols The {@link Symbols} table to compile the table with.
+         */
+        Pending(final Supplier<SourceLines> source, final Symbols symbols) {
+            this.source = source;
+            this.symbols = symbols;
+        }
+
+        /**
+         * Returns the compiled table, compiling it on the first call.
+         *
+         * @return The compiled table.
+         */
+        Locator table() {
+            Locator result = this.compiled;
+            if (result == null) {
+                synchronized (this) {
+                    result = this.compiled;
+                    if (result == null) {
+                        result = this.source.get().asDecisionTable(this.symbols);
+                        this.compiled = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -49,6 +49,15 @@ public final class OutputPublisher<T> {
         this.trackers.forEach(tracker -> tracker.add(data));
     }
 
+    /**
+     * Checks if anyone tracks the published data, so it's worth preparing.
+     *
+     * @return True, if there is at least one tracker.
+     */
+    public boolean isTracked() {
+        return !this.trackers.isEmpty();
+    }
+
     /**
      * Creates a new tracker and subscribes it to the publisher.
      *
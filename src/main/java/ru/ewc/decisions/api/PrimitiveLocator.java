@@ -0,0 +1,439 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * I am the in-memory key-value storage for the large states. My main responsibility is to keep
+ * the fragments in an open-addressing table with the primitive value slots, so that neither
+ * storing the numbers and flags nor reading any fragment allocates anything, once the fragment's
+ * text is formatted. The {@link #state()} is a read-only view of the storage rather than its copy.
+ *
+ * <p>The integral numbers are stored as {@code long}s, the {@code double}s and the
+ * {@code boolean}s are stored as they are, and the rest of the values are stored as references.
+ * I am not thread-safe, just like the {@link InMemoryLocator}.
+ *
+ * @since 0.10.0
+ */
+public final class PrimitiveLocator implements ResettableLocator {
+    /**
+     * The kind of the empty slot.
+     */
+    private static final byte EMPTY = 0;
+
+    /**
+     * The kind of the slot with a {@code long} value.
+     */
+    private static final byte LONG = 1;
+
+    /**
+     * The kind of the slot with a {@code double} value.
+     */
+    private static final byte DOUBLE = 2;
+
+    /**
+     * The kind of the slot with a {@code boolean} value.
+     */
+    private static final byte BOOLEAN = 3;
+
+    /**
+     * The kind of the slot with a reference value.
+     */
+    private static final byte REFERENCE = 4;
+
+    /**
+     * The initial number of the slots.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * The name of the locator.
+     */
+    private final String name;
+
+    /**
+     * The fragments' names.
+     */
+    private String[] keys;
+
+    /**
+     * The kinds of the slots.
+     */
+    private byte[] kinds;
+
+    /**
+     * The bits of the primitive values.
+     */
+    private long[] bits;
+
+    /**
+     * The reference values.
+     */
+    private Object[] references;
+
+    /**
+     * The formatted primitive values, {@code null} if not formatted yet.
+     */
+    private String[] texts;
+
+    /**
+     * The number of the stored fragments.
+     */
+    private int size;
+
+    /**
+     * Ctor.
+     *
+     * @param name The name of the locator.
+     */
+    public PrimitiveLocator(final String name) {
+        this(name, Map.of());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param name The name of the locator.
+     * @param storage The pre-filled key-value storage to start with.
+     */
+    public PrimitiveLocator(final String name, final Map<String, ?> storage) {
+        this.name = name;
+        this.allocate(PrimitiveLocator.capacityFor(storage.size()));
+        storage.forEach(this::put);
+    }
+
+    @Override
+    public String fragmentBy(final String fragment, final ComputationContext context) {
+        final int slot = this.slotOf(fragment);
+        final String result;
+        if (this.kinds[slot] == PrimitiveLocator.EMPTY) {
+            result = "undefined";
+        } else if (this.kinds[slot] == PrimitiveLocator.REFERENCE) {
+            result = this.references[slot].toString();
+        } else {
+            if (this.texts[slot] == null) {
+                this.texts[slot] = String.valueOf(this.valueAt(slot));
+            }
+            result = this.texts[slot];
+        }
+        return result;
+    }
+
+    @Override
+    public void setFragmentValue(final String fragment, final String value) {
+        this.put(fragment, value);
+    }
+
+    /**
+     * Stores the {@code long} value of the fragment.
+     *
+     * @param fragment The fragment's name.
+     * @param value The value.
+     */
+    public void put(final String fragment, final long value) {
+        this.store(fragment, PrimitiveLocator.LONG, value, null);
+    }
+
+    /**
+     * Stores the {@code double} value of the fragment.
+     *
+     * @param fragment The fragment's name.
+     * @param value The value.
+     */
+    public void put(final String fragment, final double value) {
+        this.store(fragment, PrimitiveLocator.DOUBLE, Double.doubleToRawLongBits(value), null);
+    }
+
+    /**
+     * Stores the {@code boolean} value of the fragment.
+     *
+     * @param fragment The fragment's name.
+     * @param value The value.
+     */
+    public void put(final String fragment, final boolean value) {
+        final long flag;
+        if (value) {
+            flag = 1L;
+        } else {
+            flag = 0L;
+        }
+        this.store(fragment, PrimitiveLocator.BOOLEAN, flag, null);
+    }
+
+    /**
+     * Stores the value of the fragment, in the primitive slot, if it's a boxed integral number,
+     * {@code double} or {@code boolean}.
+     *
+     * @param fragment The fragment's name.
+     * @param value The value.
+     */
+    public void put(final String fragment, final Object value) {
+        if (value instanceof Long || value instanceof Integer
+            || value instanceof Short || value instanceof Byte) {
+            this.put(fragment, ((Number) value).longValue());
+        } else if (value instanceof Double) {
+            this.put(fragment, ((Double) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            this.put(fragment, ((Boolean) value).booleanValue());
+        } else {
+            this.store(fragment, PrimitiveLocator.REFERENCE, 0L, value);
+        }
+    }
+
+    /**
+     * Returns the read-only view of the stored fragments. The view reflects the later changes and
+     * boxes the primitive values only when they are read.
+     *
+     * @return The view of the fragments.
+     */
+    @Override
+    public Map<String, Object> state() {
+        return new View();
+    }
+
+    @Override
+    public String locatorName() {
+        return this.name;
+    }
+
+    /**
+     * Removes all the stored fragments.
+     */
+    @Override
+    public void reset() {
+        this.allocate(PrimitiveLocator.CAPACITY);
+    }
+
+    /**
+     * Stores the value in the fragment's slot, growing the table, if needed.
+     *
+     * @param fragment The fragment's name.
+     * @param kind The kind of the value.
+     * @param value The bits of the primitive value.
+     * @param reference The reference value.
+     */
+    private void store(
+        final String fragment,
+        final byte kind,
+        final long value,
+        final Object reference
+    ) {
+        int slot = this.slotOf(fragment);
+        if (this.kinds[slot] == PrimitiveLocator.EMPTY) {
+            if ((this.size + 1) * 2 > this.keys.length) {
+                this.grow();
+                slot = this.slotOf(fragment);
+            }
+            this.keys[slot] = fragment;
+            this.size += 1;
+        }
+        this.kinds[slot] = kind;
+        this.bits[slot] = value;
+        this.references[slot] = reference;
+        this.texts[slot] = null;
+    }
+
+    /**
+     * Finds the slot of the fragment, i.e. either the slot it's stored in, or the empty slot it
+     * should be stored in.
+     *
+     * @param fragment The fragment's name.
+     * @return The slot's position.
+     */
+    private int slotOf(final String fragment) {
+        final int mask = this.keys.length - 1;
+        int slot = PrimitiveLocator.spread(fragment.hashCode()) & mask;
+        while (this.kinds[slot] != PrimitiveLocator.EMPTY && !fragment.equals(this.keys[slot])) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Boxes the value in the slot.
+     *
+     * @param slot The slot's position.
+     * @return The value or {@code null}, if the slot is empty.
+     */
+    private Object valueAt(final int slot) {
+        final Object result;
+        if (this.kinds[slot] == PrimitiveLocator.LONG) {
+            result = this.bits[slot];
+        } else if (this.kinds[slot] == PrimitiveLocator.DOUBLE) {
+            result = Double.longBitsToDouble(this.bits[slot]);
+        } else if (this.kinds[slot] == PrimitiveLocator.BOOLEAN) {
+            result = this.bits[slot] != 0L;
+        } else {
+            result = this.references[slot];
+        }
+        return result;
+    }
+
+    /**
+     * Doubles the number of the slots, moving all the stored fragments.
+     */
+    private void grow() {
+        final String[] names = this.keys;
+        final byte[] types = this.kinds;
+        final long[] values = this.bits;
+        final Object[] objects = this.references;
+        final String[] formatted = this.texts;
+        this.allocate(names.length * 2);
+        for (int old = 0; old < names.length; old += 1) {
+            if (types[old] != PrimitiveLocator.EMPTY) {
+                final int slot = this.slotOf(names[old]);
+                this.keys[slot] = names[old];
+                this.kinds[slot] = types[old];
+                this.bits[slot] = values[old];
+                this.references[slot] = objects[old];
+                this.texts[slot] = formatted[old];
+                this.size += 1;
+            }
+        }
+    }
+
+    /**
+     * Creates the empty slots.
+     *
+     * @param capacity The number of the slots, a power of two.
+     */
+    private void allocate(final int capacity) {
+        this.keys = new String[capacity];
+        this.kinds = new byte[capacity];
+        this.bits = new long[capacity];
+        this.references = new Object[capacity];
+        this.texts = new String[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Computes the number of the slots enough for the specified number of fragments.
+     *
+     * @param size The number of the fragments.
+     * @return The number of the slots, a power of two.
+     */
+    private static int capacityFor(final int size) {
+        int result = PrimitiveLocator.CAPACITY;
+        while (result < size * 2) {
+            result *= 2;
+        }
+        return result;
+    }
+
+    /**
+     * Spreads the higher bits of the hash to the lower ones, since the table is indexed by them.
+     *
+     * @param hash The hash of the fragment's name.
+     * @return The spread hash.
+     */
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * I am the read-only view of the stored fragments.
+     *
+     * @since 0.10.0
+     */
+    private final class View extends AbstractMap<String, Object> {
+        @Override
+        public Object get(final Object key) {
+            Object result = null;
+            if (key instanceof String) {
+                result = PrimitiveLocator.this.valueAt(
+                    PrimitiveLocator.this.slotOf((String) key)
+                );
+            }
+            return result;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key instanceof String
+                && PrimitiveLocator.this.kinds[PrimitiveLocator.this.slotOf((String) key)]
+                != PrimitiveLocator.EMPTY;
+        }
+
+        @Override
+        public int size() {
+            return PrimitiveLocator.this.size;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Slots();
+                }
+
+                @Override
+                public int size() {
+                    return PrimitiveLocator.this.size;
+                }
+            };
+        }
+    }
+
+    /**
+     * I am the iterator over the occupied slots.
+     *
+     * @since 0.10.0
+     */
+    private final class Slots implements Iterator<Map.Entry<String, Object>> {
+        /**
+         * The position of the next slot to check.
+         */
+        private int next;
+
+        @Override
+        public boolean hasNext() {
+            while (this.next < PrimitiveLocator.this.kinds.length
+                && PrimitiveLocator.this.kinds[this.next] == PrimitiveLocator.EMPTY) {
+                this.next += 1;
+            }
+            return this.next < PrimitiveLocator.this.kinds.length;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final int slot = this.next;
+            this.next += 1;
+            return new AbstractMap.SimpleImmutableEntry<>(
+                PrimitiveLocator.this.keys[slot],
+                PrimitiveLocator.this.valueAt(slot)
+            );
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * I am the snapshot of the fragments read during a single top-level evaluation, i.e. a single
+ * {@link ComputationContext#decisionFor(String)} or {@link ComputationContext#perform(String)}
+ * call. My main responsibility is to fetch every {@code locator::fragment} at most once per
+ * evaluation, no matter how many rules, tables or placeholders read it, so that all of them see
+ * the same value. I am keyed by the {@link Locator} instances, so the same {@link Locator} found
+ * by its name or by its ID shares the same values.
+ *
+ * @since 0.10.0
+ */
+final class ReadSnapshot {
+    /**
+     * The fragments' values read so far, by their {@link Locator}s.
+     */
+    private final Map<Locator, Map<String, String>> values = new IdentityHashMap<>();
+
+    /**
+     * Whether some top-level evaluation is in progress.
+     */
+    private boolean active;
+
+    /**
+     * Returns the value of the fragment, reading it from the {@link Locator} only the first time
+     * during the evaluation. Outside of any evaluation the value is read every time.
+     *
+     * @param locator The {@link Locator} to read the fragment from.
+     * @param fragment The name of the fragment.
+     * @param context The {@link ComputationContext} to read the fragment in.
+     * @return The value of the fragment.
+     * @throws DecitaException If the fragment cannot be read.
+     */
+    String valueOf(final Locator locator, final String fragment, final ComputationContext context)
+        throws DecitaException {
+        final String result;
+        if (this.active) {
+            final Map<String, String> read = this.values.computeIfAbsent(
+                locator, key -> new HashMap<>()
+            );
+            final String known = read.get(fragment);
+            if (known == null) {
+                result = locator.fragmentBy(fragment, context);
+                read.put(fragment, result);
+            } else {
+                result = known;
+            }
+        } else {
+            result = locator.fragmentBy(fragment, context);
+        }
+        return result;
+    }
+
+    /**
+     * Starts the evaluation, unless some evaluation is already in progress.
+     *
+     * @return True, if the evaluation was started, i.e. the caller should finish it.
+     */
+    boolean start() {
+        final boolean result = !this.active;
+        this.active = true;
+        return result;
+    }
+
+    /**
+     * Finishes the evaluation, forgetting all the read values.
+     */
+    void finish() {
+        this.active = false;
+        this.values.clear();
+    }
+
+    /**
+     * Forgets all the read values, i.e. when the state has changed.
+     */
+    void clear() {
+        this.values.clear();
+    }
+}
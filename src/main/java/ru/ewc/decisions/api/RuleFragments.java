@@ -25,8 +25,6 @@
 package ru.ewc.decisions.api;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import ru.ewc.decisions.input.SourceLines;
 
 /**
@@ -47,16 +45,7 @@ public final class RuleFragments {
     }
 
     public static RuleFragments listFrom(final SourceLines lines, final int column) {
-        final List<RuleFragment> list =
-            StreamSupport
-                .stream(lines.spliterator(), false)
-                .filter(line -> line.length > column && !line[column].trim().isEmpty())
-                .map(line -> new RuleFragment(line[0].trim(), line[1].trim(), line[column].trim()))
-                .collect(Collectors.toList());
-        if (list.stream().noneMatch(rf -> rf.nonEmptyOfType("HDR"))) {
-            list.add(new RuleFragment("HDR", lines.fileName(), "rule_%02d".formatted(column - 1)));
-        }
-        return new RuleFragments(list);
+        return lines.ruleFragments(column);
     }
 
     public String header() {
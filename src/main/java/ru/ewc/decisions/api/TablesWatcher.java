@@ -0,0 +1,436 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import ru.ewc.decisions.input.CombinedCsvFileReader;
+import ru.ewc.decisions.input.FileContents;
+import ru.ewc.decisions.input.SourceLines;
+
+/**
+ * I am the {@link DecisionTables} that follow the changes of their source folder. My main
+ * responsibility is to watch the folder and to recompile only the added and changed files, as well
+ * as to drop the removed ones. Every change is published as a new immutable set of tables, so the
+ * evaluations that have already started finish with the old tables, while the new ones get the
+ * updated tables. The {@link ComputationContext} pins the tables for every top-level evaluation.
+ *
+ * <p>The changes are collected until the folder stays quiet for a while, and every changed file is
+ * compiled only after its size and modification time stop changing, so the files being written
+ * are not compiled half-done. A file that fails to compile keeps its previous version, and the
+ * failure is available via {@link #failures()} until the file is fixed or removed.
+ *
+ * @since 0.10.0
+ */
+public final class TablesWatcher implements Supplier<DecisionTables>, AutoCloseable {
+    /**
+     * The time the folder and the changed files should stay unchanged, in milliseconds.
+     */
+    private static final long SETTLE = 100L;
+
+    /**
+     * The largest number of the checks whether the changed file is written completely.
+     */
+    private static final int MAX_CHECKS = 50;
+
+    /**
+     * The root of the watched folder.
+     */
+    private final Path root;
+
+    /**
+     * The extension of the source files.
+     */
+    private final String extension;
+
+    /**
+     * The symbol that separates CSV-record fields.
+     */
+    private final String delimiter;
+
+    /**
+     * The current version of the tables.
+     */
+    private final AtomicReference<DecisionTables> current;
+
+    /**
+     * The names of the tables, keyed by the paths of their source files. Used only by the watching
+     * thread, once it is started.
+     */
+    private final Map<Path, String> sources;
+
+    /**
+     * The failures to compile the files or to watch the folders, keyed by their paths, the latest
+     * one last.
+     */
+    private final Map<Path, RuntimeException> failed;
+
+    /**
+     * The service notifying about the changes in the folder.
+     */
+    private final WatchService service;
+
+    /**
+     * Ctor. Loads all the tables and starts watching the folder in a daemon thread.
+     *
+     * @param folder The path to the source files.
+     * @param extension The extension of the source files.
+     * @param delimiter The symbol that separates CSV-record fields.
+     * @throws IOException If the folder cannot be watched.
+     */
+    public TablesWatcher(final URI folder, final String extension, final String delimiter)
+        throws IOException {
+        this.root = Paths.get(folder);
+        this.extension = extension;
+        this.delimiter = delimiter;
+        this.current = new AtomicReference<>(
+            DecisionTables.using(new CombinedCsvFileReader(folder, extension, delimiter))
+        );
+        this.sources = new HashMap<>();
+        for (final Path path : TablesWatcher.filesIn(this.root)) {
+            final FileContents file = new FileContents(path, extension);
+            if (file.hasRightExtension()) {
+                this.sources.put(path, file.nameWithoutExtension());
+            }
+        }
+        this.failed = Collections.synchronizedMap(new LinkedHashMap<>());
+        this.service = FileSystems.getDefault().newWatchService();
+        this.register(this.root);
+        final Thread thread = new Thread(this::watch, "decita-tables-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public DecisionTables get() {
+        return this.current.get();
+    }
+
+    /**
+     * Returns the latest failure to compile a changed file, that is not fixed yet.
+     *
+     * @return The failure or nothing, if all the changes were compiled.
+     */
+    public Optional<RuntimeException> lastFailure() {
+        synchronized (this.failed) {
+            RuntimeException result = null;
+            for (final RuntimeException exception : this.failed.values()) {
+                result = exception;
+            }
+            return Optional.ofNullable(result);
+        }
+    }
+
+    /**
+     * Returns the failures to compile the changed files, that are not fixed yet, as well as the
+     * failures to watch the folders.
+     *
+     * @return The failures keyed by the paths of the files and folders, the latest one last.
+     */
+    public Map<Path, RuntimeException> failures() {
+        synchronized (this.failed) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(this.failed));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.service.close();
+    }
+
+    /**
+     * Waits for the changes and applies them, until the watcher is closed. A failure to apply the
+     * changes is recorded under the watched folder, so that the folder is watched further, and is
+     * forgotten once the next batch of changes is applied.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void watch() {
+        Optional<WatchKey> key = this.next();
+        while (key.isPresent()) {
+            final Set<Path> changed = new LinkedHashSet<>();
+            boolean overflow = false;
+            while (key.isPresent()) {
+                overflow |= TablesWatcher.collect(key.get(), changed);
+                key = this.quiet();
+            }
+            try {
+                if (overflow) {
+                    changed.addAll(this.sources.keySet());
+                    changed.addAll(TablesWatcher.filesIn(this.root));
+                }
+                this.settle(changed);
+                this.apply(changed);
+                this.failed.remove(this.root);
+            } catch (final RuntimeException exception) {
+                this.fail(this.root, exception);
+            }
+            key = this.next();
+        }
+    }
+
+    /**
+     * Collects the paths changed according to the key's events.
+     *
+     * @param key The key of the changed folder.
+     * @param changed The paths of the changed files to add to.
+     * @return True, if some events were lost, so the whole folder has to be rescanned.
+     */
+    private static boolean collect(final WatchKey key, final Set<Path> changed) {
+        boolean overflow = false;
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflow = true;
+            } else {
+                changed.add(((Path) key.watchable()).resolve((Path) event.context()));
+            }
+        }
+        key.reset();
+        return overflow;
+    }
+
+    /**
+     * Waits for the next batch of changes.
+     *
+     * @return The key of the changed folder or nothing, if the watcher is closed.
+     */
+    private Optional<WatchKey> next() {
+        Optional<WatchKey> result;
+        try {
+            result = Optional.of(this.service.take());
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            result = Optional.empty();
+        } catch (final ClosedWatchServiceException exception) {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * Waits a while for more changes of the current batch.
+     *
+     * @return The key of the changed folder or nothing, if the folder stayed quiet.
+     */
+    private Optional<WatchKey> quiet() {
+        Optional<WatchKey> result;
+        try {
+            result = Optional.ofNullable(
+                this.service.poll(TablesWatcher.SETTLE, TimeUnit.MILLISECONDS)
+            );
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            result = Optional.empty();
+        } catch (final ClosedWatchServiceException exception) {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * Waits until the changed files are written completely, i.e. until their sizes and
+     * modification times stop changing.
+     *
+     * @param paths The paths of the changed files.
+     */
+    private void settle(final Set<Path> paths) {
+        final Map<Path, List<Object>> written = new HashMap<>();
+        for (final Path path : paths) {
+            TablesWatcher.stamp(path).ifPresent(stamp -> written.put(path, stamp));
+        }
+        Map<Path, List<Object>> pending = written;
+        for (int check = 0; !pending.isEmpty() && check < TablesWatcher.MAX_CHECKS; check += 1) {
+            final Map<Path, List<Object>> changing = new HashMap<>();
+            try {
+                Thread.sleep(TablesWatcher.SETTLE);
+                pending.forEach(
+                    (path, before) -> TablesWatcher.stamp(path)
+                        .filter(after -> !after.equals(before))
+                        .ifPresent(after -> changing.put(path, after))
+                );
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            pending = changing;
+        }
+    }
+
+    /**
+     * Recompiles the changed files and publishes the updated tables. The tables coming from the
+     * removed files and folders are dropped.
+     *
+     * @param paths The paths of the added, changed and removed files and folders.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void apply(final Set<Path> paths) {
+        final List<Locator> changed = new ArrayList<>(paths.size());
+        final List<Path> compiled = new ArrayList<>(paths.size());
+        final List<String> removed = new ArrayList<>(0);
+        for (final Path path : paths) {
+            final FileContents file = new FileContents(path, this.extension);
+            if (Files.isDirectory(path)) {
+                this.register(path);
+                this.apply(TablesWatcher.filesIn(path));
+            } else if (file.hasRightExtension() && Files.isRegularFile(path)) {
+                try {
+                    changed.add(
+                        new SourceLines(
+                            file.nameWithoutExtension(),
+                            file.asRows(this.delimiter),
+                            this.delimiter
+                        ).asDecisionTable(this.current.get().symbols())
+                    );
+                    this.sources.put(path, file.nameWithoutExtension());
+                    compiled.add(path);
+                } catch (final RuntimeException exception) {
+                    this.fail(path, exception);
+                }
+            } else if (Files.notExists(path)) {
+                removed.addAll(this.removedUnder(path));
+            }
+        }
+        if (!changed.isEmpty() || !removed.isEmpty()) {
+            this.current.set(this.current.get().updated(changed, removed));
+        }
+        compiled.forEach(this.failed::remove);
+    }
+
+    /**
+     * Forgets the source files under the removed path, as well as their failures.
+     *
+     * @param path The removed file or folder.
+     * @return The names of the tables coming from the removed files.
+     */
+    private List<String> removedUnder(final Path path) {
+        final List<String> result = new ArrayList<>(1);
+        final Iterator<Map.Entry<Path, String>> entries = this.sources.entrySet().iterator();
+        while (entries.hasNext()) {
+            final Map.Entry<Path, String> entry = entries.next();
+            if (entry.getKey().startsWith(path)) {
+                result.add(entry.getValue());
+                entries.remove();
+            }
+        }
+        synchronized (this.failed) {
+            this.failed.keySet().removeIf(failure -> failure.startsWith(path));
+        }
+        return result;
+    }
+
+    /**
+     * Records the failure, as the latest one.
+     *
+     * @param path The path of the failed file or folder.
+     * @param exception The failure.
+     */
+    private void fail(final Path path, final RuntimeException exception) {
+        synchronized (this.failed) {
+            this.failed.remove(path);
+            this.failed.put(path, exception);
+        }
+    }
+
+    /**
+     * Starts watching the folder and all its subfolders.
+     *
+     * @param folder The folder to watch.
+     */
+    private void register(final Path folder) {
+        try (Stream<Path> folders = Files.walk(folder)) {
+            for (final Path path : folders.filter(Files::isDirectory).toList()) {
+                path.register(
+                    this.service,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE
+                );
+            }
+            this.failed.remove(folder);
+        } catch (final IOException exception) {
+            this.fail(folder, new DecitaException(exception.getMessage()));
+        }
+    }
+
+    /**
+     * Reads the size and the modification time of the file.
+     *
+     * @param path The path of the file.
+     * @return The size and the modification time or nothing, if it's not a regular file.
+     */
+    private static Optional<List<Object>> stamp(final Path path) {
+        Optional<List<Object>> result;
+        try {
+            final BasicFileAttributes attributes =
+                Files.readAttributes(path, BasicFileAttributes.class);
+            if (attributes.isRegularFile()) {
+                result = Optional.of(List.of(attributes.size(), attributes.lastModifiedTime()));
+            } else {
+                result = Optional.empty();
+            }
+        } catch (final IOException exception) {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * Lists the files in the folder.
+     *
+     * @param folder The folder.
+     * @return The files in the folder and its subfolders.
+     */
+    private static Set<Path> filesIn(final Path folder) {
+        Set<Path> result;
+        try (Stream<Path> files = Files.walk(folder)) {
+            result = new LinkedHashSet<>(files.filter(Files::isRegularFile).toList());
+        } catch (final IOException exception) {
+            result = Set.of();
+        }
+        return result;
+    }
+}
@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.List;
 import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.core.Coordinate;
+import ru.ewc.decisions.core.Symbols;
 
 /**
  * I represent an assignment of the specific value to a target {@link Coordinate}. Both my parts are
@@ -61,6 +62,17 @@ public final class Assignment {
         this(Coordinate.from(target), Coordinate.from(value));
     }
 
+    /**
+     * Ctor for the assignments of the tables being loaded.
+     *
+     * @param target The description of the target {@link Coordinate}.
+     * @param value The description of the {@link Coordinate} that provides the value.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     */
+    public Assignment(final String target, final String value, final Symbols symbols) {
+        this(Coordinate.from(target, symbols), Coordinate.from(value, symbols));
+    }
+
     /**
      * The method that performs the assignment of the value to the target {@link Coordinate}.
      *
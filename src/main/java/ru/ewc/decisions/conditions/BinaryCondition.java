@@ -74,16 +74,22 @@ public abstract class BinaryCondition implements Condition {
 
     @Override
     public final boolean evaluate(final ComputationContext context) throws DecitaException {
-        this.right.locateIn(context);
-        this.left.locateIn(context);
-        final boolean satisfied = this.isSatisfied();
+        final Coordinate rvalue = this.right.locateIn(context);
+        final Coordinate lvalue = this.left.locateIn(context);
+        final boolean satisfied = this.comparisonFor(rvalue).matches(lvalue);
         context.logComputation(
             OutputTracker.EventType.CN,
-            "%s => %s".formatted(this.asString(), satisfied)
+            () -> "%s => %s".formatted(this.asString(), satisfied)
         );
         return satisfied;
     }
 
+    @Override
+    public final boolean isSatisfiedBy(final Coordinate base, final ComputationContext context)
+        throws DecitaException {
+        return this.comparisonFor(this.right.locateIn(context)).matches(base);
+    }
+
     @Override
     public final boolean isEvaluated() {
         return this.right.isComputed() && this.left.isComputed();
@@ -91,7 +97,7 @@ public abstract class BinaryCondition implements Condition {
 
     @Override
     public final boolean isSatisfied() {
-        return this.isEvaluated() && this.comparisonFor().matches(this.left);
+        return this.isEvaluated() && this.comparisonFor(this.right).matches(this.left);
     }
 
     @Override
@@ -115,18 +121,10 @@ public abstract class BinaryCondition implements Condition {
     /**
      * Creates a {@link Matcher} that corresponds to the given operation and {@link Coordinate}.
      *
+     * @param value The computed right part of this {@link Condition}.
      * @return The {@link Matcher} to use in this {@link Condition}.
      */
-    protected abstract Matcher<Coordinate> comparisonFor();
-
-    /**
-     * Returns the right part of this {@link Condition}.
-     *
-     * @return The {@link Coordinate} that is its right part.
-     */
-    protected final Coordinate rightPart() {
-        return this.right;
-    }
+    protected abstract Matcher<Coordinate> comparisonFor(Coordinate value);
 
     /**
      * Returns the String representation of this {@link Condition}.
@@ -28,6 +28,7 @@ import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.api.DecitaException;
 import ru.ewc.decisions.api.RuleFragment;
 import ru.ewc.decisions.core.Coordinate;
+import ru.ewc.decisions.core.Symbols;
 
 /**
  * I am an assertion made for two {@link Coordinate}s. My main responsibility is to compute
@@ -38,37 +39,68 @@ import ru.ewc.decisions.core.Coordinate;
 @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
 public interface Condition {
     /**
-     * Creates a {@link Condition} based on a string representation.
+     * Creates a {@link Condition} based on a string representation, with the names outside of any
+     * {@link Symbols} table.
      *
      * @param base The base {@link Coordinate} for the condition.
      * @param argument String representation of a condition.
      * @return A concrete {@link Condition} based on given string representation.
      */
     static Condition from(final Coordinate base, final String argument) {
+        return Condition.from(base, argument, new Symbols());
+    }
+
+    /**
+     * Creates a {@link Condition} based on a string representation.
+     *
+     * @param base The base {@link Coordinate} for the condition.
+     * @param argument String representation of a condition.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     * @return A concrete {@link Condition} based on given string representation.
+     */
+    static Condition from(final Coordinate base, final String argument, final Symbols symbols) {
         final Condition result;
         final char operation = argument.charAt(0);
         if (operation == '~') {
             result = new EqualsCondition(base, base);
         } else if (operation == '!') {
-            result = new NotCondition(Condition.from(base, argument.substring(1)));
+            result = new NotCondition(Condition.from(base, argument.substring(1), symbols));
         } else if (operation == '>') {
-            result = new GreaterThanCondition(base, Coordinate.from(argument.substring(1)));
+            result = new GreaterThanCondition(
+                base, Coordinate.from(argument.substring(1), symbols)
+            );
         } else if (operation == '<') {
-            result = new LessThanCondition(base, Coordinate.from(argument.substring(1)));
+            result = new LessThanCondition(
+                base, Coordinate.from(argument.substring(1), symbols)
+            );
         } else {
-            result = new EqualsCondition(base, Coordinate.from(argument));
+            result = new EqualsCondition(base, Coordinate.from(argument, symbols));
         }
         return result;
     }
 
     /**
-     * Creates a {@link Condition} based on a {@link RuleFragment}.
+     * Creates a {@link Condition} based on a {@link RuleFragment}, with the names outside of any
+     * {@link Symbols} table.
      *
      * @param fragment A {@link RuleFragment} to create a Condition from.
      * @return A concrete {@link Condition} based on the given {@link RuleFragment}.
      */
     static Condition from(final RuleFragment fragment) {
-        return Condition.from(Coordinate.from(fragment.left()), fragment.right());
+        return Condition.from(fragment, new Symbols());
+    }
+
+    /**
+     * Creates a {@link Condition} based on a {@link RuleFragment}.
+     *
+     * @param fragment A {@link RuleFragment} to create a Condition from.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     * @return A concrete {@link Condition} based on the given {@link RuleFragment}.
+     */
+    static Condition from(final RuleFragment fragment, final Symbols symbols) {
+        return Condition.from(
+            Coordinate.from(fragment.left(), symbols), fragment.right(), symbols
+        );
     }
 
     /**
@@ -80,6 +112,18 @@ public interface Condition {
      */
     boolean evaluate(ComputationContext context) throws DecitaException;
 
+    /**
+     * Checks if this {@link Condition} is satisfied by the already located value of its base
+     * (left-side) part. It allows to locate the base value only once and then to test it against
+     * many {@link Condition}s with the same base.
+     *
+     * @param base The located value of this {@link Condition}'s base part.
+     * @param context The {@link ComputationContext} to locate the rest of the {@link Condition} in.
+     * @return Whether the {@link Condition} stands true for the specified base value.
+     * @throws DecitaException If the evaluation cannot be performed.
+     */
+    boolean isSatisfiedBy(Coordinate base, ComputationContext context) throws DecitaException;
+
     /**
      * Checks if all the parts of the Condition are resolved and point to the constant values.
      *
@@ -49,7 +49,7 @@ public class EqualsCondition extends BinaryCondition {
     }
 
     @Override
-    protected final Matcher<Coordinate> comparisonFor() {
-        return Matchers.equalTo(this.rightPart());
+    protected final Matcher<Coordinate> comparisonFor(final Coordinate value) {
+        return Matchers.equalTo(value);
     }
 }
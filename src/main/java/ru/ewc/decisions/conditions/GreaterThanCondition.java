@@ -50,7 +50,7 @@ public class GreaterThanCondition extends BinaryCondition {
     }
 
     @Override
-    protected final Matcher<Coordinate> comparisonFor() {
-        return Matchers.greaterThan(this.rightPart());
+    protected final Matcher<Coordinate> comparisonFor(final Coordinate value) {
+        return Matchers.greaterThan(value);
     }
 }
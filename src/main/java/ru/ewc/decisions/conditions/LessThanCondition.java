@@ -50,7 +50,7 @@ public class LessThanCondition extends BinaryCondition {
     }
 
     @Override
-    protected final Matcher<Coordinate> comparisonFor() {
-        return Matchers.lessThan(this.rightPart());
+    protected final Matcher<Coordinate> comparisonFor(final Coordinate value) {
+        return Matchers.lessThan(value);
     }
 }
@@ -27,6 +27,7 @@ package ru.ewc.decisions.conditions;
 import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.api.DecitaException;
 import ru.ewc.decisions.api.OutputTracker;
+import ru.ewc.decisions.core.Coordinate;
 
 /**
  * I represent a negation, i.e. a {@link Condition} that is satisfied when its base
@@ -46,17 +47,25 @@ public final class NotCondition extends UnaryCondition {
 
     @Override
     public boolean evaluate(final ComputationContext context) throws DecitaException {
-        if (!this.baseCondition().isEvaluated()) {
-            this.baseCondition().evaluate(context);
+        final boolean satisfied;
+        if (this.baseCondition().isEvaluated()) {
+            satisfied = this.isSatisfied();
+        } else {
+            satisfied = !this.baseCondition().evaluate(context);
         }
-        final boolean satisfied = this.isSatisfied();
         context.logComputation(
             OutputTracker.EventType.CN,
-            "%s => %s".formatted(this.asString(), satisfied)
+            () -> "%s => %s".formatted(this.asString(), satisfied)
         );
         return satisfied;
     }
 
+    @Override
+    public boolean isSatisfiedBy(final Coordinate base, final ComputationContext context)
+        throws DecitaException {
+        return !this.baseCondition().isSatisfiedBy(base, context);
+    }
+
     @Override
     public boolean isEvaluated() {
         return this.baseCondition().isEvaluated();
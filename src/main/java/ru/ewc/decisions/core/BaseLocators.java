@@ -24,6 +24,8 @@
 
 package ru.ewc.decisions.core;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import ru.ewc.decisions.api.ComputationContext;
@@ -33,23 +35,53 @@ import ru.ewc.decisions.api.Locator;
 /**
  * I am the collection of {@link Locator}s used to populate the {@link ComputationContext}s. My main
  * responsibility is to keep track of the {@link Locator}s, merge them together and provide the
- * merged result.
+ * merged result. The {@link Locator}s are also linked to the IDs of their names in my own
+ * {@link Symbols} table, once they are first requested, so the evaluations find them in an array.
  *
  * @since 0.3.1
  */
 public class BaseLocators {
+    /**
+     * The mark of the {@link Locator}s missing in the collection.
+     */
+    private static final Locator ABSENT = new ConstantLocator();
+
     /**
      * The {@link Locator}s to be managed by this instance.
      */
     private final Map<String, Locator> collection;
 
+    /**
+     * The IDs of the {@link Locator}s' names.
+     */
+    private final Symbols symbols;
+
+    /**
+     * The {@link Locator}s indexed by the IDs of their names. The empty slots are not linked yet,
+     * the missing {@link Locator}s are linked to the {@link #ABSENT} one. The slots are only ever
+     * filled with the same values, so they could be linked by many threads at once.
+     */
+    private Locator[] links;
+
     /**
      * Ctor.
      *
      * @param collection The {@link Locator}s to be managed by this instance.
      */
     protected BaseLocators(final Map<String, Locator> collection) {
+        this(collection, new Symbols());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param collection The {@link Locator}s to be managed by this instance.
+     * @param symbols The IDs of the {@link Locator}s' names, e.g. shared with the previous copy.
+     */
+    protected BaseLocators(final Map<String, Locator> collection, final Symbols symbols) {
         this.collection = collection;
+        this.symbols = symbols;
+        this.links = new Locator[symbols.size()];
     }
 
     /**
@@ -68,10 +100,40 @@ public class BaseLocators {
         return this.collection.get(locator);
     }
 
+    /**
+     * Returns a concrete {@link Locator} by the ID of its name.
+     *
+     * @param symbol The ID of the {@link Locator}'s name in the {@link Symbols} table.
+     * @return The instance of {@link Locator}.
+     * @throws DecitaException If the specified {@link Locator} is missing.
+     */
+    public final Locator locatorFor(final int symbol) throws DecitaException {
+        final Locator result = this.linked(symbol);
+        if (result == BaseLocators.ABSENT) {
+            throw new DecitaException(
+                String.format(
+                    "Locator '%s' not found in computation context",
+                    this.symbols.nameOf(symbol)
+                )
+            );
+        }
+        return result;
+    }
+
     public final boolean hasLocator(final String locator) {
         return this.collection.containsKey(locator);
     }
 
+    /**
+     * Checks if the {@link Locator} is present by the ID of its name.
+     *
+     * @param symbol The ID of the {@link Locator}'s name in the {@link Symbols} table.
+     * @return True, if the {@link Locator} is present.
+     */
+    public final boolean hasLocator(final int symbol) {
+        return this.linked(symbol) != BaseLocators.ABSENT;
+    }
+
     /**
      * Obtains the locators state. Will be used by library's clients for debugging and testing
      * purposes.
@@ -81,10 +143,10 @@ public class BaseLocators {
     public Map<String, Map<String, Object>> state() {
         final Map<String, Map<String, Object>> state = new HashMap<>(this.collection.size());
         for (final Map.Entry<String, Locator> entry : this.collection.entrySet()) {
-            if (entry.getValue().state().isEmpty()) {
-                continue;
+            final Map<String, Object> values = entry.getValue().state();
+            if (!values.isEmpty()) {
+                state.put(entry.getKey(), values);
             }
-            state.put(entry.getKey(), entry.getValue().state());
         }
         return state;
     }
@@ -92,9 +154,83 @@ public class BaseLocators {
     /**
      * Temporary method that provides access to the locators for testing purposes.
      *
-     * @return The {@link Map} of {@link Locator}s.
+     * @return The read-only view of the {@link Locator}s.
      */
     public Map<String, Locator> locators() {
-        return this.collection;
+        return Collections.unmodifiableMap(this.collection);
+    }
+
+    /**
+     * Returns the table of the IDs of the {@link Locator}s' names.
+     *
+     * @return The {@link Symbols} table.
+     */
+    public final Symbols symbols() {
+        return this.symbols;
+    }
+
+    /**
+     * Links every name in my {@link Symbols} table to its {@link Locator}, looking for it among
+     * these {@link Locator}s first and among the fallback ones then. The names that are found
+     * nowhere are left unlinked.
+     *
+     * @param fallback The {@link Locator}s to look for the names missing here.
+     * @return The {@link Locator}s indexed by the IDs of their names.
+     */
+    public final Locator[] linkedWith(final BaseLocators fallback) {
+        final Locator[] result = new Locator[this.symbols.size()];
+        for (int symbol = 0; symbol < result.length; symbol += 1) {
+            final String name = this.symbols.nameOf(symbol);
+            if (this.collection.containsKey(name)) {
+                result[symbol] = this.linkOf(symbol, name);
+            } else {
+                result[symbol] = fallback.collection.get(name);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@link Locator} to link to the name, e.g. for the {@link ComputationContext}.
+     *
+     * @param symbol The ID of the {@link Locator}'s name in the {@link Symbols} table.
+     * @param name The {@link Locator}'s name.
+     * @return The {@link Locator} to link.
+     */
+    protected Locator linkOf(final int symbol, final String name) {
+        return this.locatorFor(symbol);
+    }
+
+    /**
+     * Adds the {@link Locator} to the collection and forgets all the linked {@link Locator}s, so
+     * that no name stays linked to the missing one.
+     *
+     * @param locator The {@link Locator} to add.
+     */
+    protected final void include(final Locator locator) {
+        this.collection.put(locator.locatorName(), locator);
+        this.links = new Locator[this.symbols.size()];
+    }
+
+    /**
+     * Finds the {@link Locator} linked to the ID, linking it first, if needed.
+     *
+     * @param symbol The ID of the {@link Locator}'s name in the {@link Symbols} table.
+     * @return The {@link Locator} or {@link #ABSENT}, if it's missing.
+     */
+    private Locator linked(final int symbol) {
+        Locator[] current = this.links;
+        if (symbol >= current.length) {
+            current = Arrays.copyOf(current, this.symbols.size());
+            this.links = current;
+        }
+        Locator result = current[symbol];
+        if (result == null) {
+            result = this.collection.getOrDefault(
+                this.symbols.nameOf(symbol), BaseLocators.ABSENT
+            );
+            current[symbol] = result;
+        }
+        return result;
     }
 }
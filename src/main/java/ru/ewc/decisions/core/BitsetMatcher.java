@@ -0,0 +1,360 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.RuleFragment;
+
+/**
+ * I am the {@link RuleMatcher} for the wide tables, i.e. the tables with many {@link Rule}s. I
+ * split the table into the {@link BitsetRow}s once, when the table is loaded. Then every
+ * evaluation locates each row's base value once and narrows the bitset of the satisfied
+ * {@link Rule}s row by row, never checking the wildcard cells. The row that fails to check its
+ * cells, e.g. comparing a non-numeric value, leaves its {@link Rule}s to be checked one by one,
+ * so they fail just like they do when checked without me.
+ *
+ * @since 0.10.0
+ */
+final class BitsetMatcher implements RuleMatcher {
+    /**
+     * The minimal number of {@link Rule}s for the bitset matching to pay off.
+     */
+    static final int MIN_RULES = 64;
+
+    /**
+     * The minimal number of {@link Rule}s for the bitset matching of the threshold tables.
+     */
+    static final int MIN_THRESHOLD_RULES = 8;
+
+    /**
+     * The table's {@link Rule}s, in the order they should be checked in.
+     */
+    private final List<Rule> rules;
+
+    /**
+     * The table's condition rows.
+     */
+    private final List<BitsetRow> rows;
+
+    /**
+     * The {@link Rule}s accepting any value of every row, as bitsets.
+     */
+    private final long[][] wildcards;
+
+    /**
+     * The {@link Rule}s whose cells in every row come before some of their cells in the earlier
+     * rows, as bitsets, {@code null} for the rows without such cells.
+     */
+    private final long[][] unordered;
+
+    /**
+     * The bitset with all the table's {@link Rule}s.
+     */
+    private final long[] all;
+
+    /**
+     * Ctor.
+     *
+     * @param rules The table's {@link Rule}s, in the order they should be checked in.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     */
+    BitsetMatcher(final List<Rule> rules, final Symbols symbols) {
+        final Map<String, String[]> cells = BitsetMatcher.cellsOf(rules);
+        this.rules = rules;
+        this.rows = new ArrayList<>(cells.size());
+        this.wildcards = new long[cells.size()][];
+        cells.forEach(
+            (key, row) -> {
+                this.wildcards[this.rows.size()] = BitsetMatcher.wildcardsOf(row);
+                this.rows.add(BitsetMatcher.rowOf(key, row, symbols));
+            }
+        );
+        this.unordered = BitsetMatcher.unorderedOf(rules, List.copyOf(cells.keySet()));
+        this.all = new long[ConditionRow.wordsFor(rules.size())];
+        for (int idx = 0; idx < rules.size(); idx += 1) {
+            this.all[idx >>> 6] |= 1L << idx;
+        }
+    }
+
+    @Override
+    public List<Rule> satisfied(
+        final ComputationContext context,
+        final HitPolicy policy,
+        final String table
+    ) {
+        final long[] alive = this.all.clone();
+        final long[] before = new long[alive.length];
+        final long[] doubtful = new long[alive.length];
+        boolean any = true;
+        for (int idx = 0; any && idx < this.rows.size(); idx += 1) {
+            if (BitsetMatcher.checks(alive, this.wildcards[idx])) {
+                System.arraycopy(alive, 0, before, 0, alive.length);
+                any = this.narrow(idx, before, alive, doubtful, context);
+            }
+        }
+        return policy.satisfied(
+            this.rules, BitsetMatcher.checkOf(alive, doubtful, this.rules, context), table
+        );
+    }
+
+    /**
+     * Creates the check of the {@link Rule}s already matched as bitsets. The results of the
+     * {@link Rule}s known to be satisfied or not are only reported, the doubtful {@link Rule}s
+     * are checked one by one.
+     *
+     * @param alive The bitset of the satisfied {@link Rule}s.
+     * @param doubtful The bitset of the {@link Rule}s to check one by one.
+     * @param rules The table's {@link Rule}s, in the order they should be checked in.
+     * @param context The {@link ComputationContext} to check the {@link Rule}s in.
+     * @return The check telling whether the {@link Rule} at the position is satisfied.
+     */
+    static IntPredicate checkOf(
+        final long[] alive,
+        final long[] doubtful,
+        final List<Rule> rules,
+        final ComputationContext context
+    ) {
+        return idx -> {
+            final Rule rule = rules.get(idx);
+            final boolean result;
+            if ((doubtful[idx >>> 6] & 1L << idx) == 0L) {
+                result = rule.reported((alive[idx >>> 6] & 1L << idx) != 0L, context);
+            } else {
+                result = rule.check(context);
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Narrows the bitset of the satisfied {@link Rule}s by the row. If the row fails to check its
+     * cells, its {@link Rule}s are left to be checked one by one. So are the {@link Rule}s
+     * dropped by the cells that come before some of their cells in the earlier rows: the
+     * {@link Rule} checked alone could fail on those cells first.
+     *
+     * @param idx The position of the row.
+     * @param before The bitset of the {@link Rule}s satisfied before the row.
+     * @param alive The bitset of the {@link Rule}s that are still satisfied.
+     * @param doubtful The bitset of the {@link Rule}s to check one by one.
+     * @param context The {@link ComputationContext} to locate the values in.
+     * @return True, if there's at least one satisfied {@link Rule} left.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private boolean narrow(
+        final int idx,
+        final long[] before,
+        final long[] alive,
+        final long[] doubtful,
+        final ComputationContext context
+    ) {
+        boolean result;
+        try {
+            result = this.rows.get(idx).narrow(alive, context);
+            if (this.unordered[idx] != null) {
+                for (int word = 0; word < alive.length; word += 1) {
+                    doubtful[word] |= before[word] & ~alive[word] & this.unordered[idx][word];
+                }
+            }
+        } catch (final RuntimeException exception) {
+            result = false;
+            for (int word = 0; word < alive.length; word += 1) {
+                doubtful[word] |= before[word] & ~this.wildcards[idx][word];
+                alive[word] = before[word] & this.wildcards[idx][word];
+                result = result || alive[word] != 0L;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the bitset matching pays off for the specified {@link Rule}s, i.e. if there are
+     * many of them, or if they have numeric threshold rows.
+     *
+     * @param rules The table's {@link Rule}s.
+     * @return True, if the {@link BitsetMatcher} should be used.
+     */
+    static boolean paysOffFor(final List<Rule> rules) {
+        return rules.size() >= BitsetMatcher.MIN_RULES
+            || (rules.size() >= BitsetMatcher.MIN_THRESHOLD_RULES
+            && BitsetMatcher.cellsOf(rules).values().stream().anyMatch(ThresholdRow::accepts));
+    }
+
+    /**
+     * Checks if any of the still satisfied {@link Rule}s has a non-wildcard cell in the row, i.e.
+     * if the row's base value has to be located at all. So the row is skipped, just like the
+     * sequential check skips the conditions of the {@link Rule}s already failed.
+     *
+     * @param alive The bitset of the {@link Rule}s that are still satisfied.
+     * @param wildcards The bitset of the {@link Rule}s accepting any value of the row.
+     * @return True, if the row should be checked.
+     */
+    private static boolean checks(final long[] alive, final long[] wildcards) {
+        boolean result = false;
+        for (int word = 0; !result && word < alive.length; word += 1) {
+            result = (alive[word] & ~wildcards[word]) != 0L;
+        }
+        return result;
+    }
+
+    /**
+     * Finds the wildcard cells of the row.
+     *
+     * @param cells The cells of every {@link Rule}, {@code null} for the wildcard cells.
+     * @return The {@link Rule}s accepting any value of the row, as a bitset.
+     */
+    private static long[] wildcardsOf(final String[] cells) {
+        final long[] result = new long[ConditionRow.wordsFor(cells.length)];
+        for (int idx = 0; idx < cells.length; idx += 1) {
+            if (cells[idx] == null) {
+                result[idx >>> 6] |= 1L << idx;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates the most suitable {@link BitsetRow} for the specified cells.
+     *
+     * @param key The row's key, i.e. its base and occurrence, as in {@link #cellsOf(List)}.
+     * @param cells The cells of every {@link Rule}, {@code null} for the wildcard cells.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     * @return The row.
+     */
+    static BitsetRow rowOf(final String key, final String[] cells, final Symbols symbols) {
+        final String base = key.substring(0, key.lastIndexOf('#'));
+        final BitsetRow result;
+        if (ThresholdRow.accepts(cells)) {
+            result = new ThresholdRow(base, cells, symbols);
+        } else if (DictionaryRow.accepts(cells)) {
+            result = new DictionaryRow(base, cells, symbols);
+        } else {
+            result = new ConditionRow(base, cells, symbols);
+        }
+        return result;
+    }
+
+    /**
+     * Collects the cells of every row. The repeated conditions for the same base in a single
+     * {@link Rule} go to the separate rows, just like in the source table. The {@link Rule}s do
+     * not keep their wildcard cells, so the rows are ordered as close to the source table as the
+     * {@link Rule}s tell: every row goes after the rows of every {@link Rule}'s earlier cells,
+     * unless the {@link Rule}s' orders contradict each other.
+     *
+     * @param rules The table's {@link Rule}s.
+     * @return The cells of every {@link Rule}, keyed by the row's base and occurrence, in the
+     *  order of the rows.
+     */
+    static Map<String, String[]> cellsOf(final List<Rule> rules) {
+        final Map<String, String[]> cells = new LinkedHashMap<>();
+        final Map<String, Set<String>> following = new HashMap<>();
+        for (int idx = 0; idx < rules.size(); idx += 1) {
+            final List<RuleFragment> fragments = rules.get(idx).conditionFragments();
+            final List<String> keys = BitsetMatcher.keysOf(fragments);
+            for (int cell = 0; cell < keys.size(); cell += 1) {
+                cells.computeIfAbsent(keys.get(cell), key -> new String[rules.size()])[idx] =
+                    fragments.get(cell).right();
+                if (cell > 0) {
+                    following.computeIfAbsent(keys.get(cell - 1), key -> new LinkedHashSet<>())
+                        .add(keys.get(cell));
+                }
+            }
+        }
+        final Map<String, Integer> preceding = new HashMap<>();
+        following.values().forEach(
+            keys -> keys.forEach(key -> preceding.merge(key, 1, Integer::sum))
+        );
+        final List<String> pending = new ArrayList<>(cells.keySet());
+        final Map<String, String[]> result = new LinkedHashMap<>();
+        while (!pending.isEmpty()) {
+            String next = pending.get(0);
+            for (final String key : pending) {
+                if (preceding.getOrDefault(key, 0) <= 0) {
+                    next = key;
+                    break;
+                }
+            }
+            pending.remove(next);
+            result.put(next, cells.get(next));
+            following.getOrDefault(next, Set.of()).forEach(
+                key -> preceding.merge(key, -1, Integer::sum)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Computes the row keys of the {@link Rule}'s cells, i.e. their bases and occurrences.
+     *
+     * @param fragments The {@link Rule}'s condition fragments.
+     * @return The keys, in the order of the fragments.
+     */
+    static List<String> keysOf(final List<RuleFragment> fragments) {
+        final Map<String, Integer> occurrences = new HashMap<>();
+        final List<String> result = new ArrayList<>(fragments.size());
+        for (final RuleFragment fragment : fragments) {
+            result.add(
+                "%s#%d".formatted(
+                    fragment.left(),
+                    occurrences.merge(fragment.left(), 1, Integer::sum)
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Finds the cells that come before some of their {@link Rule}'s cells in the earlier rows.
+     *
+     * @param rules The table's {@link Rule}s.
+     * @param keys The keys of the rows, in the order of the rows.
+     * @return The {@link Rule}s with such cells in every row, as bitsets, {@code null} for the
+     *  rows without such cells.
+     */
+    private static long[][] unorderedOf(final List<Rule> rules, final List<String> keys) {
+        final long[][] result = new long[keys.size()][];
+        for (int idx = 0; idx < rules.size(); idx += 1) {
+            int latest = -1;
+            for (final String key : BitsetMatcher.keysOf(rules.get(idx).conditionFragments())) {
+                final int row = keys.indexOf(key);
+                if (row < latest) {
+                    if (result[row] == null) {
+                        result[row] = new long[ConditionRow.wordsFor(rules.size())];
+                    }
+                    result[row][idx >>> 6] |= 1L << idx;
+                }
+                latest = Math.max(latest, row);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am a single row of a decision table, checked against the bitset of the still satisfied
+ * {@link Rule}s. My implementations are built once, when the table is loaded.
+ *
+ * @since 0.10.0
+ */
+interface BitsetRow {
+    /**
+     * Removes the {@link Rule}s that are not satisfied by this row from the bitset.
+     *
+     * @param alive The bitset of the {@link Rule}s that are still satisfied.
+     * @param context The {@link ComputationContext} to locate the values in.
+     * @return True, if there's at least one satisfied {@link Rule} left.
+     * @throws DecitaException If the values could not be located.
+     */
+    boolean narrow(long[] alive, ComputationContext context) throws DecitaException;
+}
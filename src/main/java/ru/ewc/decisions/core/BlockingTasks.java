@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the dedicated pool of threads for the blocking tasks, e.g. reading and compiling the tables'
+ * files. My main responsibility is to keep such tasks off the common fork-join pool, that is sized
+ * for the computations only and is shared with the whole application. The pool lives only as long
+ * as its tasks do.
+ *
+ * @since 0.10.0
+ */
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public final class BlockingTasks {
+    /**
+     * The largest number of the threads, large enough to keep the processors busy while some of
+     * the threads wait for the disk.
+     */
+    private static final int THREADS = Runtime.getRuntime().availableProcessors() * 2;
+
+    /**
+     * Ctor.
+     */
+    private BlockingTasks() {
+        // utility class
+    }
+
+    /**
+     * Performs the tasks in parallel and waits for all of them.
+     *
+     * @param tasks The tasks to perform.
+     * @param <T> The type of the tasks' results.
+     * @return The results of the tasks, in the order of the tasks.
+     * @throws DecitaException If the waiting is interrupted.
+     */
+    public static <T> List<T> resultsOf(final List<Supplier<T>> tasks) {
+        final List<T> result = new ArrayList<>(tasks.size());
+        if (tasks.size() < 2) {
+            tasks.forEach(task -> result.add(task.get()));
+        } else {
+            final ExecutorService pool = Executors.newFixedThreadPool(
+                Math.min(tasks.size(), BlockingTasks.THREADS)
+            );
+            try {
+                final List<Future<T>> futures = new ArrayList<>(tasks.size());
+                for (final Supplier<T> task : tasks) {
+                    futures.add(pool.submit(task::get));
+                }
+                for (final Future<T> future : futures) {
+                    result.add(BlockingTasks.resultOf(future));
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Waits for the task's result, rethrowing its failure.
+     *
+     * @param future The task's future result.
+     * @param <T> The type of the task's result.
+     * @return The task's result.
+     * @throws DecitaException If the waiting is interrupted.
+     */
+    private static <T> T resultOf(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new DecitaException("Interrupted while waiting for the tables", exception);
+        } catch (final ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw new DecitaException(exception.getCause().getMessage(), exception.getCause());
+        }
+    }
+}
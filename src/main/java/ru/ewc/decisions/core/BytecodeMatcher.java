@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import org.objectweb.asm.MethodTooLargeException;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.conditions.Condition;
+
+/**
+ * I am the {@link RuleMatcher} compiled into the JVM bytecode. Every table gets its own hidden
+ * class, generated once, when the table is loaded, by the {@link TableBytecode}. The generated
+ * code checks the {@link Rule}s with the straight-line comparisons of the located values against
+ * the table's literals, so that the JIT could compile each table into tight code. The conditions
+ * that could not be inlined are delegated to their {@link Condition} objects.
+ *
+ * @since 0.10.0
+ */
+abstract class BytecodeMatcher implements RuleMatcher {
+    /**
+     * The table's {@link Rule}s, in the order they should be checked in.
+     */
+    private final List<Rule> rules;
+
+    /**
+     * The base {@link Coordinate}s of the table's conditions, referenced by the generated code.
+     */
+    private final Coordinate[] bases;
+
+    /**
+     * The {@link Condition}s that are not inlined, referenced by the generated code.
+     */
+    private final Condition[] conditions;
+
+    /**
+     * Ctor.
+     *
+     * @param rules The table's {@link Rule}s, in the order they should be checked in.
+     * @param bases The base {@link Coordinate}s of the table's conditions.
+     * @param conditions The {@link Condition}s that are not inlined.
+     */
+    protected BytecodeMatcher(
+        final List<Rule> rules,
+        final Coordinate[] bases,
+        final Condition[] conditions
+    ) {
+        this.rules = rules;
+        this.bases = bases;
+        this.conditions = conditions;
+    }
+
+    /**
+     * Compiles the specified {@link Rule}s into a hidden class. The tables too big for a single
+     * JVM method are matched with the {@link BitsetMatcher} instead.
+     *
+     * @param rules The table's {@link Rule}s, in the order they should be checked in.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     * @return The compiled {@link RuleMatcher}.
+     */
+    static RuleMatcher compiledFor(final List<Rule> rules, final Symbols symbols) {
+        final TableBytecode bytecode = new TableBytecode(rules, symbols);
+        RuleMatcher result;
+        try {
+            result = (RuleMatcher) MethodHandles.lookup()
+                .defineHiddenClass(bytecode.asBytes(), true)
+                .lookupClass()
+                .getDeclaredConstructor(List.class, Coordinate[].class, Condition[].class)
+                .newInstance(rules, bytecode.bases(), bytecode.conditions());
+        } catch (final MethodTooLargeException exception) {
+            result = new BitsetMatcher(rules, symbols);
+        } catch (final ReflectiveOperationException exception) {
+            throw new IllegalStateException("Cannot define the compiled table", exception);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the satisfied {@link Rule}s. If the generated code fails, the {@link Rule}s are
+     * checked one by one instead, so that the table fails just like the sequential check does:
+     * the generated code might have reached the failing condition before finding the
+     * {@link Rule}s that the sequential check would have stopped at.
+     *
+     * @param context The {@link ComputationContext} to locate the values in.
+     * @param policy The {@link HitPolicy} to choose the {@link Rule}s with.
+     * @param table The name of the table, used in the error messages.
+     * @return The satisfied {@link Rule}s.
+     */
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public final List<Rule> satisfied(
+        final ComputationContext context,
+        final HitPolicy policy,
+        final String table
+    ) {
+        final long[] alive = new long[ConditionRow.wordsFor(this.rules.size())];
+        boolean narrowed;
+        try {
+            this.narrow(alive, context, this.bases, this.conditions);
+            narrowed = true;
+        } catch (final RuntimeException exception) {
+            narrowed = false;
+        }
+        final List<Rule> result;
+        if (narrowed) {
+            result = policy.satisfied(
+                this.rules,
+                BitsetMatcher.checkOf(alive, new long[alive.length], this.rules, context),
+                table
+            );
+        } else {
+            result = policy.satisfied(this.rules, context, table);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the located value for the numeric comparison, parsed once when it was located.
+     * Called by the generated code.
+     *
+     * @param value The located value.
+     * @return The parsed number.
+     * @throws IllegalArgumentException If the value is not a number.
+     */
+    static double number(final Coordinate value) {
+        final double result = value.number();
+        if (Double.isNaN(result)) {
+            throw new IllegalArgumentException("Cannot compare strings");
+        }
+        return result;
+    }
+
+    /**
+     * Marks the satisfied {@link Rule}s in the bitset. Implemented by the generated code.
+     *
+     * @param alive The empty bitset of the satisfied {@link Rule}s.
+     * @param context The {@link ComputationContext} to locate the values in.
+     * @param located The base {@link Coordinate}s of the table's conditions.
+     * @param delegated The {@link Condition}s that are not inlined.
+     */
+    protected abstract void narrow(
+        long[] alive,
+        ComputationContext context,
+        Coordinate[] located,
+        Condition[] delegated
+    );
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.conditions.Condition;
+
+/**
+ * I am a single condition row of a decision table, i.e. the base {@link Coordinate} and the
+ * conditions of every {@link Rule} for that base. My main responsibility is to locate the base
+ * value once and to find the {@link Rule}s satisfied by it, as a bitset.
+ *
+ * @since 0.10.0
+ */
+final class ConditionRow implements BitsetRow {
+    /**
+     * The base {@link Coordinate} shared by all the row's cells.
+     */
+    private final Coordinate base;
+
+    /**
+     * The {@link Rule}s accepting any base value, as a bitset.
+     */
+    private final long[] wildcards;
+
+    /**
+     * The {@link Condition}s of every {@link Rule}, {@code null} for the wildcard cells.
+     */
+    private final Condition[] cells;
+
+    /**
+     * Ctor.
+     *
+     * @param base The base {@link Coordinate} description.
+     * @param cells The cells of every {@link Rule}, {@code null} for the wildcard cells.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     */
+    ConditionRow(final String base, final String[] cells, final Symbols symbols) {
+        this.base = Coordinate.from(base, symbols);
+        this.wildcards = new long[ConditionRow.wordsFor(cells.length)];
+        this.cells = new Condition[cells.length];
+        for (int idx = 0; idx < cells.length; idx += 1) {
+            if (cells[idx] == null) {
+                this.wildcards[idx >>> 6] |= 1L << idx;
+            } else {
+                this.cells[idx] = Condition.from(this.base, cells[idx], symbols);
+            }
+        }
+    }
+
+    /**
+     * Computes the number of the {@code long} words needed to store the bitset of the specified
+     * size.
+     *
+     * @param size The number of bits to store.
+     * @return The number of words.
+     */
+    static int wordsFor(final int size) {
+        return (size + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    @Override
+    public boolean narrow(final long[] alive, final ComputationContext context) {
+        final Coordinate value = this.base.locateIn(context);
+        long left = 0L;
+        for (int word = 0; word < alive.length; word += 1) {
+            long unknown = alive[word] & ~this.wildcards[word];
+            long hits = this.wildcards[word];
+            while (unknown != 0L) {
+                final int bit = Long.numberOfTrailingZeros(unknown);
+                if (this.cells[(word << 6) + bit].isSatisfiedBy(value, context)) {
+                    hits |= 1L << bit;
+                }
+                unknown &= unknown - 1;
+            }
+            alive[word] &= hits;
+            left |= alive[word];
+        }
+        return left != 0L;
+    }
+}
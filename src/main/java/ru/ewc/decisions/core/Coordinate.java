@@ -24,8 +24,6 @@
 
 package ru.ewc.decisions.core;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.api.DecitaException;
@@ -62,80 +60,151 @@ public final class Coordinate implements Comparable<Coordinate> {
     /**
      * String identifier of the concrete {@link Locator} responsible for retrieving the value.
      */
-    private String locator;
+    private final String locator;
 
     /**
      * String identifier of the requested state property's value.
      */
-    private String fragment;
+    private final String fragment;
+
+    /**
+     * The {@link Symbols} table the {@link Locator}'s name got its ID in when the tables were
+     * loaded, or {@code null}, if it got no ID.
+     */
+    @EqualsAndHashCode.Exclude
+    private final Symbols symbols;
+
+    /**
+     * The ID of the {@link Locator}'s name in the {@link #symbols} table, or
+     * {@link Symbols#UNKNOWN}.
+     */
+    @EqualsAndHashCode.Exclude
+    private final int symbol;
+
+    /**
+     * The placeholders of the description, parsed once.
+     */
+    @EqualsAndHashCode.Exclude
+    private final Template template;
+
+    /**
+     * The numeric value of the fragment, parsed once for the compiled {@link Coordinate}s, or
+     * {@link Double#NaN}, if it's not a number or not parsed.
+     */
+    @EqualsAndHashCode.Exclude
+    private final double number;
+
+    /**
+     * Whether the {@link #number} is parsed. The {@link Coordinate}s created for the located
+     * values parse their numbers only when they are compared, since most of them never are.
+     */
+    @EqualsAndHashCode.Exclude
+    private final boolean parsed;
 
     /**
      * Ctor.
      *
      * @param locator The {@link Locator} identifier.
      * @param fragment The value's identifier.
+     * @param symbols The {@link Symbols} table the name got its ID in or {@code null}.
+     * @param template The placeholders of the description.
+     * @param compiled Whether the {@link Coordinate} is compiled, so its number is parsed at once.
      */
-    private Coordinate(final String locator, final String fragment) {
+    private Coordinate(
+        final String locator,
+        final String fragment,
+        final Symbols symbols,
+        final Template template,
+        final boolean compiled
+    ) {
         this.locator = locator;
         this.fragment = fragment;
+        this.symbols = symbols;
+        if (symbols == null) {
+            this.symbol = Symbols.UNKNOWN;
+        } else {
+            this.symbol = symbols.idOf(locator);
+        }
+        this.template = template;
+        this.parsed = compiled;
+        if (compiled) {
+            this.number = Coordinate.numberFrom(fragment);
+        } else {
+            this.number = Double.NaN;
+        }
     }
 
     /**
      * Creates a {@link Coordinate} based on a string representation. The provided string can
      * reference to a constant value or to some {@link Locator}'s value. In the latter case, the
-     * string should be in the format "locator::fragment".
+     * string should be in the format "locator::fragment". The name of the {@link Locator} gets no
+     * ID, so the {@link Locator} is looked up by its name during the evaluations.
      *
      * @param coordinate String representation of a coordinate.
      * @return A concrete {@link Coordinate} based on given string representation.
      */
     public static Coordinate from(final String coordinate) {
-        final Coordinate result;
-        if (coordinate.contains("::")) {
-            final String[] split = coordinate.split("::");
-            result = new Coordinate(
-                split[0],
-                Arrays.stream(split).skip(1).collect(Collectors.joining("::"))
-            );
-        } else {
-            result = new Coordinate(Locator.CONSTANT_VALUES, coordinate);
-        }
-        return result;
+        return Coordinate.parsed(coordinate, null, true);
+    }
+
+    /**
+     * Creates a {@link Coordinate} of the tables being loaded. The name of its {@link Locator}
+     * and the names in its placeholders get their IDs in the tables' {@link Symbols} table right
+     * away, so the {@link Locator}s are found by those IDs during the evaluations.
+     *
+     * @param coordinate String representation of a coordinate.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     * @return A concrete {@link Coordinate} based on given string representation.
+     */
+    public static Coordinate from(final String coordinate, final Symbols symbols) {
+        return Coordinate.parsed(coordinate, symbols, true);
     }
 
     /**
-     * Locates the required value in the provided {@link ComputationContext}. Always return the same
-     * object with updated fields (not a new instance) because there could be many references to
-     * this instance, i.e. the same {@link Coordinate} could be used in many {@link Condition}s.
+     * Locates the required value in the provided {@link ComputationContext}. I never change myself,
+     * because the same {@link Coordinate} could be shared between many {@link Condition}s, tables
+     * and threads. The located value is kept in the context's current evaluation frame instead.
      *
      * @param context Provided {@link ComputationContext}.
      * @return A constant value {@link Coordinate}.
      * @throws DecitaException If the specified {@link Locator} is missing.
      */
     public Coordinate locateIn(final ComputationContext context) throws DecitaException {
-        if (!this.isResolved()) {
-            this.resolveIn(context);
-        }
-        if (!this.isComputed()) {
-            this.turnToConstantWith(this.valueIn(context));
+        final Coordinate result;
+        if (this.isResolved() && this.isComputed()) {
+            result = this;
+        } else {
+            result = context.located(this, () -> this.computedIn(context));
         }
-        return this;
+        return result;
     }
 
+    /**
+     * Computes the value this {@link Coordinate} points to.
+     *
+     * @param context Provided {@link ComputationContext}.
+     * @return The value this {@link Coordinate} points to.
+     * @throws DecitaException If the specified {@link Locator} is missing.
+     */
     public String valueIn(final ComputationContext context) throws DecitaException {
-        this.resolveIn(context);
-        final String result = context.valueFor(this.locator, this.fragment);
+        final Coordinate resolved = this.resolveIn(context);
+        final int symbol = resolved.symbolIn(context.symbols());
+        final String result;
+        if (symbol == Symbols.UNKNOWN) {
+            result = context.valueFor(resolved.locator, resolved.fragment);
+        } else {
+            result = context.valueFor(symbol, resolved.fragment);
+        }
         context.logComputation(
             OutputTracker.EventType.ST,
-            "%s => %s".formatted(this.asString(), result)
+            () -> "%s => %s".formatted(resolved.asString(), result)
         );
         return result;
     }
 
     public ComputationContext setValueInContext(final String val, final ComputationContext target) {
-        if (!this.isResolved()) {
-            this.resolveIn(target);
-        }
-        return target.setValueFor(this.locator, this.fragment, val);
+        final Coordinate resolved = this.resolveIn(target);
+        return target.setValueFor(resolved.locator, resolved.fragment, val);
     }
 
     /**
@@ -147,36 +216,40 @@ public final class Coordinate implements Comparable<Coordinate> {
         return Locator.CONSTANT_VALUES.equals(this.locator);
     }
 
+    /**
+     * Tests if the {@link Coordinate} is a constant one, i.e. its value is known without any
+     * computation.
+     *
+     * @return True, if {@link Coordinate} is resolved and points to a constant value.
+     */
+    public boolean isConstant() {
+        return this.isComputed() && this.isResolved();
+    }
+
     /**
      * Tests if the {@link Coordinate} is resolved, i.e. it does not contain any placeholders.
      *
      * @return True if the {@link Coordinate} is resolved.
      */
     public Boolean isResolved() {
-        return !this.locator.contains("${") && !this.fragment.contains("${");
+        return this.template.isEmpty();
     }
 
     /**
-     * Resolves the {@link Coordinate} in the provided {@link ComputationContext}. The method
-     * replaces all placeholders with the actual values.
+     * Resolves the {@link Coordinate} in the provided {@link ComputationContext}, i.e. replaces all
+     * its placeholders with the actual values.
      *
      * @param context The {@link ComputationContext} to resolve the {@link Coordinate} in.
+     * @return This instance, if there is nothing to resolve, or a new resolved {@link Coordinate}.
      */
-    public void resolveIn(final ComputationContext context) {
-        final String description = "%s::%s".formatted(this.locator, this.fragment);
-        String result = description;
-        while (result.contains("${")) {
-            final String coord = Coordinate.extractInnerMostCoordinate(result);
-            final Coordinate coordinate = Coordinate.from(coord);
-            result = result.replace("${%s}".formatted(coord), coordinate.valueIn(context));
-        }
-        if (!result.equals(description)) {
-            context.logComputation(
-                OutputTracker.EventType.DN,
-                "%s => %s".formatted(description, result)
-            );
+    public Coordinate resolveIn(final ComputationContext context) {
+        final Coordinate result;
+        if (this.isResolved()) {
+            result = this;
+        } else {
+            result = Coordinate.parsed(this.resolvedDescription(context), null, false);
         }
-        this.updateWith(result);
+        return result;
     }
 
     /**
@@ -188,53 +261,197 @@ public final class Coordinate implements Comparable<Coordinate> {
         return "%s::%s".formatted(this.locator, this.fragment);
     }
 
+    /**
+     * Returns the name of the {@link Locator} this {@link Coordinate} points to.
+     *
+     * @return The {@link Locator}'s name.
+     */
+    String locator() {
+        return this.locator;
+    }
+
+    /**
+     * Returns the numeric value of the fragment. It's parsed once for the compiled
+     * {@link Coordinate}s and on every call for the rest of them.
+     *
+     * @return The number or {@link Double#NaN}, if the fragment is not a number.
+     */
+    double number() {
+        final double result;
+        if (this.parsed) {
+            result = this.number;
+        } else {
+            result = Coordinate.numberFrom(this.fragment);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the fragment part of this {@link Coordinate}, i.e. the value of a constant one.
+     *
+     * @return The fragment part of this {@link Coordinate}.
+     */
+    String fragment() {
+        return this.fragment;
+    }
+
     @Override
     public int compareTo(final Coordinate other) {
-        final int result;
-        if (this.isNumber() && other.isNumber()) {
-            result = Double.compare(
-                Double.parseDouble(this.fragment),
-                Double.parseDouble(other.fragment)
-            );
-        } else {
+        final double left = this.number();
+        final double right = other.number();
+        if (Double.isNaN(left) || Double.isNaN(right)) {
             throw new IllegalArgumentException("Cannot compare strings");
         }
+        return Double.compare(left, right);
+    }
+
+    /**
+     * Parses the number in the {@link #NUMBER_REGEXP} format. The format is checked by a simple
+     * scan instead of a regular expression, since it's done on every numeric comparison.
+     *
+     * @param text The text to parse.
+     * @return The parsed number or {@link Double#NaN}, if the text is not a number.
+     */
+    static double numberFrom(final String text) {
+        final int length = text.length();
+        int idx = 0;
+        if (idx < length && text.charAt(idx) == '-') {
+            idx += 1;
+        }
+        final int integer = Coordinate.skipDigits(text, idx);
+        boolean valid = integer > idx;
+        idx = integer;
+        if (valid && idx < length && text.charAt(idx) == '.') {
+            final int fraction = Coordinate.skipDigits(text, idx + 1);
+            valid = fraction > idx + 1;
+            idx = fraction;
+        }
+        final double result;
+        if (valid && idx == length) {
+            result = Double.parseDouble(text);
+        } else {
+            result = Double.NaN;
+        }
         return result;
     }
 
     /**
-     * Tests if the fragment is a number.
+     * Computes this {@link Coordinate}, i.e. creates the constant {@link Coordinate} pointing to
+     * the located value.
      *
-     * @return True, if the fragment is a number.
+     * @param context Provided {@link ComputationContext}.
+     * @return A constant value {@link Coordinate}.
      */
-    private boolean isNumber() {
-        return this.fragment.matches(Coordinate.NUMBER_REGEXP);
+    private Coordinate computedIn(final ComputationContext context) {
+        final Coordinate resolved = this.resolveIn(context);
+        final Coordinate result;
+        if (resolved.isComputed()) {
+            result = resolved;
+        } else {
+            result = Coordinate.constant(resolved.valueIn(context), null, false);
+        }
+        return result;
     }
 
     /**
-     * Turns the {@link Coordinate} into a constant {@link Coordinate} with provided value.
+     * Replaces all the placeholders in this {@link Coordinate}'s description with their actual
+     * values.
      *
-     * @param constant The constant value to set.
+     * @param context The {@link ComputationContext} to resolve the placeholders in.
+     * @return The resolved description in the "locator::fragment" format.
      */
-    private void turnToConstantWith(final String constant) {
-        this.locator = Locator.CONSTANT_VALUES;
-        this.fragment = constant;
+    private String resolvedDescription(final ComputationContext context) {
+        final String result = this.template.resolvedIn(
+            context,
+            this.locator.length() + this.fragment.length() + 2
+        );
+        context.logComputation(
+            OutputTracker.EventType.DN,
+            () -> "%s::%s => %s".formatted(this.locator, this.fragment, result)
+        );
+        return result;
     }
 
-    private void updateWith(final String coordinate) {
-        if (coordinate.contains("::")) {
-            final String[] split = coordinate.split("::");
-            this.locator = split[0];
-            this.fragment = Arrays.stream(split).skip(1).collect(Collectors.joining("::"));
+    /**
+     * Finds the ID of the {@link Locator}'s name in the tables' {@link Symbols} table. The ID
+     * given when the tables were loaded is used as is, the rest of the names, e.g. the resolved
+     * ones, are only looked up.
+     *
+     * @param table The {@link Symbols} table of the tables.
+     * @return The ID of the name or {@link Symbols#UNKNOWN}.
+     */
+    private int symbolIn(final Symbols table) {
+        final int result;
+        if (this.symbols == table) {
+            result = this.symbol;
         } else {
-            this.locator = Locator.CONSTANT_VALUES;
-            this.fragment = coordinate;
+            result = table.find(this.locator);
         }
+        return result;
     }
 
-    private static String extractInnerMostCoordinate(final String description) {
-        final int start = description.lastIndexOf("${");
-        final int end = description.indexOf('}', start);
-        return description.substring(start + 2, end);
+    /**
+     * Parses the string representation of a {@link Coordinate}.
+     *
+     * @param coordinate String representation of a coordinate.
+     * @param symbols The {@link Symbols} table to give the {@link Locator}'s names their IDs in,
+     *  or {@code null}, if they should only be looked up.
+     * @param compiled Whether the {@link Coordinate} is compiled, so its number is parsed at once.
+     * @return A concrete {@link Coordinate} based on given string representation.
+     */
+    static Coordinate parsed(
+        final String coordinate,
+        final Symbols symbols,
+        final boolean compiled
+    ) {
+        final int separator = coordinate.indexOf("::");
+        final Coordinate result;
+        if (separator < 0) {
+            result = Coordinate.constant(coordinate, symbols, compiled);
+        } else {
+            final String locator = coordinate.substring(0, separator);
+            final Template template = Template.of(coordinate, symbols);
+            final Symbols table;
+            if (template.isEmpty()) {
+                table = symbols;
+            } else {
+                table = null;
+            }
+            result = new Coordinate(
+                locator,
+                coordinate.substring(separator + 2),
+                table,
+                template,
+                compiled
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Creates a constant {@link Coordinate}, that never needs its {@link Locator}.
+     *
+     * @param value The constant value.
+     * @param symbols The {@link Symbols} table to give the names in the placeholders their IDs
+     *  in, or {@code null}.
+     * @param compiled Whether the {@link Coordinate} is compiled, so its number is parsed at once.
+     * @return A constant {@link Coordinate}.
+     */
+    private static Coordinate constant(
+        final String value,
+        final Symbols symbols,
+        final boolean compiled
+    ) {
+        return new Coordinate(
+            Locator.CONSTANT_VALUES, value, null, Template.of(value, symbols), compiled
+        );
+    }
+
+    private static int skipDigits(final String text, final int start) {
+        int idx = start;
+        while (idx < text.length() && text.charAt(idx) >= '0' && text.charAt(idx) <= '9') {
+            idx += 1;
+        }
+        return idx;
     }
 }
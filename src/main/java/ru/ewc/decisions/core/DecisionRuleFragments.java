@@ -24,10 +24,12 @@
 
 package ru.ewc.decisions.core;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecitaException;
 import ru.ewc.decisions.api.RuleFragment;
 import ru.ewc.decisions.api.RuleFragments;
 import ru.ewc.decisions.commands.Assignment;
@@ -59,31 +61,170 @@ public final class DecisionRuleFragments {
         return new DecisionRuleFragments(RuleFragments.listFrom(lines, column));
     }
 
+    /**
+     * Returns the rule's {@link Assignment}s, with the names outside of any {@link Symbols} table.
+     *
+     * @return The {@link Assignment}s in the order of the table's rows.
+     */
     public List<Assignment> assignments() {
+        return this.assignments(new Symbols());
+    }
+
+    /**
+     * Returns the rule's {@link Assignment}s.
+     *
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     * @return The {@link Assignment}s in the order of the table's rows.
+     */
+    public List<Assignment> assignments(final Symbols symbols) {
         return
             this.fragments.getFragments().stream()
                 .filter(rf -> rf.nonEmptyOfType("ASG"))
-                .map(rf -> new Assignment(rf.left(), rf.right()))
+                .map(rf -> new Assignment(rf.left(), rf.right(), symbols))
                 .toList();
     }
 
-    public List<Condition> conditions() {
+    /**
+     * Returns the non-empty fragments describing the rule's conditions.
+     *
+     * @return The list of the rule's condition fragments.
+     */
+    public List<RuleFragment> conditionFragments() {
         return
             this.fragments.getFragments().stream()
                 .filter(rf -> rf.nonEmptyOfType("CND"))
-                .map(Condition::from)
                 .toList();
     }
 
-    public Map<String, String> outcomes(final ComputationContext context) {
+    /**
+     * Returns the rule's {@link Condition}s, with the names outside of any {@link Symbols} table.
+     *
+     * @return The {@link Condition}s in the order of the table's rows.
+     */
+    public List<Condition> conditions() {
+        return this.conditions(new Symbols());
+    }
+
+    /**
+     * Returns the rule's {@link Condition}s.
+     *
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     * @return The {@link Condition}s in the order of the table's rows.
+     */
+    public List<Condition> conditions(final Symbols symbols) {
         return
-            this.fragments.getFragments().stream()
-                .filter(rf -> rf.nonEmptyOfType("OUT"))
-                .collect(
-                    Collectors.toMap(
-                        RuleFragment::left,
-                        rf -> Coordinate.from(rf.right()).valueIn(context)
-                    )
+            this.conditionFragments().stream()
+                .map(fragment -> Condition.from(fragment, symbols))
+                .toList();
+    }
+
+    /**
+     * Returns the priority of the rule, specified by its {@code PRI} fragment.
+     *
+     * @return The priority of the rule, zero if it's not specified.
+     * @throws DecitaException If the specified priority is not an integer number.
+     */
+    public int priority() throws DecitaException {
+        final String value = this.fragments.getFragments().stream()
+            .filter(rf -> rf.nonEmptyOfType("PRI"))
+            .map(RuleFragment::right)
+            .findFirst()
+            .orElse("0");
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException exception) {
+            throw new DecitaException("Rule priority '%s' is not an integer".formatted(value));
+        }
+    }
+
+    /**
+     * Collects the names of the {@link ru.ewc.decisions.api.Locator}s referenced by the rule
+     * directly, i.e. not through the placeholders resolved during the evaluation.
+     *
+     * @param names The collection to add the names to.
+     */
+    public void collectLocators(final Set<String> names) {
+        for (final RuleFragment fragment : this.fragments.getFragments()) {
+            if (fragment.nonEmptyOfType("CND")) {
+                DecisionRuleFragments.collectLocator(fragment.left(), names);
+                DecisionRuleFragments.collectLocator(
+                    DecisionRuleFragments.operandOf(fragment.right()),
+                    names
                 );
+            } else if (fragment.nonEmptyOfType("OUT")) {
+                DecisionRuleFragments.collectLocator(fragment.right(), names);
+            } else if (fragment.nonEmptyOfType("ASG")) {
+                DecisionRuleFragments.collectLocator(fragment.left(), names);
+                DecisionRuleFragments.collectLocator(fragment.right(), names);
+            }
+        }
+    }
+
+    /**
+     * Returns the rule's outcomes, i.e. the {@link Coordinate}s of the values to compute, keyed by
+     * the outcomes' names.
+     *
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     * @return The outcomes in the order of the table's rows.
+     * @throws DecitaException If the same outcome is specified more than once.
+     */
+    public Map<String, Coordinate> outcomes(final Symbols symbols) throws DecitaException {
+        final Map<String, Coordinate> result = new LinkedHashMap<>();
+        for (final RuleFragment fragment : this.fragments.getFragments()) {
+            if (fragment.nonEmptyOfType("OUT")
+                && result.put(fragment.left(), Coordinate.from(fragment.right(), symbols))
+                != null) {
+                throw new DecitaException(
+                    "Outcome '%s' is specified more than once".formatted(fragment.left())
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the rule's outcomes in the specified context.
+     *
+     * @param context The {@link ComputationContext} to compute the outcomes in.
+     * @return The computed outcomes in the order of the table's rows, keyed by their names.
+     * @throws DecitaException If the same outcome is specified more than once.
+     */
+    public Map<String, String> outcomes(final ComputationContext context) throws DecitaException {
+        final Map<String, String> result = new LinkedHashMap<>();
+        this.outcomes(new Symbols()).forEach(
+            (name, value) -> result.put(name, value.valueIn(context))
+        );
+        return result;
+    }
+
+    /**
+     * Adds the name of the {@link ru.ewc.decisions.api.Locator} the {@link Coordinate} points
+     * to, unless the {@link Coordinate} is constant or has placeholders.
+     *
+     * @param description The string representation of the {@link Coordinate}.
+     * @param names The collection to add the name to.
+     */
+    private static void collectLocator(final String description, final Set<String> names) {
+        final Coordinate coordinate = Coordinate.from(description);
+        if (!coordinate.isComputed() && coordinate.isResolved()) {
+            names.add(coordinate.locator());
+        }
+    }
+
+    /**
+     * Extracts the operand of the condition, i.e. drops its negations and comparison.
+     *
+     * @param argument The condition's argument.
+     * @return The string representation of the operand's {@link Coordinate}.
+     */
+    private static String operandOf(final String argument) {
+        int start = 0;
+        while (start < argument.length() && argument.charAt(start) == '!') {
+            start += 1;
+        }
+        if (start < argument.length() && "<>~".indexOf(argument.charAt(start)) >= 0) {
+            start += 1;
+        }
+        return argument.substring(start);
     }
 }
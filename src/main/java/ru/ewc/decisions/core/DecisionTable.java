@@ -24,9 +24,11 @@
 
 package ru.ewc.decisions.core;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.Set;
 import java.util.stream.StreamSupport;
 import ru.ewc.decisions.api.ComputableLocator;
 import ru.ewc.decisions.api.ComputationContext;
@@ -35,7 +37,8 @@ import ru.ewc.decisions.api.OutputTracker;
 
 /**
  * I am a collection of {@link Rule}s used to compute any kind of decision. My main responsibility
- * is to orchestrate the computation and choose the only satisfied {@link Rule}.
+ * is to orchestrate the computation and choose the satisfied {@link Rule}s according to my
+ * {@link HitPolicy}.
  *
  * @since 0.1
  */
@@ -43,7 +46,7 @@ public final class DecisionTable implements ComputableLocator {
     /**
      * A collection of table's {@link Rule}s.
      */
-    private final Iterable<Rule> rules;
+    private final List<Rule> rules;
 
     /**
      * The special {@link Rule} that gets satisfied only if no other {@link Rule} is satisfied.
@@ -56,6 +59,16 @@ public final class DecisionTable implements ComputableLocator {
      */
     private final String name;
 
+    /**
+     * The way this table chooses its satisfied {@link Rule}s.
+     */
+    private final HitPolicy policy;
+
+    /**
+     * The strategy to find the satisfied {@link Rule}s with.
+     */
+    private final RuleMatcher matcher;
+
     /**
      * Ctor.
      *
@@ -75,9 +88,72 @@ public final class DecisionTable implements ComputableLocator {
      * @param name The name of the table.
      */
     public DecisionTable(final Iterable<Rule> rules, final Rule elserule, final String name) {
-        this.rules = rules;
+        this(rules, elserule, name, HitPolicy.UNIQUE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param rules A collection of {@link Rule}s for this table.
+     * @param elserule The special {@link Rule} that gets satisfied only if no other {@link Rule} is
+     *  satisfied.
+     * @param name The name of the table.
+     * @param policy The way this table chooses its satisfied {@link Rule}s.
+     */
+    public DecisionTable(
+        final Iterable<Rule> rules,
+        final Rule elserule,
+        final String name,
+        final HitPolicy policy
+    ) {
+        this(rules, elserule, name, policy, MatchingEngine.AUTO);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param rules A collection of {@link Rule}s for this table.
+     * @param elserule The special {@link Rule} that gets satisfied only if no other {@link Rule} is
+     *  satisfied.
+     * @param name The name of the table.
+     * @param policy The way this table chooses its satisfied {@link Rule}s.
+     * @param engine The engine to find the satisfied {@link Rule}s with.
+     */
+    public DecisionTable(
+        final Iterable<Rule> rules,
+        final Rule elserule,
+        final String name,
+        final HitPolicy policy,
+        final MatchingEngine engine
+    ) {
+        this(rules, elserule, name, policy, engine, new Symbols());
+    }
+
+    /**
+     * Primary Ctor.
+     *
+     * @param rules A collection of {@link Rule}s for this table.
+     * @param elserule The special {@link Rule} that gets satisfied only if no other {@link Rule} is
+     *  satisfied.
+     * @param name The name of the table.
+     * @param policy The way this table chooses its satisfied {@link Rule}s.
+     * @param engine The engine to find the satisfied {@link Rule}s with.
+     * @param symbols The {@link Symbols} table of the tables being loaded, the same one the
+     *  {@link Rule}s were compiled with.
+     */
+    public DecisionTable(
+        final Iterable<Rule> rules,
+        final Rule elserule,
+        final String name,
+        final HitPolicy policy,
+        final MatchingEngine engine,
+        final Symbols symbols
+    ) {
+        this.rules = policy.ordered(StreamSupport.stream(rules.spliterator(), false).toList());
         this.elserule = elserule;
         this.name = name;
+        this.policy = policy;
+        this.matcher = engine.matcherFor(this.rules, symbols);
     }
 
     @Override
@@ -96,18 +172,45 @@ public final class DecisionTable implements ComputableLocator {
         // no-op method, nothing changes.
     }
 
+    /**
+     * Computes the outcome of the table. For the tables with the {@link HitPolicy#COLLECT} policy
+     * the outcomes of all the satisfied {@link Rule}s are merged into a display-only form, see
+     * {@link #outcomes(ComputationContext)} for the actual values.
+     *
+     * @param context The {@link ComputationContext} to make a decision in.
+     * @return The outcome of the satisfied {@link Rule}.
+     * @throws DecitaException If the {@link Rule}s cannot be checked.
+     */
     @Override
     public Map<String, String> outcome(final ComputationContext context) throws DecitaException {
-        final Map<String, String> outcome = this.determineSatisfiedRuleIn(context).outcome(context);
+        final Map<String, String> outcome = DecisionTable.merged(this.outcomes(context));
         context.logComputation(
             OutputTracker.EventType.TB,
-            "%s => %s".formatted(this.name, outcome)
+            () -> "%s => %s".formatted(this.name, outcome)
         );
         return outcome;
     }
 
+    /**
+     * Computes the outcomes of all the satisfied {@link Rule}s. Only the tables with the
+     * {@link HitPolicy#COLLECT} policy could have more than one outcome.
+     *
+     * @param context The {@link ComputationContext} to make a decision in.
+     * @return The outcomes of the satisfied {@link Rule}s in the order they were found.
+     * @throws DecitaException If the {@link Rule}s cannot be checked.
+     */
+    public List<Map<String, String>> outcomes(final ComputationContext context)
+        throws DecitaException {
+        return context.inFrame(
+            () -> this.satisfiedRulesIn(context).stream()
+                .map(rule -> rule.outcome(context))
+                .toList()
+        );
+    }
+
     public void perform(final ComputationContext context) {
-        this.determineSatisfiedRuleIn(context).perform(context);
+        final List<Rule> satisfied = context.inFrame(() -> this.satisfiedRulesIn(context));
+        satisfied.forEach(rule -> rule.perform(context));
     }
 
     /**
@@ -116,24 +219,59 @@ public final class DecisionTable implements ComputableLocator {
      * @return True if this table describes a command.
      */
     public boolean describesCommand() {
-        return this.ruleStream().anyMatch(Rule::describesCommand);
+        return this.rules.stream().anyMatch(Rule::describesCommand);
     }
 
     public List<String> commandArgs() {
-        return this.ruleStream().map(Rule::commandArgs).flatMap(List::stream).toList();
+        return this.rules.stream().map(Rule::commandArgs).flatMap(List::stream).toList();
     }
 
-    private Rule determineSatisfiedRuleIn(final ComputationContext context) {
-        final List<Rule> satisfied = this.ruleStream()
-            .filter(rule -> rule.check(context))
-            .toList();
-        if (satisfied.size() > 1) {
-            throw new DecitaException("%s - Multiple rules are satisfied".formatted(this.name));
+    /**
+     * Collects the names of the {@link ru.ewc.decisions.api.Locator}s referenced by the table's
+     * rules directly, i.e. not through the placeholders.
+     *
+     * @return The names of the referenced {@link ru.ewc.decisions.api.Locator}s.
+     */
+    public Set<String> referencedLocators() {
+        final Set<String> result = new HashSet<>();
+        this.rules.forEach(rule -> rule.collectLocators(result));
+        return result;
+    }
+
+    private List<Rule> satisfiedRulesIn(final ComputationContext context) {
+        final List<Rule> satisfied = this.matcher.satisfied(context, this.policy, this.name);
+        final List<Rule> result;
+        if (satisfied.isEmpty()) {
+            result = List.of(this.elserule);
+        } else {
+            result = satisfied;
         }
-        return satisfied.stream().findFirst().orElse(this.elserule);
+        return result;
     }
 
-    private Stream<Rule> ruleStream() {
-        return StreamSupport.stream(this.rules.spliterator(), false);
+    /**
+     * Merges several outcomes into a single one. The values of the same outcome are joined with
+     * commas in the order the outcomes were computed. The merged form is meant for displaying and
+     * logging only: the values containing commas could not be split back, so the callers needing
+     * the separate values should use {@link #outcomes(ComputationContext)}.
+     *
+     * @param outcomes The outcomes to merge.
+     * @return The single merged outcome.
+     */
+    private static Map<String, String> merged(final List<Map<String, String>> outcomes) {
+        final Map<String, String> result;
+        if (outcomes.size() == 1) {
+            result = outcomes.get(0);
+        } else {
+            result = new HashMap<>();
+            for (final Map<String, String> outcome : outcomes) {
+                outcome.forEach(
+                    (key, value) -> result.merge(
+                        key, value, (first, second) -> "%s,%s".formatted(first, second)
+                    )
+                );
+            }
+        }
+        return result;
     }
 }
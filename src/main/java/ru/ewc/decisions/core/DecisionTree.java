@@ -0,0 +1,483 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import ru.ewc.decisions.api.ComputationContext;
+
+/**
+ * I am the {@link RuleMatcher} that compiles the whole table into a decision tree, once, when the
+ * table is loaded. Every node of the tree branches on the value of a condition row comparing its
+ * base to constants, choosing the row that splits the remaining {@link Rule}s best. The
+ * {@link Rule}s with the same constants share the path, and every evaluation locates only the
+ * values on the taken path. The rest of the rows are checked in the leaves, as bitsets.
+ *
+ * <p>The tree fails just like the {@link Rule}s checked one by one. It branches only on the rows
+ * whose {@link Rule}s have all their earlier cells on the path, so the dropped {@link Rule}s
+ * would fail the sequential check without reaching any other cell. The {@link Rule}s that the
+ * leaves drop before checking their earlier cells are checked one by one, and so is the whole
+ * table, if some value on the path fails to be located or compared.
+ *
+ * @since 0.10.0
+ */
+final class DecisionTree implements RuleMatcher {
+    /**
+     * The table's {@link Rule}s, in the order they should be checked in.
+     */
+    private final List<Rule> rules;
+
+    /**
+     * The root of the tree.
+     */
+    private final Node root;
+
+    /**
+     * Ctor.
+     *
+     * @param rules The table's {@link Rule}s, in the order they should be checked in.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     */
+    DecisionTree(final List<Rule> rules, final Symbols symbols) {
+        this.rules = rules;
+        final Map<String, String[]> cells = BitsetMatcher.cellsOf(rules);
+        final Map<String, BitsetRow> rows = new LinkedHashMap<>();
+        final Map<String, String[]> constants = new HashMap<>();
+        cells.forEach(
+            (key, row) -> {
+                rows.put(key, BitsetMatcher.rowOf(key, row, symbols));
+                final String[] values = DecisionTree.constantsOf(row);
+                if (values != null) {
+                    constants.put(key, values);
+                }
+            }
+        );
+        final List<Integer> all = new ArrayList<>(rules.size());
+        for (int idx = 0; idx < rules.size(); idx += 1) {
+            all.add(idx);
+        }
+        this.root = new Builder(rules, rows, constants, symbols)
+            .nodeFor(all, List.copyOf(rows.keySet()));
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public List<Rule> satisfied(
+        final ComputationContext context,
+        final HitPolicy policy,
+        final String table
+    ) {
+        final long[] doubtful = new long[ConditionRow.wordsFor(this.rules.size())];
+        long[] alive;
+        try {
+            alive = this.root.alive(context, doubtful);
+        } catch (final RuntimeException exception) {
+            alive = null;
+        }
+        final List<Rule> result;
+        if (alive == null) {
+            result = policy.satisfied(this.rules, context, table);
+        } else {
+            result = policy.satisfied(
+                this.rules, BitsetMatcher.checkOf(alive, doubtful, this.rules, context), table
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Extracts the constants of the row, if every its cell compares the base to a constant.
+     *
+     * @param cells The cells of every {@link Rule}, {@code null} for the wildcard cells.
+     * @return The constants with {@code null}s for the wildcards or {@code null}, if the row
+     *  could not be branched on.
+     */
+    private static String[] constantsOf(final String[] cells) {
+        String[] result = new String[cells.length];
+        for (int idx = 0; idx < cells.length; idx += 1) {
+            if (cells[idx] != null) {
+                if (!EqualityIndex.isConstantEquality(cells[idx])) {
+                    result = null;
+                    break;
+                }
+                result[idx] = Coordinate.from(cells[idx]).fragment();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * I am a node of the tree.
+     *
+     * @since 0.10.0
+     */
+    private interface Node {
+        /**
+         * Finds the satisfied {@link Rule}s in the subtree.
+         *
+         * @param context The {@link ComputationContext} to locate the values in.
+         * @param doubtful The bitset of the {@link Rule}s to check one by one.
+         * @return The bitset of the satisfied {@link Rule}s.
+         */
+        long[] alive(ComputationContext context, long[] doubtful);
+    }
+
+    /**
+     * I am the node that chooses the subtree by the located value of the row's base.
+     *
+     * @since 0.10.0
+     */
+    private static final class Branch implements Node {
+        /**
+         * The base {@link Coordinate} of the row.
+         */
+        private final Coordinate base;
+
+        /**
+         * The subtrees, keyed by the row's constants.
+         */
+        private final Map<String, Node> children;
+
+        /**
+         * The subtree for the values not mentioned in the row.
+         */
+        private final Node fallback;
+
+        /**
+         * Ctor.
+         *
+         * @param base The base {@link Coordinate} of the row.
+         * @param children The subtrees, keyed by the row's constants.
+         * @param fallback The subtree for the values not mentioned in the row.
+         */
+        Branch(final Coordinate base, final Map<String, Node> children, final Node fallback) {
+            this.base = base;
+            this.children = children;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public long[] alive(final ComputationContext context, final long[] doubtful) {
+            return this.children.getOrDefault(
+                this.base.locateIn(context).fragment(),
+                this.fallback
+            ).alive(context, doubtful);
+        }
+    }
+
+    /**
+     * I am the node that checks the rest of the rows for the remaining {@link Rule}s.
+     *
+     * @since 0.10.0
+     */
+    private static final class Leaf implements Node {
+        /**
+         * The remaining {@link Rule}s, as a bitset.
+         */
+        private final long[] candidates;
+
+        /**
+         * The rows that are not checked yet.
+         */
+        private final List<BitsetRow> rows;
+
+        /**
+         * The {@link Rule}s whose cells in every row come before some of their cells in the
+         * later rows, as bitsets, {@code null} for the rows without such cells.
+         */
+        private final long[][] unordered;
+
+        /**
+         * Ctor.
+         *
+         * @param candidates The remaining {@link Rule}s, as a bitset.
+         * @param rows The rows that are not checked yet.
+         * @param unordered The {@link Rule}s whose cells in every row come before some of their
+         *  cells in the later rows.
+         */
+        Leaf(final long[] candidates, final List<BitsetRow> rows, final long[][] unordered) {
+            this.candidates = candidates;
+            this.rows = rows;
+            this.unordered = unordered;
+        }
+
+        @Override
+        public long[] alive(final ComputationContext context, final long[] doubtful) {
+            final long[] result = this.candidates.clone();
+            final long[] before = new long[result.length];
+            long left = 0L;
+            for (final long word : result) {
+                left |= word;
+            }
+            for (int idx = 0; left != 0L && idx < this.rows.size(); idx += 1) {
+                System.arraycopy(result, 0, before, 0, result.length);
+                if (!this.rows.get(idx).narrow(result, context)) {
+                    left = 0L;
+                }
+                if (this.unordered[idx] != null) {
+                    for (int word = 0; word < result.length; word += 1) {
+                        doubtful[word] |= before[word] & ~result[word] & this.unordered[idx][word];
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * I am the builder of the tree's nodes.
+     *
+     * @since 0.10.0
+     */
+    private static final class Builder {
+        /**
+         * The table's {@link Rule}s, in the order they should be checked in.
+         */
+        private final List<Rule> rules;
+
+        /**
+         * The keys of the rows of every {@link Rule}'s cells, in the order of the cells.
+         */
+        private final List<List<String>> orders;
+
+        /**
+         * All the table's rows, keyed by their base and occurrence.
+         */
+        private final Map<String, BitsetRow> rows;
+
+        /**
+         * The constants of the rows the tree could branch on.
+         */
+        private final Map<String, String[]> constants;
+
+        /**
+         * The {@link Symbols} table of the tables being loaded.
+         */
+        private final Symbols symbols;
+
+        /**
+         * Ctor.
+         *
+         * @param rules The table's {@link Rule}s, in the order they should be checked in.
+         * @param rows All the table's rows, keyed by their base and occurrence.
+         * @param constants The constants of the rows the tree could branch on.
+         * @param symbols The {@link Symbols} table of the tables being loaded.
+         */
+        Builder(
+            final List<Rule> rules,
+            final Map<String, BitsetRow> rows,
+            final Map<String, String[]> constants,
+            final Symbols symbols
+        ) {
+            this.rules = rules;
+            this.orders = rules.stream()
+                .map(rule -> BitsetMatcher.keysOf(rule.conditionFragments()))
+                .toList();
+            this.rows = rows;
+            this.constants = constants;
+            this.symbols = symbols;
+        }
+
+        /**
+         * Builds the node for the specified candidate {@link Rule}s.
+         *
+         * @param candidates The positions of the candidate {@link Rule}s.
+         * @param remaining The keys of the rows that are not checked yet.
+         * @return The node.
+         */
+        Node nodeFor(final List<Integer> candidates, final List<String> remaining) {
+            final String chosen = this.mostDiscriminating(candidates, remaining);
+            final Node result;
+            if (chosen == null) {
+                final long[] bits = new long[ConditionRow.wordsFor(this.rules.size())];
+                for (final int idx : candidates) {
+                    bits[idx >>> 6] |= 1L << idx;
+                }
+                final List<BitsetRow> left = new ArrayList<>(0);
+                for (final String key : remaining) {
+                    left.add(this.rows.get(key));
+                }
+                result = new Leaf(bits, left, this.unorderedOf(candidates, remaining));
+            } else {
+                final List<String> rest = new ArrayList<>(0);
+                for (final String key : remaining) {
+                    if (!key.equals(chosen)) {
+                        rest.add(key);
+                    }
+                }
+                final String[] values = this.constants.get(chosen);
+                final Map<String, List<Integer>> split = new LinkedHashMap<>();
+                final List<Integer> wildcards = new ArrayList<>(0);
+                for (final int idx : candidates) {
+                    if (values[idx] == null) {
+                        wildcards.add(idx);
+                    } else {
+                        split.computeIfAbsent(values[idx], k -> new ArrayList<>(1)).add(idx);
+                    }
+                }
+                final Map<String, Node> children = new HashMap<>(split.size() * 2);
+                split.forEach(
+                    (value, positions) -> children.put(
+                        value,
+                        this.nodeFor(Builder.merged(positions, wildcards), rest)
+                    )
+                );
+                result = new Branch(
+                    Coordinate.from(
+                        chosen.substring(0, chosen.lastIndexOf('#')), this.symbols
+                    ),
+                    children,
+                    this.nodeFor(wildcards, rest)
+                );
+            }
+            return result;
+        }
+
+        /**
+         * Chooses the row to branch on, i.e. the row with the smallest largest subtree. The
+         * rows that do not split the candidates are never chosen, and neither are the rows some
+         * candidate reaches before checking its cells in the other remaining rows.
+         *
+         * @param candidates The positions of the candidate {@link Rule}s.
+         * @param remaining The keys of the rows that are not checked yet.
+         * @return The key of the chosen row or {@code null}, if there's nothing to branch on.
+         */
+        private String mostDiscriminating(
+            final List<Integer> candidates,
+            final List<String> remaining
+        ) {
+            String result = null;
+            int best = candidates.size();
+            if (candidates.size() > 1) {
+                for (final String key : remaining) {
+                    final String[] values = this.constants.get(key);
+                    if (values != null && this.reachedFirst(key, candidates, remaining)) {
+                        final int largest = Builder.largestSubtree(values, candidates);
+                        if (largest < best) {
+                            best = largest;
+                            result = key;
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Checks if every candidate with a cell in the row reaches it before checking its cells
+         * in the other remaining rows.
+         *
+         * @param key The key of the row.
+         * @param candidates The positions of the candidate {@link Rule}s.
+         * @param remaining The keys of the rows that are not checked yet.
+         * @return True, if the row comes first for every candidate.
+         */
+        private boolean reachedFirst(
+            final String key,
+            final List<Integer> candidates,
+            final List<String> remaining
+        ) {
+            boolean result = true;
+            for (int idx = 0; result && idx < candidates.size(); idx += 1) {
+                final List<String> order = this.orders.get(candidates.get(idx));
+                final int position = order.indexOf(key);
+                for (int cell = 0; result && cell < position; cell += 1) {
+                    result = !remaining.contains(order.get(cell));
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Finds the candidates' cells that come before some of their cells in the later
+         * remaining rows.
+         *
+         * @param candidates The positions of the candidate {@link Rule}s.
+         * @param remaining The keys of the rows that are not checked yet, in the order of the
+         *  rows.
+         * @return The candidates with such cells in every remaining row, as bitsets,
+         *  {@code null} for the rows without such cells.
+         */
+        private long[][] unorderedOf(
+            final List<Integer> candidates,
+            final List<String> remaining
+        ) {
+            final long[][] result = new long[remaining.size()][];
+            for (final int idx : candidates) {
+                int latest = -1;
+                for (final String key : this.orders.get(idx)) {
+                    final int row = remaining.indexOf(key);
+                    if (row >= 0 && row < latest) {
+                        if (result[row] == null) {
+                            result[row] = new long[ConditionRow.wordsFor(this.rules.size())];
+                        }
+                        result[row][idx >>> 6] |= 1L << idx;
+                    }
+                    latest = Math.max(latest, row);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Computes the size of the largest subtree, if the candidates were split by the row.
+         *
+         * @param values The constants of the row, {@code null} for the wildcards.
+         * @param candidates The positions of the candidate {@link Rule}s.
+         * @return The number of the candidates in the largest subtree.
+         */
+        private static int largestSubtree(final String[] values, final List<Integer> candidates) {
+            final Map<String, Integer> counts = new HashMap<>();
+            int wildcards = 0;
+            int largest = 0;
+            for (final int idx : candidates) {
+                if (values[idx] == null) {
+                    wildcards += 1;
+                } else {
+                    largest = Math.max(largest, counts.merge(values[idx], 1, Integer::sum));
+                }
+            }
+            return largest + wildcards;
+        }
+
+        /**
+         * Merges two ordered lists of positions, preserving the order.
+         *
+         * @param first The first list of positions.
+         * @param second The second list of positions.
+         * @return The merged positions.
+         */
+        private static List<Integer> merged(final List<Integer> first, final List<Integer> second) {
+            final List<Integer> result = new ArrayList<>(first.size() + second.size());
+            result.addAll(first);
+            result.addAll(second);
+            result.sort(Integer::compare);
+            return result;
+        }
+    }
+}
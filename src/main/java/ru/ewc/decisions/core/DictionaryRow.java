@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import ru.ewc.decisions.api.ComputationContext;
+
+/**
+ * I am an equality row of a decision table over a small closed set of values, like the cell
+ * states {@code empty}, {@code X} and {@code O}. Every cell of mine is either a wildcard or
+ * compares the base value with a constant, maybe negated. I give every constant an ordinal once,
+ * when the table is loaded, and precompute the satisfied {@link Rule}s for every ordinal, as
+ * bitsets. So every evaluation finds the ordinal of the located value and takes its bitset, instead
+ * of comparing the value with each cell. The values outside the dictionary satisfy only the
+ * wildcards and the negations.
+ *
+ * @since 0.10.0
+ */
+final class DictionaryRow implements BitsetRow {
+    /**
+     * The largest number of the distinct constants in a row.
+     */
+    static final int MAX_VALUES = 256;
+
+    /**
+     * The base {@link Coordinate} shared by all the row's cells.
+     */
+    private final Coordinate base;
+
+    /**
+     * The ordinals of the row's constants.
+     */
+    private final Map<String, Integer> ordinals;
+
+    /**
+     * The {@link Rule}s satisfied by every constant, as bitsets indexed by the ordinals.
+     */
+    private final long[][] matches;
+
+    /**
+     * The {@link Rule}s satisfied by the values outside the dictionary, as a bitset.
+     */
+    private final long[] others;
+
+    /**
+     * Ctor.
+     *
+     * @param base The base {@link Coordinate} description.
+     * @param cells The cells of every {@link Rule}, {@code null} for the wildcard cells.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     */
+    DictionaryRow(final String base, final String[] cells, final Symbols symbols) {
+        this.base = Coordinate.from(base, symbols);
+        this.ordinals = new HashMap<>();
+        for (final String cell : cells) {
+            if (cell != null) {
+                this.ordinals.putIfAbsent(DictionaryRow.constantOf(cell), this.ordinals.size());
+            }
+        }
+        final int words = ConditionRow.wordsFor(cells.length);
+        this.matches = new long[this.ordinals.size()][words];
+        this.others = new long[words];
+        for (int idx = 0; idx < cells.length; idx += 1) {
+            final long bit = 1L << idx;
+            final int word = idx >>> 6;
+            if (cells[idx] == null || cells[idx].charAt(0) == '!') {
+                this.others[word] |= bit;
+                for (final long[] match : this.matches) {
+                    match[word] |= bit;
+                }
+            }
+            if (cells[idx] != null) {
+                final long[] match = this.matches[
+                    this.ordinals.get(DictionaryRow.constantOf(cells[idx]))
+                ];
+                if (cells[idx].charAt(0) == '!') {
+                    match[word] &= ~bit;
+                } else {
+                    match[word] |= bit;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the row consists only of the constant equalities, maybe negated, and the
+     * wildcards, and if the constants are few enough.
+     *
+     * @param cells The cells of every {@link Rule}, {@code null} for the wildcard cells.
+     * @return True, if the row could be represented as a {@link DictionaryRow}.
+     */
+    static boolean accepts(final String[] cells) {
+        final Set<String> values = new HashSet<>();
+        boolean result = true;
+        for (final String cell : cells) {
+            if (cell != null) {
+                result = EqualityIndex.isConstantEquality(cell)
+                    || cell.length() > 1 && cell.charAt(0) == '!'
+                    && EqualityIndex.isConstantEquality(cell.substring(1));
+                if (!result) {
+                    break;
+                }
+                values.add(DictionaryRow.constantOf(cell));
+            }
+        }
+        return result && !values.isEmpty() && values.size() <= DictionaryRow.MAX_VALUES;
+    }
+
+    @Override
+    public boolean narrow(final long[] alive, final ComputationContext context) {
+        final Integer ordinal = this.ordinals.get(this.base.locateIn(context).fragment());
+        final long[] hits;
+        if (ordinal == null) {
+            hits = this.others;
+        } else {
+            hits = this.matches[ordinal];
+        }
+        long left = 0L;
+        for (int word = 0; word < alive.length; word += 1) {
+            alive[word] &= hits[word];
+            left |= alive[word];
+        }
+        return left != 0L;
+    }
+
+    /**
+     * Extracts the constant the cell compares the base value with.
+     *
+     * @param cell The equality cell, maybe negated.
+     * @return The constant.
+     */
+    private static String constantOf(final String cell) {
+        final String result;
+        if (cell.charAt(0) == '!') {
+            result = Coordinate.from(cell.substring(1)).fragment();
+        } else {
+            result = Coordinate.from(cell).fragment();
+        }
+        return result;
+    }
+}
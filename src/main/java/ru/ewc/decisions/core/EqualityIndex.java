@@ -0,0 +1,286 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.RuleFragment;
+
+/**
+ * I am the {@link RuleMatcher} for the lookup-style tables, i.e. the tables with the conditions
+ * comparing some values to constants. I hash the constant cells of such conditions into the
+ * composite keys once, when the table is loaded. Then every evaluation locates each indexed
+ * value only once, in the current evaluation frame, so that the candidate {@link Rule}s find it
+ * there, and checks only the candidates with the matching key. The {@link Rule}s that do not
+ * start with their indexed conditions are candidates for every key. The rest of the
+ * {@link Rule}s are reported as failed without checking them. The values are not located any
+ * further once some of them matches no key.
+ *
+ * @since 0.10.0
+ */
+final class EqualityIndex implements RuleMatcher {
+    /**
+     * The minimal number of {@link Rule}s for the index to pay off.
+     */
+    static final int MIN_RULES = 8;
+
+    /**
+     * The table's {@link Rule}s, in the order they should be checked in.
+     */
+    private final List<Rule> rules;
+
+    /**
+     * The base {@link Coordinate}s of the indexed conditions, in the order of the key parts.
+     */
+    private final List<Coordinate> bases;
+
+    /**
+     * The positions of the candidate {@link Rule}s, keyed by the values of the indexed conditions.
+     */
+    private final Map<List<String>, int[]> candidates;
+
+    /**
+     * The values every indexed condition is compared to, in the order of the key parts.
+     */
+    private final List<Set<String>> values;
+
+    /**
+     * The {@link Rule}s that accept any value in some of the indexed conditions or do not start
+     * with them, so they are candidates for every key, as a bitset.
+     */
+    private final long[] unkeyed;
+
+    /**
+     * Ctor.
+     *
+     * @param rules The table's {@link Rule}s, in the order they should be checked in.
+     * @param bases The base {@link Coordinate}s of the indexed conditions.
+     * @param candidates The positions of the candidate {@link Rule}s, keyed by the indexed values.
+     * @param unkeyed The positions of the {@link Rule}s that are candidates for every key.
+     */
+    private EqualityIndex(
+        final List<Rule> rules,
+        final List<Coordinate> bases,
+        final Map<List<String>, int[]> candidates,
+        final int[] unkeyed
+    ) {
+        this.rules = rules;
+        this.bases = bases;
+        this.candidates = candidates;
+        this.unkeyed = new long[ConditionRow.wordsFor(rules.size())];
+        for (final int idx : unkeyed) {
+            this.unkeyed[idx >>> 6] |= 1L << idx;
+        }
+        this.values = new ArrayList<>(bases.size());
+        for (int part = 0; part < bases.size(); part += 1) {
+            final Set<String> known = new HashSet<>();
+            for (final List<String> key : candidates.keySet()) {
+                known.add(key.get(part));
+            }
+            this.values.add(known);
+        }
+    }
+
+    /**
+     * Builds the index for the specified {@link Rule}s, if it makes sense.
+     *
+     * @param rules The table's {@link Rule}s, in the order they should be checked in.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     * @return The index or nothing, if the {@link Rule}s are not suitable for indexing.
+     */
+    static Optional<RuleMatcher> suitableFor(final List<Rule> rules, final Symbols symbols) {
+        final List<String> keys = EqualityIndex.indexableBasesOf(rules);
+        final Map<List<String>, List<Integer>> keyed = new HashMap<>();
+        final List<Integer> unkeyed = new ArrayList<>(0);
+        if (rules.size() >= EqualityIndex.MIN_RULES && !keys.isEmpty()) {
+            for (int idx = 0; idx < rules.size(); idx += 1) {
+                final List<String> key = EqualityIndex.keyOf(rules.get(idx), keys);
+                if (key.contains(null) || !EqualityIndex.startsWith(rules.get(idx), keys)) {
+                    unkeyed.add(idx);
+                } else {
+                    keyed.computeIfAbsent(key, k -> new ArrayList<>(1)).add(idx);
+                }
+            }
+        }
+        final Optional<RuleMatcher> result;
+        if (keyed.isEmpty()) {
+            result = Optional.empty();
+        } else {
+            final Map<List<String>, int[]> candidates = new HashMap<>(keyed.size() * 2);
+            keyed.forEach(
+                (key, positions) -> candidates.put(key, EqualityIndex.asArray(positions))
+            );
+            result = Optional.of(
+                new EqualityIndex(
+                    rules,
+                    keys.stream().map(key -> Coordinate.from(key, symbols)).toList(),
+                    candidates,
+                    EqualityIndex.asArray(unkeyed)
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Finds the satisfied {@link Rule}s. If some indexed value could not be located, the
+     * {@link Rule}s are checked one by one instead, so that the table fails only where the
+     * sequential check does.
+     *
+     * @param context The {@link ComputationContext} to locate the values in.
+     * @param policy The {@link HitPolicy} to choose the {@link Rule}s with.
+     * @param table The name of the table, used in the error messages.
+     * @return The satisfied {@link Rule}s.
+     */
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public List<Rule> satisfied(
+        final ComputationContext context,
+        final HitPolicy policy,
+        final String table
+    ) {
+        final List<String> key = new ArrayList<>(this.bases.size());
+        boolean known = true;
+        boolean located = true;
+        for (int part = 0; known && located && part < this.bases.size(); part += 1) {
+            try {
+                final String value = this.bases.get(part).locateIn(context).fragment();
+                known = this.values.get(part).contains(value);
+                key.add(value);
+            } catch (final RuntimeException exception) {
+                located = false;
+            }
+        }
+        final List<Rule> result;
+        if (located) {
+            final long[] chosen = this.unkeyed.clone();
+            if (known) {
+                for (final int idx : this.candidates.getOrDefault(key, new int[0])) {
+                    chosen[idx >>> 6] |= 1L << idx;
+                }
+            }
+            result = policy.satisfied(
+                this.rules,
+                BitsetMatcher.checkOf(new long[chosen.length], chosen, this.rules, context),
+                table
+            );
+        } else {
+            result = policy.satisfied(this.rules, context, table);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the bases of the conditions that could be indexed, i.e. the conditions that either
+     * compare the base to a constant or accept any value in every {@link Rule}.
+     *
+     * @param rules The table's {@link Rule}s.
+     * @return The bases of the indexable conditions.
+     */
+    private static List<String> indexableBasesOf(final List<Rule> rules) {
+        final Set<String> bases = new LinkedHashSet<>();
+        final Set<String> rejected = new LinkedHashSet<>();
+        for (final Rule rule : rules) {
+            final Set<String> seen = new LinkedHashSet<>();
+            for (final RuleFragment fragment : rule.conditionFragments()) {
+                bases.add(fragment.left());
+                if (!seen.add(fragment.left())
+                    || !EqualityIndex.isConstantEquality(fragment.right())) {
+                    rejected.add(fragment.left());
+                }
+            }
+        }
+        bases.removeAll(rejected);
+        return List.copyOf(bases);
+    }
+
+    /**
+     * Computes the key of the {@link Rule}, i.e. the constants its indexed conditions compare
+     * their bases to.
+     *
+     * @param rule The {@link Rule} to compute the key of.
+     * @param keys The bases of the indexed conditions.
+     * @return The key with {@code null}s for the conditions accepting any value.
+     */
+    private static List<String> keyOf(final Rule rule, final List<String> keys) {
+        final Map<String, String> cells = new HashMap<>();
+        for (final RuleFragment fragment : rule.conditionFragments()) {
+            cells.put(fragment.left(), fragment.right());
+        }
+        final List<String> result = new ArrayList<>(keys.size());
+        for (final String base : keys) {
+            final String cell = cells.get(base);
+            if (cell == null) {
+                result.add(null);
+            } else {
+                result.add(Coordinate.from(cell).fragment());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the {@link Rule} starts with its indexed conditions. Only such a {@link Rule} can
+     * be reported as failed without checking it: the sequential check reaches its first
+     * mismatching indexed condition without comparing anything but the indexed values, so it
+     * never fails before that.
+     *
+     * @param rule The {@link Rule} to check.
+     * @param keys The bases of the indexed conditions.
+     * @return True, if the indexed conditions come before the rest of the {@link Rule}'s ones.
+     */
+    private static boolean startsWith(final Rule rule, final List<String> keys) {
+        final List<RuleFragment> fragments = rule.conditionFragments();
+        boolean result = true;
+        for (int idx = 0; result && idx < keys.size(); idx += 1) {
+            result = keys.contains(fragments.get(idx).left());
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the cell compares the base to a constant. The cells starting with {@code ~} accept
+     * any value, whatever follows the tilde, so they are not the constant equalities.
+     *
+     * @param cell The cell to check.
+     * @return True, if the cell is a constant equality.
+     */
+    static boolean isConstantEquality(final String cell) {
+        final char operation = cell.charAt(0);
+        return operation != '!' && operation != '>' && operation != '<' && operation != '~'
+            && Coordinate.from(cell).isConstant();
+    }
+
+    private static int[] asArray(final List<Integer> positions) {
+        return positions.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
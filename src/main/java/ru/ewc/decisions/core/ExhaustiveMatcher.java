@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ru.ewc.decisions.core;
+
+import java.util.List;
+import ru.ewc.decisions.api.ComputationContext;
+
+/**
+ * I am the guard of the {@link RuleMatcher}s that check all the {@link Rule}s at once, i.e. the
+ * {@link BitsetMatcher}, the {@link EqualityIndex}, the {@link DecisionTree} and the compiled
+ * tables. Such a matcher checks every {@link Rule}, so it is used only for the {@link HitPolicy}s
+ * that check every {@link Rule} anyway. The policies stopping at the first satisfied {@link Rule}
+ * check the {@link Rule}s one by one, so that no condition is checked for the {@link Rule}s that
+ * are never reached. The guarded matcher reports every {@link Rule} it decides on by itself, so
+ * the same matcher is used whether the computation events are tracked or not.
+ *
+ * @since 0.10.0
+ */
+final class ExhaustiveMatcher implements RuleMatcher {
+    /**
+     * The table's {@link Rule}s, in the order they should be checked in.
+     */
+    private final List<Rule> rules;
+
+    /**
+     * The matcher checking all the {@link Rule}s at once.
+     */
+    private final RuleMatcher matcher;
+
+    /**
+     * Ctor.
+     *
+     * @param rules The table's {@link Rule}s, in the order they should be checked in.
+     * @param matcher The matcher checking all the {@link Rule}s at once.
+     */
+    ExhaustiveMatcher(final List<Rule> rules, final RuleMatcher matcher) {
+        this.rules = rules;
+        this.matcher = matcher;
+    }
+
+    @Override
+    public List<Rule> satisfied(
+        final ComputationContext context,
+        final HitPolicy policy,
+        final String table
+    ) {
+        final List<Rule> result;
+        if (policy.checksEveryRule()) {
+            result = this.matcher.satisfied(context, policy, table);
+        } else {
+            result = policy.satisfied(this.rules, context, table);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the matcher checking all the {@link Rule}s at once. Used for testing purposes.
+     *
+     * @return The guarded matcher.
+     */
+    RuleMatcher guarded() {
+        return this.matcher;
+    }
+}
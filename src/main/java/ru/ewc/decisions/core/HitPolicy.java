@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntPredicate;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the hit policy of a {@link DecisionTable}, i.e. the way the table chooses its satisfied
+ * {@link Rule}s. Every policy checks the {@link Rule}s only until its result is known for sure.
+ * The policy is declared in the table's source file by a {@code HIT} line, e.g. {@code HIT;FIRST}.
+ *
+ * @since 0.10.0
+ */
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public enum HitPolicy {
+    /**
+     * At most one {@link Rule} could be satisfied, the table fails as soon as the second satisfied
+     * {@link Rule} is found. This is the default policy.
+     */
+    UNIQUE {
+        @Override
+        public List<Rule> satisfied(
+            final List<Rule> rules,
+            final IntPredicate check,
+            final String table
+        ) {
+            Rule found = null;
+            for (int idx = 0; idx < rules.size(); idx += 1) {
+                if (check.test(idx)) {
+                    if (found != null) {
+                        throw new DecitaException(
+                            "%s - Multiple rules are satisfied".formatted(table)
+                        );
+                    }
+                    found = rules.get(idx);
+                }
+            }
+            final List<Rule> result;
+            if (found == null) {
+                result = List.of();
+            } else {
+                result = List.of(found);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean checksEveryRule() {
+            return true;
+        }
+    },
+
+    /**
+     * The first satisfied {@link Rule} (in the order of the table's columns) wins, the rest of the
+     * {@link Rule}s are not checked at all.
+     */
+    FIRST {
+        @Override
+        public List<Rule> satisfied(
+            final List<Rule> rules,
+            final IntPredicate check,
+            final String table
+        ) {
+            return HitPolicy.firstOf(rules, check);
+        }
+    },
+
+    /**
+     * The satisfied {@link Rule} with the highest priority (declared by the {@code PRI} line) wins.
+     * The {@link Rule}s are sorted by their priorities once, so the rest of the {@link Rule}s are
+     * not checked after the first satisfied one.
+     */
+    PRIORITY {
+        @Override
+        public List<Rule> ordered(final List<Rule> rules) {
+            return rules.stream()
+                .sorted(Comparator.comparingInt(Rule::priority).reversed())
+                .toList();
+        }
+
+        @Override
+        public List<Rule> satisfied(
+            final List<Rule> rules,
+            final IntPredicate check,
+            final String table
+        ) {
+            return HitPolicy.firstOf(rules, check);
+        }
+    },
+
+    /**
+     * All the satisfied {@link Rule}s are collected in the order of the table's columns.
+     */
+    COLLECT {
+        @Override
+        public List<Rule> satisfied(
+            final List<Rule> rules,
+            final IntPredicate check,
+            final String table
+        ) {
+            final List<Rule> result = new ArrayList<>(rules.size());
+            for (int idx = 0; idx < rules.size(); idx += 1) {
+                if (check.test(idx)) {
+                    result.add(rules.get(idx));
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public boolean checksEveryRule() {
+            return true;
+        }
+    };
+
+    /**
+     * Creates a {@link HitPolicy} from its name (case-insensitive).
+     *
+     * @param name The name of the policy.
+     * @return The {@link HitPolicy} instance.
+     * @throws DecitaException If there's no policy with such a name.
+     */
+    public static HitPolicy from(final String name) throws DecitaException {
+        try {
+            return HitPolicy.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException exception) {
+            throw new DecitaException("Unknown hit policy '%s'".formatted(name));
+        }
+    }
+
+    /**
+     * Arranges the table's {@link Rule}s in the order they should be checked in.
+     *
+     * @param rules The table's {@link Rule}s in the order of the table's columns.
+     * @return The {@link Rule}s in the order they should be checked in.
+     */
+    public List<Rule> ordered(final List<Rule> rules) {
+        return List.copyOf(rules);
+    }
+
+    /**
+     * Tells whether this policy has to check every {@link Rule} of the table, rather than
+     * stopping at the first satisfied one.
+     *
+     * @return True, if every {@link Rule} is checked.
+     */
+    public boolean checksEveryRule() {
+        return false;
+    }
+
+    /**
+     * Finds the satisfied {@link Rule}s.
+     *
+     * @param rules The {@link Rule}s to check, arranged by the {@link #ordered(List)} method.
+     * @param context The {@link ComputationContext} to check the {@link Rule}s in.
+     * @param table The name of the table, used in the error messages.
+     * @return The satisfied {@link Rule}s, empty if there are none.
+     * @throws DecitaException If the satisfied {@link Rule}s violate this policy.
+     */
+    public List<Rule> satisfied(
+        final List<Rule> rules,
+        final ComputationContext context,
+        final String table
+    ) throws DecitaException {
+        return this.satisfied(rules, idx -> rules.get(idx).check(context), table);
+    }
+
+    /**
+     * Finds the satisfied {@link Rule}s, asking the check about each of them in turn. Used by the
+     * {@link RuleMatcher}s that check all the {@link Rule}s at once: the check reports the
+     * results they already know, so the {@link Rule}s are still reported and the errors are
+     * still thrown in the order the {@link Rule}s are checked in.
+     *
+     * @param rules The {@link Rule}s to check, arranged by the {@link #ordered(List)} method.
+     * @param check The check telling whether the {@link Rule} at the position is satisfied.
+     * @param table The name of the table, used in the error messages.
+     * @return The satisfied {@link Rule}s, empty if there are none.
+     * @throws DecitaException If the satisfied {@link Rule}s violate this policy.
+     */
+    public abstract List<Rule> satisfied(List<Rule> rules, IntPredicate check, String table)
+        throws DecitaException;
+
+    private static List<Rule> firstOf(final List<Rule> rules, final IntPredicate check) {
+        List<Rule> result = List.of();
+        for (int idx = 0; idx < rules.size(); idx += 1) {
+            if (check.test(idx)) {
+                result = List.of(rules.get(idx));
+                break;
+            }
+        }
+        return result;
+    }
+}
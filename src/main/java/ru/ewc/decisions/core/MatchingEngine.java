@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.List;
+import java.util.Locale;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the engine a {@link DecisionTable} uses to find its satisfied {@link Rule}s. The engine is
+ * declared in the table's source file by an {@code ENG} line, e.g. {@code ENG;TREE}. If it's not
+ * declared, the table chooses the most suitable engine itself.
+ *
+ * @since 0.10.0
+ */
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public enum MatchingEngine {
+    /**
+     * The engine is chosen according to the table's shape. This is the default engine.
+     */
+    AUTO {
+        @Override
+        public RuleMatcher matcherFor(final List<Rule> rules, final Symbols symbols) {
+            return RuleMatcher.suitableFor(rules, symbols);
+        }
+    },
+
+    /**
+     * The {@link Rule}s are checked one by one.
+     */
+    SEQUENTIAL {
+        @Override
+        public RuleMatcher matcherFor(final List<Rule> rules, final Symbols symbols) {
+            return new SequentialMatcher(rules);
+        }
+    },
+
+    /**
+     * The {@link Rule}s are narrowed row by row, as bitsets.
+     */
+    BITSET {
+        @Override
+        public RuleMatcher matcherFor(final List<Rule> rules, final Symbols symbols) {
+            return new ExhaustiveMatcher(rules, new BitsetMatcher(rules, symbols));
+        }
+    },
+
+    /**
+     * The table is compiled into the JVM bytecode of its own hidden class.
+     */
+    BYTECODE {
+        @Override
+        public RuleMatcher matcherFor(final List<Rule> rules, final Symbols symbols) {
+            return new ExhaustiveMatcher(rules, BytecodeMatcher.compiledFor(rules, symbols));
+        }
+    },
+
+    /**
+     * The table is compiled into a decision tree that branches on the values of the conditions
+     * comparing their bases to constants.
+     */
+    TREE {
+        @Override
+        public RuleMatcher matcherFor(final List<Rule> rules, final Symbols symbols) {
+            return new ExhaustiveMatcher(rules, new DecisionTree(rules, symbols));
+        }
+    };
+
+    /**
+     * Creates a {@link MatchingEngine} from its name (case-insensitive).
+     *
+     * @param name The name of the engine.
+     * @return The {@link MatchingEngine} instance.
+     * @throws DecitaException If there's no engine with such a name.
+     */
+    public static MatchingEngine from(final String name) throws DecitaException {
+        try {
+            return MatchingEngine.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException exception) {
+            throw new DecitaException("Unknown matching engine '%s'".formatted(name));
+        }
+    }
+
+    /**
+     * Builds the {@link RuleMatcher} for the specified {@link Rule}s, giving the
+     * {@link ru.ewc.decisions.api.Locator}s' names of its own conditions no IDs.
+     *
+     * @param rules The table's {@link Rule}s, in the order they should be checked in.
+     * @return The {@link RuleMatcher} to use for those {@link Rule}s.
+     */
+    public RuleMatcher matcherFor(final List<Rule> rules) {
+        return this.matcherFor(rules, new Symbols());
+    }
+
+    /**
+     * Builds the {@link RuleMatcher} for the specified {@link Rule}s.
+     *
+     * @param rules The table's {@link Rule}s, in the order they should be checked in.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     * @return The {@link RuleMatcher} to use for those {@link Rule}s.
+     */
+    public abstract RuleMatcher matcherFor(List<Rule> rules, Symbols symbols);
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.List;
+import ru.ewc.decisions.api.ComputationContext;
+
+/**
+ * I am the default {@link RuleMatcher} for the ordinary tables, i.e. the ones too small for the
+ * {@link BitsetMatcher} to pay off by itself. Every {@link Rule} has its own copy of each
+ * condition's base {@link Coordinate}, so checking the {@link Rule}s one by one locates the same
+ * base once per {@link Rule}. Instead, I check the table row by row: each row's base is located
+ * once and all the still satisfied {@link Rule}s' cells are tested against it, so the
+ * {@link Rule}s are dropped as soon as one of their cells fails.
+ *
+ * <p>The row-by-row check has to check every {@link Rule}, so it is guarded by the
+ * {@link ExhaustiveMatcher}: the {@link Rule}s are checked one by one for the {@link HitPolicy}s
+ * stopping at the first satisfied {@link Rule}.
+ *
+ * @since 0.10.0
+ */
+final class RowMajorMatcher implements RuleMatcher {
+    /**
+     * The row-by-row matcher for the same {@link Rule}s, guarded against the policies and the
+     * contexts it does not fit.
+     */
+    private final RuleMatcher rows;
+
+    /**
+     * Ctor.
+     *
+     * @param rules The table's {@link Rule}s, in the order they should be checked in.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     */
+    RowMajorMatcher(final List<Rule> rules, final Symbols symbols) {
+        this.rows = new ExhaustiveMatcher(rules, new BitsetMatcher(rules, symbols));
+    }
+
+    @Override
+    public List<Rule> satisfied(
+        final ComputationContext context,
+        final HitPolicy policy,
+        final String table
+    ) {
+        return this.rows.satisfied(context, policy, table);
+    }
+}
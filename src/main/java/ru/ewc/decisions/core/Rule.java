@@ -24,8 +24,10 @@
 
 package ru.ewc.decisions.core;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.EqualsAndHashCode;
 import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.api.DecitaException;
@@ -38,6 +40,8 @@ import ru.ewc.decisions.conditions.Condition;
 /**
  * I am a single Rule (i.e. the column in the decision table). My main responsibility is to check
  * whether all my second-order {@link Condition}s are {@code true} and if so - compute my outcomes.
+ * All my {@link Condition}s, {@link Assignment}s and outcomes are compiled once, when I'm created,
+ * and then reused by every evaluation.
  *
  * @since 0.1
  */
@@ -54,13 +58,68 @@ public final class Rule {
      */
     private final DecisionRuleFragments fragments;
 
+    /**
+     * The compiled {@link Condition}s of this rule.
+     */
+    @EqualsAndHashCode.Exclude
+    private final List<Condition> conditions;
+
+    /**
+     * The compiled {@link Assignment}s of this rule.
+     */
+    @EqualsAndHashCode.Exclude
+    private final List<Assignment> assignments;
+
+    /**
+     * The compiled outcomes of this rule, i.e. the outcome names and the {@link Coordinate}s of
+     * their values.
+     */
+    @EqualsAndHashCode.Exclude
+    private final Map<String, Coordinate> outcomes;
+
+    /**
+     * The priority of this rule, used by the {@link HitPolicy#PRIORITY} policy.
+     */
+    @EqualsAndHashCode.Exclude
+    private final int priority;
+
     public Rule(final String name, final DecisionRuleFragments fragments) {
+        this(name, fragments, new Symbols());
+    }
+
+    /**
+     * Primary Ctor.
+     *
+     * @param name The rule's name.
+     * @param fragments The rule's fragments.
+     * @param symbols The {@link Symbols} table of the tables being loaded, that gives the
+     *  {@link ru.ewc.decisions.api.Locator}s' names their IDs.
+     */
+    public Rule(
+        final String name,
+        final DecisionRuleFragments fragments,
+        final Symbols symbols
+    ) {
         this.name = name;
         this.fragments = fragments;
+        this.conditions = fragments.conditions(symbols);
+        this.assignments = fragments.assignments(symbols);
+        this.outcomes = fragments.outcomes(symbols);
+        this.priority = fragments.priority();
     }
 
     public Rule(final RuleFragments fragments) {
-        this(fragments.header(), new DecisionRuleFragments(fragments));
+        this(fragments, new Symbols());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param fragments The rule's fragments, including its header.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     */
+    public Rule(final RuleFragments fragments, final Symbols symbols) {
+        this(fragments.header(), new DecisionRuleFragments(fragments), symbols);
     }
 
     public Rule(final String name, final RuleFragments fragments) {
@@ -82,13 +141,62 @@ public final class Rule {
      * @throws DecitaException If the rule's {@link Condition}s could not be resolved.
      */
     public boolean check(final ComputationContext context) throws DecitaException {
-        final boolean result = this.fragments.conditions().stream()
-            .allMatch(c -> c.evaluate(context));
+        boolean result = true;
+        for (final Condition condition : this.conditions) {
+            if (!condition.evaluate(context)) {
+                result = false;
+                break;
+            }
+        }
+        return this.logged(result, context);
+    }
+
+    /**
+     * Reports the result of checking this {@link Rule}, just like the {@link #check} method does.
+     * Used by the {@link RuleMatcher}s that already know the result without checking the
+     * {@link Rule}'s {@link Condition}s one by one. While the computation events are tracked, the
+     * {@link Condition}s are reported as well, up to the first one that fails. The matchers only
+     * pass the results they are sure about, so such a {@link Rule} gets through its
+     * {@link Condition}s without failure, and the reported result stays the same.
+     *
+     * @param satisfied Whether this {@link Rule} is satisfied.
+     * @param context The {@link ComputationContext} to report the result in.
+     * @return The reported result.
+     */
+    boolean reported(final boolean satisfied, final ComputationContext context) {
+        if (context.isTracked()) {
+            for (final Condition condition : this.conditions) {
+                if (!condition.evaluate(context)) {
+                    break;
+                }
+            }
+        }
+        return this.logged(satisfied, context);
+    }
+
+    /**
+     * Logs the result of checking this {@link Rule}.
+     *
+     * @param satisfied Whether this {@link Rule} is satisfied.
+     * @param context The {@link ComputationContext} to log the result in.
+     * @return The logged result.
+     */
+    private boolean logged(final boolean satisfied, final ComputationContext context) {
         context.logComputation(
             OutputTracker.EventType.RL,
-            "%s => %s".formatted(this.asString(), result)
+            () -> "%s => %s".formatted(this.asString(), satisfied)
         );
-        return result;
+        return satisfied;
+    }
+
+    /**
+     * Returns the source fragments of this rule's conditions. Used by the {@link RuleMatcher}s
+     * to precompute their data when the table is loaded.
+     *
+     * @return The list of this rule's condition fragments.
+     */
+    public List<RuleFragment> conditionFragments() {
+        return this.fragments.conditionFragments();
     }
 
     /**
@@ -98,7 +206,11 @@ public final class Rule {
      * @return The simple dictionary, containing all this rule's outcomes.
      */
     public Map<String, String> outcome(final ComputationContext context) {
-        return this.fragments.outcomes(context);
+        final Map<String, String> result = new HashMap<>(this.outcomes.size() * 2);
+        for (final Map.Entry<String, Coordinate> entry : this.outcomes.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().valueIn(context));
+        }
+        return result;
     }
 
     /**
@@ -107,7 +219,7 @@ public final class Rule {
      * @param context The {@link ComputationContext} to perform the assignments in.
      */
     public void perform(final ComputationContext context) {
-        this.fragments.assignments().forEach(a -> a.performIn(context));
+        this.assignments.forEach(a -> a.performIn(context));
     }
 
     /**
@@ -116,16 +228,36 @@ public final class Rule {
      * @return True if this rule describes a command.
      */
     public boolean describesCommand() {
-        return !this.fragments.assignments().isEmpty();
+        return !this.assignments.isEmpty();
     }
 
     public List<String> commandArgs() {
-        return this.fragments.assignments().stream()
+        return this.assignments.stream()
             .map(Assignment::commandArgs)
             .flatMap(List::stream)
             .toList();
     }
 
+    /**
+     * Returns the priority of this rule. The satisfied rule with the highest priority wins in the
+     * tables with the {@link HitPolicy#PRIORITY} policy.
+     *
+     * @return The priority of this rule, zero if it's not specified.
+     */
+    public int priority() {
+        return this.priority;
+    }
+
+    /**
+     * Collects the names of the {@link ru.ewc.decisions.api.Locator}s referenced by the rule
+     * directly, i.e. not through the placeholders.
+     *
+     * @param names The collection to add the names to.
+     */
+    public void collectLocators(final Set<String> names) {
+        this.fragments.collectLocators(names);
+    }
+
     public String asString() {
         return this.name;
     }
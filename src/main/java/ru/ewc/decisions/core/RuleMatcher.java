@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.List;
+import java.util.Optional;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the strategy a {@link DecisionTable} uses to find its satisfied {@link Rule}s. My
+ * implementations are built once, when the table is loaded, and could use any precomputed data
+ * to avoid checking the {@link Rule}s that cannot be satisfied.
+ *
+ * @since 0.10.0
+ */
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public interface RuleMatcher {
+    /**
+     * Chooses the most suitable {@link RuleMatcher} for the specified {@link Rule}s. The matchers
+     * checking all the {@link Rule}s at once are guarded by the {@link ExhaustiveMatcher}, so they
+     * are used only where the {@link Rule}s checked one by one would give the same result.
+     *
+     * @param rules The table's {@link Rule}s, in the order they should be checked in.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     * @return The {@link RuleMatcher} to use for those {@link Rule}s.
+     */
+    static RuleMatcher suitableFor(final List<Rule> rules, final Symbols symbols) {
+        final Optional<RuleMatcher> index = EqualityIndex.suitableFor(rules, symbols);
+        final RuleMatcher result;
+        if (index.isPresent()) {
+            result = new ExhaustiveMatcher(rules, index.get());
+        } else if (BitsetMatcher.paysOffFor(rules)) {
+            result = new ExhaustiveMatcher(rules, new BitsetMatcher(rules, symbols));
+        } else if (rules.size() > 1) {
+            result = new RowMajorMatcher(rules, symbols);
+        } else {
+            result = new SequentialMatcher(rules);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the satisfied {@link Rule}s according to the specified {@link HitPolicy}.
+     *
+     * @param context The {@link ComputationContext} to check the {@link Rule}s in.
+     * @param policy The {@link HitPolicy} of the table.
+     * @param table The name of the table, used in the error messages.
+     * @return The satisfied {@link Rule}s, empty if there are none.
+     * @throws DecitaException If the {@link Rule}s cannot be checked.
+     */
+    List<Rule> satisfied(ComputationContext context, HitPolicy policy, String table)
+        throws DecitaException;
+}
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ru.ewc.decisions.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * I am the table of the locators' names seen by a single set of tables. My main responsibility is
+ * to give every name a dense integer ID once, so that the locators could be found by their IDs in
+ * an array instead of hashing their names on every evaluation.
+ *
+ * <p>Every {@link BaseLocators} instance owns its table, and the updated copies of the tables
+ * share it. The names get their IDs when the tables are loaded, i.e. when their
+ * {@link Coordinate}s are compiled, and the names resolved during the evaluations are only looked
+ * up. That keeps the table bounded by the size of the tables, and it's collected together with
+ * them.
+ *
+ * @since 0.10.0
+ */
+public final class Symbols {
+    /**
+     * The ID of the name that is not in the table.
+     */
+    public static final int UNKNOWN = -1;
+
+    /**
+     * The IDs of the names.
+     */
+    private final Map<String, Integer> ids;
+
+    /**
+     * The names in the order of their IDs.
+     */
+    private final List<String> names;
+
+    /**
+     * Ctor.
+     */
+    public Symbols() {
+        this.ids = new ConcurrentHashMap<>();
+        this.names = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Returns the ID of the name, adding the name to the table, if it's not there yet.
+     *
+     * @param name The name.
+     * @return The ID of the name.
+     */
+    public int idOf(final String name) {
+        Integer result = this.ids.get(name);
+        if (result == null) {
+            synchronized (this.names) {
+                result = this.ids.get(name);
+                if (result == null) {
+                    this.names.add(name);
+                    result = this.names.size() - 1;
+                    this.ids.put(name, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ID of the name, if it's in the table.
+     *
+     * @param name The name.
+     * @return The ID of the name or {@link #UNKNOWN}.
+     */
+    public int find(final String name) {
+        return this.ids.getOrDefault(name, Symbols.UNKNOWN);
+    }
+
+    /**
+     * Returns the name with the specified ID.
+     *
+     * @param symbol The ID of the name.
+     * @return The name.
+     */
+    public String nameOf(final int symbol) {
+        return this.names.get(symbol);
+    }
+
+    /**
+     * Returns the number of the names in the table.
+     *
+     * @return The number of the names.
+     */
+    public int size() {
+        return this.names.size();
+    }
+}
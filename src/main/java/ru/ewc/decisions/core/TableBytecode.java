@@ -0,0 +1,369 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.RuleFragment;
+import ru.ewc.decisions.conditions.Condition;
+
+/**
+ * I am the bytecode of a {@link BytecodeMatcher} subclass for a single table. My main
+ * responsibility is to turn every {@link Rule} into a chain of comparisons, constant-folding the
+ * table's literals: the constant equalities become {@link String#equals(Object)} calls and the
+ * numeric thresholds become the comparisons of the parsed numbers. Each base value is located
+ * once per evaluation, when it's first needed.
+ *
+ * @since 0.10.0
+ */
+final class TableBytecode {
+    /**
+     * The internal name of the generated class.
+     */
+    private static final String NAME = "ru/ewc/decisions/core/CompiledTable";
+
+    /**
+     * The internal name of the {@link BytecodeMatcher} class.
+     */
+    private static final String PARENT = Type.getInternalName(BytecodeMatcher.class);
+
+    /**
+     * The internal name of the {@link Coordinate} class.
+     */
+    private static final String COORDINATE = Type.getInternalName(Coordinate.class);
+
+    /**
+     * The descriptor of the {@code narrow} method.
+     */
+    private static final String NARROW = Type.getMethodDescriptor(
+        Type.VOID_TYPE,
+        Type.getType(long[].class),
+        Type.getType(ComputationContext.class),
+        Type.getType(Coordinate[].class),
+        Type.getType(Condition[].class)
+    );
+
+    /**
+     * The first local variable slot used for the located base values.
+     */
+    private static final int FIRST_LOCAL = 5;
+
+    /**
+     * The table's {@link Rule}s, in the order they should be checked in.
+     */
+    private final List<Rule> rules;
+
+    /**
+     * The positions of the base {@link Coordinate}s, keyed by their descriptions.
+     */
+    private final Map<String, Integer> positions;
+
+    /**
+     * The {@link Condition}s that are not inlined.
+     */
+    private final List<Condition> delegated;
+
+    /**
+     * The {@link Symbols} table of the tables being loaded.
+     */
+    private final Symbols symbols;
+
+    /**
+     * Ctor.
+     *
+     * @param rules The table's {@link Rule}s, in the order they should be checked in.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     */
+    TableBytecode(final List<Rule> rules, final Symbols symbols) {
+        this.rules = rules;
+        this.symbols = symbols;
+        this.positions = new LinkedHashMap<>();
+        this.delegated = new ArrayList<>(0);
+        for (final Rule rule : rules) {
+            for (final RuleFragment fragment : rule.conditionFragments()) {
+                this.positions.computeIfAbsent(fragment.left(), k -> this.positions.size());
+                if (!TableBytecode.isInlined(fragment.right())) {
+                    this.delegated.add(
+                        Condition.from(
+                            Coordinate.from(fragment.left(), symbols), fragment.right(), symbols
+                        )
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates the class file.
+     *
+     * @return The bytes of the class file.
+     */
+    byte[] asBytes() {
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected String getCommonSuperClass(final String first, final String second) {
+                return Type.getInternalName(Object.class);
+            }
+        };
+        writer.visit(
+            Opcodes.V17,
+            Opcodes.ACC_FINAL | Opcodes.ACC_SUPER,
+            TableBytecode.NAME,
+            null,
+            TableBytecode.PARENT,
+            null
+        );
+        TableBytecode.writeConstructor(writer);
+        this.writeNarrow(writer);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    /**
+     * Returns the base {@link Coordinate}s referenced by the generated code.
+     *
+     * @return The base {@link Coordinate}s, in the order of their positions.
+     */
+    Coordinate[] bases() {
+        return this.positions.keySet().stream()
+            .map(base -> Coordinate.from(base, this.symbols))
+            .toArray(Coordinate[]::new);
+    }
+
+    /**
+     * Returns the {@link Condition}s referenced by the generated code.
+     *
+     * @return The {@link Condition}s that are not inlined.
+     */
+    Condition[] conditions() {
+        return this.delegated.toArray(new Condition[0]);
+    }
+
+    /**
+     * Writes the constructor that passes its arguments to the {@link BytecodeMatcher}.
+     *
+     * @param writer The class writer.
+     */
+    private static void writeConstructor(final ClassWriter writer) {
+        final String descriptor = Type.getMethodDescriptor(
+            Type.VOID_TYPE,
+            Type.getType(List.class),
+            Type.getType(Coordinate[].class),
+            Type.getType(Condition[].class)
+        );
+        final MethodVisitor method = writer.visitMethod(
+            Opcodes.ACC_PUBLIC, "<init>", descriptor, null, null
+        );
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitVarInsn(Opcodes.ALOAD, 1);
+        method.visitVarInsn(Opcodes.ALOAD, 2);
+        method.visitVarInsn(Opcodes.ALOAD, 3);
+        method.visitMethodInsn(
+            Opcodes.INVOKESPECIAL, TableBytecode.PARENT, "<init>", descriptor, false
+        );
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    /**
+     * Writes the {@code narrow} method, checking every {@link Rule} in turn.
+     *
+     * @param writer The class writer.
+     */
+    private void writeNarrow(final ClassWriter writer) {
+        final MethodVisitor method = writer.visitMethod(
+            Opcodes.ACC_PROTECTED | Opcodes.ACC_FINAL, "narrow", TableBytecode.NARROW, null, null
+        );
+        method.visitCode();
+        for (int idx = 0; idx < this.positions.size(); idx += 1) {
+            method.visitInsn(Opcodes.ACONST_NULL);
+            method.visitVarInsn(Opcodes.ASTORE, TableBytecode.FIRST_LOCAL + idx);
+        }
+        int delegate = 0;
+        for (int idx = 0; idx < this.rules.size(); idx += 1) {
+            final Label next = new Label();
+            for (final RuleFragment fragment : this.rules.get(idx).conditionFragments()) {
+                if (TableBytecode.isInlined(fragment.right())) {
+                    this.writeInlined(method, fragment, next);
+                } else {
+                    this.writeDelegated(method, fragment, delegate, next);
+                    delegate += 1;
+                }
+            }
+            method.visitVarInsn(Opcodes.ALOAD, 1);
+            method.visitLdcInsn(idx >>> 6);
+            method.visitInsn(Opcodes.DUP2);
+            method.visitInsn(Opcodes.LALOAD);
+            method.visitLdcInsn(1L << idx);
+            method.visitInsn(Opcodes.LOR);
+            method.visitInsn(Opcodes.LASTORE);
+            method.visitLabel(next);
+        }
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    /**
+     * Checks if the cell could be turned into the straight-line comparison.
+     *
+     * @param cell The cell to check.
+     * @return True, if the cell is either a constant equality or a numeric threshold.
+     */
+    private static boolean isInlined(final String cell) {
+        return EqualityIndex.isConstantEquality(cell) || ThresholdRow.isThreshold(cell);
+    }
+
+    /**
+     * Writes the straight-line comparison, jumping to the next {@link Rule} if it's false.
+     *
+     * @param method The method writer.
+     * @param fragment The condition's fragment.
+     * @param next The label of the next {@link Rule}.
+     */
+    private void writeInlined(
+        final MethodVisitor method,
+        final RuleFragment fragment,
+        final Label next
+    ) {
+        final String cell = fragment.right();
+        this.writeLocated(method, fragment.left());
+        if (EqualityIndex.isConstantEquality(cell)) {
+            method.visitMethodInsn(
+                Opcodes.INVOKEVIRTUAL,
+                TableBytecode.COORDINATE,
+                "fragment",
+                "()Ljava/lang/String;",
+                false
+            );
+            method.visitLdcInsn(Coordinate.from(cell).fragment());
+            method.visitMethodInsn(
+                Opcodes.INVOKEVIRTUAL,
+                "java/lang/String",
+                "equals",
+                "(Ljava/lang/Object;)Z",
+                false
+            );
+            method.visitJumpInsn(Opcodes.IFEQ, next);
+        } else {
+            method.visitMethodInsn(
+                Opcodes.INVOKESTATIC,
+                TableBytecode.PARENT,
+                "number",
+                Type.getMethodDescriptor(Type.DOUBLE_TYPE, Type.getType(Coordinate.class)),
+                false
+            );
+            method.visitLdcInsn(Coordinate.numberFrom(cell.substring(1)));
+            method.visitMethodInsn(
+                Opcodes.INVOKESTATIC,
+                "java/lang/Double",
+                "compare",
+                "(DD)I",
+                false
+            );
+            if (cell.charAt(0) == '>') {
+                method.visitJumpInsn(Opcodes.IFLE, next);
+            } else {
+                method.visitJumpInsn(Opcodes.IFGE, next);
+            }
+        }
+    }
+
+    /**
+     * Writes the call of the {@link Condition} that is not inlined, jumping to the next
+     * {@link Rule} if it's not satisfied.
+     *
+     * @param method The method writer.
+     * @param fragment The condition's fragment.
+     * @param delegate The position of the {@link Condition} in the delegated ones.
+     * @param next The label of the next {@link Rule}.
+     */
+    private void writeDelegated(
+        final MethodVisitor method,
+        final RuleFragment fragment,
+        final int delegate,
+        final Label next
+    ) {
+        method.visitVarInsn(Opcodes.ALOAD, 4);
+        method.visitLdcInsn(delegate);
+        method.visitInsn(Opcodes.AALOAD);
+        this.writeLocated(method, fragment.left());
+        method.visitVarInsn(Opcodes.ALOAD, 2);
+        method.visitMethodInsn(
+            Opcodes.INVOKEINTERFACE,
+            Type.getInternalName(Condition.class),
+            "isSatisfiedBy",
+            Type.getMethodDescriptor(
+                Type.BOOLEAN_TYPE,
+                Type.getType(Coordinate.class),
+                Type.getType(ComputationContext.class)
+            ),
+            true
+        );
+        method.visitJumpInsn(Opcodes.IFEQ, next);
+    }
+
+    /**
+     * Writes the code pushing the located value of the base on the stack. The value is located
+     * only the first time it's needed and then kept in a local variable.
+     *
+     * @param method The method writer.
+     * @param base The description of the base {@link Coordinate}.
+     */
+    private void writeLocated(final MethodVisitor method, final String base) {
+        final int position = this.positions.get(base);
+        final int local = TableBytecode.FIRST_LOCAL + position;
+        final Label ready = new Label();
+        method.visitVarInsn(Opcodes.ALOAD, local);
+        method.visitJumpInsn(Opcodes.IFNONNULL, ready);
+        method.visitVarInsn(Opcodes.ALOAD, 3);
+        method.visitLdcInsn(position);
+        method.visitInsn(Opcodes.AALOAD);
+        method.visitVarInsn(Opcodes.ALOAD, 2);
+        method.visitMethodInsn(
+            Opcodes.INVOKEVIRTUAL,
+            TableBytecode.COORDINATE,
+            "locateIn",
+            Type.getMethodDescriptor(
+                Type.getType(Coordinate.class),
+                Type.getType(ComputationContext.class)
+            ),
+            false
+        );
+        method.visitVarInsn(Opcodes.ASTORE, local);
+        method.visitLabel(ready);
+        method.visitVarInsn(Opcodes.ALOAD, local);
+    }
+}
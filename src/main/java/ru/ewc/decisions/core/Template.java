@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import ru.ewc.decisions.api.ComputationContext;
+
+/**
+ * I am the description of a dynamic {@link Coordinate}, parsed once into its literal parts and
+ * the placeholders between them. My main responsibility is to resolve the description in a single
+ * pass, i.e. to locate every placeholder's value and to join them with the literal parts. Every
+ * placeholder is a compiled {@link Coordinate} itself, so its {@link ru.ewc.decisions.api.Locator}
+ * is found by the ID of its name, and its own placeholders are resolved the same way.
+ *
+ * <p>The same placeholder used several times in a description is located only once.
+ *
+ * @since 0.10.0
+ */
+final class Template {
+    /**
+     * The template of the descriptions without placeholders.
+     */
+    static final Template NONE = new Template(new String[]{""}, new Coordinate[0], new int[0], 0);
+
+    /**
+     * The literal parts around the placeholders, one more than the placeholders.
+     */
+    private final String[] literals;
+
+    /**
+     * The placeholders in the order of their appearance.
+     */
+    private final Coordinate[] holes;
+
+    /**
+     * The index of the distinct placeholder for every placeholder.
+     */
+    private final int[] slots;
+
+    /**
+     * The number of the distinct placeholders.
+     */
+    private final int distinct;
+
+    /**
+     * Ctor.
+     *
+     * @param literals The literal parts around the placeholders.
+     * @param holes The placeholders in the order of their appearance.
+     * @param slots The index of the distinct placeholder for every placeholder.
+     * @param distinct The number of the distinct placeholders.
+     */
+    private Template(
+        final String[] literals,
+        final Coordinate[] holes,
+        final int[] slots,
+        final int distinct
+    ) {
+        this.literals = literals;
+        this.holes = holes;
+        this.slots = slots;
+        this.distinct = distinct;
+    }
+
+    /**
+     * Parses the description of a {@link Coordinate}.
+     *
+     * @param description The description in the "locator::fragment" format.
+     * @param symbols The {@link Symbols} table to give the names in the placeholders their IDs
+     *  in, or {@code null}, if they should only be looked up.
+     * @return The parsed template or {@link #NONE}, if there are no placeholders.
+     */
+    static Template of(final String description, final Symbols symbols) {
+        final Template result;
+        if (description.contains("${")) {
+            result = Template.parsed(description, symbols);
+        } else {
+            result = Template.NONE;
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the template has no placeholders.
+     *
+     * @return True, if there is nothing to resolve.
+     */
+    boolean isEmpty() {
+        return this.holes.length == 0;
+    }
+
+    /**
+     * Resolves the template, i.e. locates the values of all its placeholders and joins them with
+     * the literal parts.
+     *
+     * @param context The {@link ComputationContext} to locate the values in.
+     * @param capacity The expected length of the result.
+     * @return The resolved description.
+     */
+    String resolvedIn(final ComputationContext context, final int capacity) {
+        final String[] values = new String[this.distinct];
+        final StringBuilder result = new StringBuilder(capacity).append(this.literals[0]);
+        for (int idx = 0; idx < this.holes.length; idx += 1) {
+            final int slot = this.slots[idx];
+            if (values[slot] == null) {
+                values[slot] = this.holes[idx].valueIn(context);
+            }
+            result.append(values[slot]).append(this.literals[idx + 1]);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Splits the description into the literal parts and the placeholders.
+     *
+     * @param description The description with placeholders.
+     * @param symbols The {@link Symbols} table to give the names in the placeholders their IDs
+     *  in, or {@code null}.
+     * @return The parsed template.
+     */
+    private static Template parsed(final String description, final Symbols symbols) {
+        final List<String> literals = new ArrayList<>(2);
+        final List<Coordinate> holes = new ArrayList<>(1);
+        final List<String> texts = new ArrayList<>(1);
+        final List<Integer> slots = new ArrayList<>(1);
+        int literal = 0;
+        int start = description.indexOf("${");
+        int end = Template.closingOf(description, start);
+        while (end >= 0) {
+            final String inner = description.substring(start + 2, end);
+            literals.add(description.substring(literal, start));
+            if (!texts.contains(inner)) {
+                texts.add(inner);
+            }
+            slots.add(texts.indexOf(inner));
+            holes.add(Coordinate.parsed(inner, symbols, true));
+            literal = end + 1;
+            start = description.indexOf("${", literal);
+            end = Template.closingOf(description, start);
+        }
+        literals.add(description.substring(literal));
+        return new Template(
+            literals.toArray(new String[0]),
+            holes.toArray(new Coordinate[0]),
+            slots.stream().mapToInt(Integer::intValue).toArray(),
+            texts.size()
+        );
+    }
+
+    /**
+     * Finds the brace closing the placeholder, skipping the nested placeholders.
+     *
+     * @param description The description.
+     * @param start The position of the placeholder's opening or -1, if there is none.
+     * @return The position of the closing brace or -1, if there is no closed placeholder.
+     */
+    private static int closingOf(final String description, final int start) {
+        int depth = 0;
+        int result = -1;
+        int idx = start;
+        while (start >= 0 && result < 0 && idx < description.length()) {
+            if (description.startsWith("${", idx)) {
+                depth += 1;
+                idx += 1;
+            } else if (description.charAt(idx) == '}') {
+                depth -= 1;
+                if (depth == 0) {
+                    result = idx;
+                }
+            }
+            idx += 1;
+        }
+        return result;
+    }
+}
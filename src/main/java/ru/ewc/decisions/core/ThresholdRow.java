@@ -0,0 +1,232 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+import ru.ewc.decisions.api.ComputationContext;
+
+/**
+ * I am a numeric threshold row of a decision table, i.e. the row where every cell is either a
+ * wildcard or compares the base value with a numeric constant, like {@code >10} or {@code <0.5}.
+ * I sort the constant boundaries once, when the table is loaded, so that every evaluation finds
+ * the satisfied {@link Rule}s by a binary search instead of comparing the value with each cell.
+ *
+ * @since 0.10.0
+ */
+final class ThresholdRow implements BitsetRow {
+    /**
+     * The base {@link Coordinate} shared by all the row's cells.
+     */
+    private final Coordinate base;
+
+    /**
+     * The {@link Rule}s accepting any base value, as a bitset.
+     */
+    private final long[] wildcards;
+
+    /**
+     * The boundaries of the {@code >} cells, in the ascending order.
+     */
+    private final double[] lower;
+
+    /**
+     * The positions of the {@link Rule}s with the {@code >} cells, in the order of their
+     * boundaries.
+     */
+    private final int[] above;
+
+    /**
+     * The boundaries of the {@code <} cells, in the ascending order.
+     */
+    private final double[] upper;
+
+    /**
+     * The positions of the {@link Rule}s with the {@code <} cells, in the order of their
+     * boundaries.
+     */
+    private final int[] below;
+
+    /**
+     * Ctor.
+     *
+     * @param base The base {@link Coordinate} description.
+     * @param cells The cells of every {@link Rule}, {@code null} for the wildcard cells.
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     */
+    ThresholdRow(final String base, final String[] cells, final Symbols symbols) {
+        this.base = Coordinate.from(base, symbols);
+        this.wildcards = new long[ConditionRow.wordsFor(cells.length)];
+        for (int idx = 0; idx < cells.length; idx += 1) {
+            if (cells[idx] == null) {
+                this.wildcards[idx >>> 6] |= 1L << idx;
+            }
+        }
+        this.above = ThresholdRow.positionsOf(cells, '>');
+        this.lower = ThresholdRow.boundariesOf(cells, this.above);
+        this.below = ThresholdRow.positionsOf(cells, '<');
+        this.upper = ThresholdRow.boundariesOf(cells, this.below);
+    }
+
+    /**
+     * Checks if the row consists only of the numeric threshold cells and the wildcards.
+     *
+     * @param cells The cells of every {@link Rule}, {@code null} for the wildcard cells.
+     * @return True, if the row could be represented as a {@link ThresholdRow}.
+     */
+    static boolean accepts(final String[] cells) {
+        boolean result = false;
+        for (final String cell : cells) {
+            if (cell != null) {
+                result = ThresholdRow.isThreshold(cell);
+                if (!result) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean narrow(final long[] alive, final ComputationContext context) {
+        final double value = this.base.locateIn(context).number();
+        final long[] hits = this.wildcards.clone();
+        if (Double.isNaN(value)) {
+            for (int word = 0; word < alive.length; word += 1) {
+                if ((alive[word] & ~hits[word]) != 0L) {
+                    throw new IllegalArgumentException("Cannot compare strings");
+                }
+            }
+        } else {
+            final int greater = ThresholdRow.countBelow(this.lower, value);
+            for (int idx = 0; idx < greater; idx += 1) {
+                hits[this.above[idx] >>> 6] |= 1L << this.above[idx];
+            }
+            final int smaller = ThresholdRow.countUpTo(this.upper, value);
+            for (int idx = smaller; idx < this.upper.length; idx += 1) {
+                hits[this.below[idx] >>> 6] |= 1L << this.below[idx];
+            }
+        }
+        long left = 0L;
+        for (int word = 0; word < alive.length; word += 1) {
+            alive[word] &= hits[word];
+            left |= alive[word];
+        }
+        return left != 0L;
+    }
+
+    /**
+     * Checks if the cell compares the base value with a numeric constant.
+     *
+     * @param cell The cell to check.
+     * @return True, if the cell is a numeric threshold.
+     */
+    static boolean isThreshold(final String cell) {
+        return !cell.isEmpty()
+            && (cell.charAt(0) == '>' || cell.charAt(0) == '<')
+            && !Double.isNaN(Coordinate.numberFrom(cell.substring(1)));
+    }
+
+    /**
+     * Finds the positions of the cells with the specified operation, ordered by their boundaries.
+     *
+     * @param cells The cells of every {@link Rule}.
+     * @param operation The comparison operation.
+     * @return The positions of the {@link Rule}s, in the ascending order of their boundaries.
+     */
+    private static int[] positionsOf(final String[] cells, final char operation) {
+        return IntStream.range(0, cells.length)
+            .filter(idx -> cells[idx] != null && cells[idx].charAt(0) == operation)
+            .boxed()
+            .sorted(Comparator.comparingDouble(idx -> ThresholdRow.boundaryOf(cells[idx])))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    /**
+     * Collects the boundaries of the cells at the specified positions.
+     *
+     * @param cells The cells of every {@link Rule}.
+     * @param positions The positions of the cells to collect.
+     * @return The boundaries, in the order of the positions.
+     */
+    private static double[] boundariesOf(final String[] cells, final int[] positions) {
+        return Arrays.stream(positions).mapToDouble(idx -> ThresholdRow.boundaryOf(cells[idx]))
+            .toArray();
+    }
+
+    /**
+     * Parses the numeric boundary of the threshold cell.
+     *
+     * @param cell The threshold cell.
+     * @return The boundary.
+     */
+    private static double boundaryOf(final String cell) {
+        return Coordinate.numberFrom(cell.substring(1));
+    }
+
+    /**
+     * Counts the sorted boundaries that are strictly less than the value.
+     *
+     * @param bounds The boundaries, in the ascending order.
+     * @param value The value to compare with.
+     * @return The number of the boundaries less than the value.
+     */
+    private static int countBelow(final double[] bounds, final double value) {
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (Double.compare(bounds[middle], value) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Counts the sorted boundaries that are less than or equal to the value.
+     *
+     * @param bounds The boundaries, in the ascending order.
+     * @param value The value to compare with.
+     * @return The number of the boundaries not greater than the value.
+     */
+    private static int countUpTo(final double[] bounds, final double value) {
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (Double.compare(bounds[middle], value) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
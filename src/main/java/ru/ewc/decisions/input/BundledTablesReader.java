@@ -0,0 +1,253 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.input;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.core.BlockingTasks;
+
+/**
+ * I am the {@link ContentsReader} for the tables bundled with the application, e.g. packed into
+ * its jar. My main responsibility is to read the tables listed in the {@link #INDEX} manifest, so
+ * that the bundle is never listed or extracted. Every table is decoded and split right from the
+ * stream of its entry's bytes.
+ *
+ * <p>The manifest lists the paths of the tables relative to the bundle's root, one per line. The
+ * blank lines and the lines starting with {@code #} are skipped. The name of the table is the name
+ * of its file without the extension, so no two listed files could have the same name. The manifest
+ * could be generated at build time by the {@link TablesIndex}.
+ *
+ * @since 0.10.0
+ */
+public final class BundledTablesReader implements ContentsReader {
+    /**
+     * The name of the manifest listing the bundled tables.
+     */
+    public static final String INDEX = "tables.idx";
+
+    /**
+     * The source of the bundle's entries by their paths.
+     */
+    private final Entries entries;
+
+    /**
+     * The symbol that separates CSV-record fields.
+     */
+    private final String delimiter;
+
+    /**
+     * Ctor for the bundle in any file system, e.g. a folder on a disk or a jar opened as a zip
+     * file system.
+     *
+     * @param root The root of the bundle.
+     * @param delimiter The symbol that separates CSV-record fields.
+     */
+    public BundledTablesReader(final Path root, final String delimiter) {
+        this(path -> Files.newByteChannel(root.resolve(path)), delimiter);
+    }
+
+    /**
+     * Ctor for the bundle on the classpath.
+     *
+     * @param loader The class loader to find the bundle's entries with.
+     * @param root The root of the bundle on the classpath, e.g. {@code "tables"}.
+     * @param delimiter The symbol that separates CSV-record fields.
+     */
+    public BundledTablesReader(
+        final ClassLoader loader,
+        final String root,
+        final String delimiter
+    ) {
+        this(
+            path -> BundledTablesReader.resource(loader, "%s/%s".formatted(root, path)),
+            delimiter
+        );
+    }
+
+    /**
+     * Primary Ctor.
+     *
+     * @param entries The source of the bundle's entries by their paths.
+     * @param delimiter The symbol that separates CSV-record fields.
+     */
+    private BundledTablesReader(final Entries entries, final String delimiter) {
+        this.entries = entries;
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public List<SourceLines> readAll() {
+        return BlockingTasks.resultsOf(
+            this.paths().stream()
+                .<Supplier<SourceLines>>map(path -> () -> this.sourceLinesOf(path))
+                .toList()
+        );
+    }
+
+    /**
+     * Provides the sources of the tables without reading them.
+     *
+     * @return The sources of the tables, keyed by the tables' names.
+     * @throws DecitaException If two of the listed tables have the same name.
+     */
+    @Override
+    public Map<String, Supplier<SourceLines>> sources() {
+        final Map<String, String> paths = new HashMap<>();
+        final Map<String, Supplier<SourceLines>> result = new HashMap<>();
+        for (final String path : this.paths()) {
+            final String name = BundledTablesReader.nameOf(path);
+            final String other = paths.putIfAbsent(name, path);
+            if (other != null) {
+                throw new DecitaException(
+                    "The bundled tables '%s' and '%s' have the same name '%s'"
+                        .formatted(other, path, name)
+                );
+            }
+            result.put(name, () -> this.sourceLinesOf(path));
+        }
+        return Map.copyOf(result);
+    }
+
+    /**
+     * Reads the paths of the bundled tables from the manifest.
+     *
+     * @return The paths of the tables relative to the bundle's root.
+     */
+    private List<String> paths() {
+        try (InputStream index = Channels.newInputStream(this.entries.open(INDEX))) {
+            return new String(index.readAllBytes(), StandardCharsets.UTF_8).lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && line.charAt(0) != '#')
+                .toList();
+        } catch (final IOException exception) {
+            throw new DecitaException(
+                "Cannot read the tables' manifest: %s".formatted(exception.getMessage()),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Reads the bundled table and splits it into cells.
+     *
+     * @param path The path of the table relative to the bundle's root.
+     * @return The table's rows.
+     */
+    private SourceLines sourceLinesOf(final String path) {
+        final String[][] rows;
+        try {
+            if (DelimitedRows.supports(this.delimiter)) {
+                rows = new DelimitedRows(
+                    () -> this.entries.open(path),
+                    this.delimiter.charAt(0)
+                ).asArray();
+            } else {
+                rows = this.linesOf(path).stream()
+                    .map(line -> line.split(this.delimiter))
+                    .toArray(String[][]::new);
+            }
+        } catch (final IOException exception) {
+            throw new DecitaException(
+                "Cannot read the bundled table '%s': %s".formatted(path, exception.getMessage()),
+                exception
+            );
+        }
+        return new SourceLines(BundledTablesReader.nameOf(path), rows, this.delimiter);
+    }
+
+    /**
+     * Reads the lines of the bundled table.
+     *
+     * @param path The path of the table relative to the bundle's root.
+     * @return The lines of the table.
+     * @throws IOException If the entry cannot be read.
+     */
+    private List<String> linesOf(final String path) throws IOException {
+        try (InputStream entry = Channels.newInputStream(this.entries.open(path))) {
+            return new String(entry.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+
+    /**
+     * Extracts the name of the table from its path.
+     *
+     * @param path The path of the table relative to the bundle's root.
+     * @return The name of the table's file without the extension.
+     */
+    private static String nameOf(final String path) {
+        final String file = path.substring(path.lastIndexOf('/') + 1);
+        final String result;
+        if (file.lastIndexOf('.') > 0) {
+            result = file.substring(0, file.lastIndexOf('.'));
+        } else {
+            result = file;
+        }
+        return result;
+    }
+
+    /**
+     * Opens the resource on the classpath.
+     *
+     * @param loader The class loader to find the resource with.
+     * @param name The name of the resource.
+     * @return The channel to read the resource's bytes from.
+     * @throws IOException If the resource is missing.
+     */
+    private static ReadableByteChannel resource(final ClassLoader loader, final String name)
+        throws IOException {
+        final InputStream stream = loader.getResourceAsStream(name);
+        if (stream == null) {
+            throw new IOException("Resource '%s' is not found".formatted(name));
+        }
+        return Channels.newChannel(stream);
+    }
+
+    /**
+     * The source of the bundle's entries by their paths.
+     *
+     * @since 0.10.0
+     */
+    @FunctionalInterface
+    private interface Entries {
+        /**
+         * Opens the entry of the bundle.
+         *
+         * @param path The path of the entry relative to the bundle's root.
+         * @return The channel to read the entry's bytes from.
+         * @throws IOException If the entry cannot be read.
+         */
+        ReadableByteChannel open(String path) throws IOException;
+    }
+}
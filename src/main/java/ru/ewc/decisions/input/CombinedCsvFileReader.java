@@ -24,14 +24,23 @@
 
 package ru.ewc.decisions.input;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import ru.ewc.decisions.core.BlockingTasks;
 import ru.ewc.decisions.core.DecisionTable;
 
 /**
  * I am the specific implementation of the {@link ContentsReader} for the combined CSV format. My
  * main responsibility is to manage all the file-related operations and transform the file lines
- * into a {@link DecisionTable}.
+ * into a {@link DecisionTable}. The files are read and split in parallel, in the dedicated
+ * {@link BlockingTasks} pool.
  *
  * @since 0.8.0
  */
@@ -46,6 +55,11 @@ public final class CombinedCsvFileReader implements ContentsReader {
      */
     private final String delimiter;
 
+    /**
+     * The cache of the already tokenized files, {@code null} if the files are always parsed.
+     */
+    private final ParseCache cache;
+
     /**
      * Ctor.
      *
@@ -54,20 +68,130 @@ public final class CombinedCsvFileReader implements ContentsReader {
      * @param delimiter The symbol that separates CSV-record fields.
      */
     public CombinedCsvFileReader(final URI dir, final String extension, final String delimiter) {
+        this(dir, extension, delimiter, null);
+    }
+
+    /**
+     * Ctor. Only the files changed since they were cached are parsed.
+     *
+     * @param dir The path to the source data files.
+     * @param extension The extension of the source data files.
+     * @param delimiter The symbol that separates CSV-record fields.
+     * @param cache The cache of the already tokenized files.
+     */
+    public CombinedCsvFileReader(
+        final URI dir,
+        final String extension,
+        final String delimiter,
+        final ParseCache cache
+    ) {
         this.folder = new SourceFilesFolder(dir, extension);
         this.delimiter = delimiter;
+        this.cache = cache;
     }
 
     @Override
     public List<SourceLines> readAll() {
-        return this.folder.files()
-            .stream()
-            .map(
-                file -> new SourceLines(
-                    file.nameWithoutExtension(),
-                    file.asStrings(),
-                    this.delimiter
-                )
-            ).toList();
+        return BlockingTasks.resultsOf(
+            this.folder.files().stream()
+                .<Supplier<SourceLines>>map(file -> () -> this.sourceLinesOf(file))
+                .toList()
+        );
+    }
+
+    @Override
+    public Map<String, Supplier<SourceLines>> sources() {
+        return this.folder.files().stream().collect(
+            Collectors.toUnmodifiableMap(
+                FileContents::nameWithoutExtension,
+                file -> () -> this.sourceLinesOf(file)
+            )
+        );
+    }
+
+    /**
+     * Computes the digest of the raw source files, without splitting them. The files that cannot
+     * be read are hashed as the empty ones.
+     *
+     * @return The digest of the files' names and contents.
+     */
+    @Override
+    public byte[] digest() {
+        final SourcesDigest result = new SourcesDigest();
+        this.folder.files().stream()
+            .sorted(Comparator.comparing(FileContents::nameWithoutExtension))
+            .forEach(
+                file -> result.with(file.nameWithoutExtension())
+                    .with(this.delimiter)
+                    .with(CombinedCsvFileReader.bytesOf(file))
+            );
+        return result.value();
+    }
+
+    /**
+     * Computes the fingerprint of the source files, i.e. the digest of their names, paths, sizes
+     * and last modification times. The files are not read for that. The files that cannot be
+     * described are hashed as the empty descriptions.
+     *
+     * @return The fingerprint of the files.
+     */
+    @Override
+    public byte[] fingerprint() {
+        final SourcesDigest result = new SourcesDigest();
+        this.folder.files().stream()
+            .sorted(Comparator.comparing(FileContents::nameWithoutExtension))
+            .forEach(
+                file -> result.with(file.nameWithoutExtension())
+                    .with(this.delimiter)
+                    .with(CombinedCsvFileReader.versionOf(file))
+            );
+        return result.value();
+    }
+
+    @Override
+    public boolean changedSince(final FileTime time) {
+        return this.folder.files().stream().anyMatch(
+            file -> CombinedCsvFileReader.modified(file).compareTo(time) >= 0
+        );
+    }
+
+    private SourceLines sourceLinesOf(final FileContents file) {
+        final SourceLines result;
+        if (this.cache == null) {
+            result = file.asSourceLines(this.delimiter);
+        } else {
+            result = this.cache.sourceLinesOf(file, this.delimiter);
+        }
+        return result;
+    }
+
+    private static String versionOf(final FileContents file) {
+        String result;
+        try {
+            result = file.version();
+        } catch (final IOException exception) {
+            result = "";
+        }
+        return result;
+    }
+
+    private static FileTime modified(final FileContents file) {
+        FileTime result;
+        try {
+            result = file.modified();
+        } catch (final IOException exception) {
+            result = FileTime.from(Instant.MAX);
+        }
+        return result;
+    }
+
+    private static byte[] bytesOf(final FileContents file) {
+        byte[] result;
+        try {
+            result = file.asBytes();
+        } catch (final IOException exception) {
+            result = new byte[0];
+        }
+        return result;
     }
 }
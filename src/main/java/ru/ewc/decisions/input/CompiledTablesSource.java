@@ -0,0 +1,236 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.input;
+
+import java.util.List;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the Java source code of a {@link ContentsReader} with all the tables embedded into it. My
+ * main responsibility is to turn the tables, read at build time, into a class that could be
+ * compiled together with the application, so that no files are read at startup. Every table is
+ * checked while the source is generated, so the malformed tables fail the build.
+ *
+ * <p>The cells of every table are split between several methods, none of them filling more than
+ * {@link #CELLS_PER_METHOD} cells, so that the large tables never hit the JVM's limit of 64KB of
+ * bytecode per method.
+ *
+ * @since 0.10.0
+ */
+public final class CompiledTablesSource {
+    /**
+     * The maximal number of the cells filled by a single generated method.
+     */
+    static final int CELLS_PER_METHOD = 1000;
+
+    /**
+     * The fully qualified name of the generated class.
+     */
+    private final String name;
+
+    /**
+     * The reader providing the tables to embed.
+     */
+    private final ContentsReader contents;
+
+    /**
+     * Ctor.
+     *
+     * @param name The fully qualified name of the generated class.
+     * @param contents The reader providing the tables to embed.
+     */
+    public CompiledTablesSource(final String name, final ContentsReader contents) {
+        this.name = name;
+        this.contents = contents;
+    }
+
+    /**
+     * Returns the path of the generated source file, relative to the sources root.
+     *
+     * @return The relative path of the source file.
+     */
+    public String relativePath() {
+        return "%s.java".formatted(this.name.replace('.', '/'));
+    }
+
+    /**
+     * Generates the source code.
+     *
+     * @return The source code of the class.
+     * @throws DecitaException If any of the tables is malformed.
+     */
+    public String asString() throws DecitaException {
+        final List<SourceLines> tables = this.contents.readAll();
+        final String simple = this.name.substring(this.name.lastIndexOf('.') + 1);
+        final StringBuilder result = new StringBuilder(1024);
+        if (this.name.contains(".")) {
+            result.append("package ")
+                .append(this.name, 0, this.name.lastIndexOf('.'))
+                .append(";\n\n");
+        }
+        result.append("import java.util.List;\n")
+            .append("import ru.ewc.decisions.input.ContentsReader;\n")
+            .append("import ru.ewc.decisions.input.SourceLines;\n\n")
+            .append("/**\n * The decision tables compiled at build time.\n */\n")
+            .append("public final class ").append(simple).append(" implements ContentsReader {\n")
+            .append("    @Override\n    public List<SourceLines> readAll() {\n")
+            .append("        return List.of(");
+        for (int idx = 0; idx < tables.size(); idx += 1) {
+            if (idx > 0) {
+                result.append(',');
+            }
+            result.append("\n            ").append(simple)
+                .append(".table").append(idx).append("()");
+        }
+        result.append("\n        );\n    }\n");
+        for (int idx = 0; idx < tables.size(); idx += 1) {
+            CompiledTablesSource.appendTable(
+                result,
+                simple,
+                idx,
+                CompiledTablesSource.checked(tables.get(idx))
+            );
+        }
+        return result
+            .append("\n    private static void fill(\n")
+            .append("        final String[][] rows,\n")
+            .append("        final int row,\n")
+            .append("        final int width,\n")
+            .append("        final int from,\n")
+            .append("        final String... cells\n")
+            .append("    ) {\n")
+            .append("        if (rows[row] == null) {\n")
+            .append("            rows[row] = new String[width];\n")
+            .append("        }\n")
+            .append("        System.arraycopy(cells, 0, rows[row], from, cells.length);\n")
+            .append("    }\n}\n")
+            .toString();
+    }
+
+    /**
+     * Checks that the table could be turned into a decision table.
+     *
+     * @param table The table to check.
+     * @return The same table.
+     * @throws DecitaException If the table is malformed.
+     */
+    private static SourceLines checked(final SourceLines table) throws DecitaException {
+        try {
+            table.asDecisionTable();
+        } catch (final DecitaException | IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new DecitaException(
+                "Table '%s' is malformed: %s".formatted(table.fileName(), ex.getMessage()),
+                ex
+            );
+        }
+        return table;
+    }
+
+    /**
+     * Appends the methods creating the table. The cells are embedded as they are, so the table is
+     * never split again, whatever its delimiter is. The table's method calls the methods filling
+     * its rows part by part, and a row wider than a part is split between several of them.
+     *
+     * @param result The source code to append to.
+     * @param simple The simple name of the generated class.
+     * @param idx The number of the table.
+     * @param table The table to embed.
+     */
+    private static void appendTable(
+        final StringBuilder result,
+        final String simple,
+        final int idx,
+        final SourceLines table
+    ) {
+        final StringBuilder parts = new StringBuilder(1024);
+        int count = 0;
+        int budget = 0;
+        int number = 0;
+        for (final String[] row : table) {
+            int from = 0;
+            do {
+                if (budget == 0) {
+                    if (count > 0) {
+                        parts.append("    }\n");
+                    }
+                    parts.append("\n    private static void table").append(idx)
+                        .append("Part").append(count)
+                        .append("(final String[][] rows) {\n");
+                    count += 1;
+                    budget = CompiledTablesSource.CELLS_PER_METHOD;
+                }
+                final int size = Math.min(budget, row.length - from);
+                parts.append("        ").append(simple).append(".fill(rows, ")
+                    .append(number).append(", ")
+                    .append(row.length).append(", ")
+                    .append(from);
+                for (int cell = from; cell < from + size; cell += 1) {
+                    parts.append(", ").append(CompiledTablesSource.literal(row[cell]));
+                }
+                parts.append(");\n");
+                from += size;
+                budget -= size;
+            } while (from < row.length);
+            number += 1;
+        }
+        if (count > 0) {
+            parts.append("    }\n");
+        }
+        result.append("\n    private static SourceLines table").append(idx).append("() {\n")
+            .append("        final String[][] rows = new String[").append(number)
+            .append("][];\n");
+        for (int part = 0; part < count; part += 1) {
+            result.append("        ").append(simple).append(".table").append(idx)
+                .append("Part").append(part).append("(rows);\n");
+        }
+        result.append("        return new SourceLines(\n            ")
+            .append(CompiledTablesSource.literal(table.fileName()))
+            .append(",\n            rows,\n            ")
+            .append(CompiledTablesSource.literal(table.delimiter()))
+            .append("\n        );\n    }\n")
+            .append(parts);
+    }
+
+    /**
+     * Turns the text into a Java string literal.
+     *
+     * @param text The text to turn.
+     * @return The quoted and escaped text.
+     */
+    private static String literal(final String text) {
+        final StringBuilder result = new StringBuilder(text.length() + 2).append('"');
+        for (int idx = 0; idx < text.length(); idx += 1) {
+            final char symbol = text.charAt(idx);
+            if (symbol == '"' || symbol == '\\') {
+                result.append('\\').append(symbol);
+            } else if (symbol < ' ' || symbol > '~') {
+                result.append("\\u%04x".formatted((int) symbol));
+            } else {
+                result.append(symbol);
+            }
+        }
+        return result.append('"').toString();
+    }
+}
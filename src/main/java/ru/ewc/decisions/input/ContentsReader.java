@@ -24,7 +24,12 @@
 
 package ru.ewc.decisions.input;
 
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * I am the interface for all the source data Readers. My implementors should know how to get data
@@ -35,4 +40,59 @@ import java.util.List;
  */
 public interface ContentsReader {
     List<SourceLines> readAll();
+
+    /**
+     * Provides the sources of the tables without reading them, if possible. Used to compile the
+     * tables on demand.
+     *
+     * @return The sources of the tables, keyed by the tables' names.
+     */
+    default Map<String, Supplier<SourceLines>> sources() {
+        return this.readAll().stream().collect(
+            Collectors.toUnmodifiableMap(SourceLines::fileName, source -> () -> source)
+        );
+    }
+
+    /**
+     * Computes the digest of the tables' sources, that changes whenever any of the tables does.
+     * Used to tell whether a {@link SnapshotFile} is still up-to-date. The readers having the raw
+     * files at hand could hash them without splitting.
+     *
+     * @return The digest of the tables' names and cells.
+     */
+    default byte[] digest() {
+        final SourcesDigest result = new SourcesDigest();
+        this.readAll().stream()
+            .sorted(Comparator.comparing(SourceLines::fileName))
+            .forEach(
+                table -> {
+                    result.with(table.fileName()).with(table.delimiter());
+                    table.forEach(result::withRow);
+                }
+            );
+        return result.value();
+    }
+
+    /**
+     * Describes the tables' sources without reading them, e.g. by the files' names, sizes and last
+     * modification times. Used to tell quickly that a {@link SnapshotFile} is still up-to-date.
+     * The readers unable to describe their sources that way return their {@link #digest()}.
+     *
+     * @return The fingerprint of the tables' sources.
+     */
+    default byte[] fingerprint() {
+        return this.digest();
+    }
+
+    /**
+     * Tells whether any of the tables' sources could have changed at the specified time or later.
+     * The {@link #fingerprint()} of such sources is not trusted, since the source changed within
+     * the same tick of the clock keeps its fingerprint.
+     *
+     * @param time The time to check.
+     * @return True, if any of the sources was modified at that time or later, or if it's unknown.
+     */
+    default boolean changedSince(final FileTime time) {
+        return true;
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.input;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * I am the rows of a delimited file, read in a streaming fashion. My main responsibility is to
+ * decode the file chunk by chunk and to split it into cells on the fly, so that neither the whole
+ * text nor its lines are ever kept in the memory. The result is the same as splitting every line
+ * of the file with {@link String#split(String)}.
+ *
+ * @since 0.10.0
+ */
+final class DelimitedRows {
+    /**
+     * The size of the read buffers.
+     */
+    private static final int CHUNK = 8192;
+
+    /**
+     * The source of the file's bytes.
+     */
+    private final Source source;
+
+    /**
+     * The symbol that separates the cells.
+     */
+    private final char delimiter;
+
+    /**
+     * The cells of the current row.
+     */
+    private final List<String> cells;
+
+    /**
+     * The completed rows.
+     */
+    private final List<String[]> rows;
+
+    /**
+     * The current cell.
+     */
+    private final StringBuilder cell;
+
+    /**
+     * Whether the current line has any symbols.
+     */
+    private boolean started;
+
+    /**
+     * Whether the last symbol was a carriage return.
+     */
+    private boolean returned;
+
+    /**
+     * Ctor.
+     *
+     * @param path The path to the file.
+     * @param delimiter The symbol that separates the cells.
+     */
+    DelimitedRows(final Path path, final char delimiter) {
+        this(() -> Files.newByteChannel(path), delimiter);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param source The source of the file's bytes.
+     * @param delimiter The symbol that separates the cells.
+     */
+    DelimitedRows(final Source source, final char delimiter) {
+        this.source = source;
+        this.delimiter = delimiter;
+        this.cells = new ArrayList<>(0);
+        this.rows = new ArrayList<>(0);
+        this.cell = new StringBuilder();
+    }
+
+    /**
+     * Checks if the delimiter could be split on literally, i.e. if it's a single symbol that is
+     * not special for the regular expressions.
+     *
+     * @param delimiter The delimiter to check.
+     * @return True, if the delimiter is supported by the streaming reading.
+     */
+    static boolean supports(final String delimiter) {
+        return delimiter.length() == 1 && ".$|()[{^?*+\\".indexOf(delimiter.charAt(0)) < 0;
+    }
+
+    /**
+     * Reads the file and splits it into rows.
+     *
+     * @return The rows of the file, split into cells.
+     * @throws IOException If the file cannot be read or is not a valid UTF-8 text.
+     */
+    String[][] asArray() throws IOException {
+        final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+        final ByteBuffer bytes = ByteBuffer.allocate(DelimitedRows.CHUNK);
+        final CharBuffer chars = CharBuffer.allocate(DelimitedRows.CHUNK);
+        try (ReadableByteChannel channel = this.source.open()) {
+            boolean exhausted = false;
+            boolean decoded = false;
+            while (!decoded) {
+                if (!exhausted) {
+                    exhausted = channel.read(bytes) < 0;
+                }
+                bytes.flip();
+                final CoderResult result = decoder.decode(bytes, chars, exhausted);
+                DelimitedRows.check(result);
+                bytes.compact();
+                decoded = exhausted && result.isUnderflow()
+                    && decoder.flush(chars).isUnderflow();
+                chars.flip();
+                this.consume(chars);
+                chars.clear();
+            }
+        }
+        if (this.started) {
+            this.completeRow();
+        }
+        return this.rows.toArray(new String[0][]);
+    }
+
+    /**
+     * Splits the decoded symbols into cells and rows.
+     *
+     * @param chars The decoded symbols.
+     */
+    private void consume(final CharBuffer chars) {
+        while (chars.hasRemaining()) {
+            final char symbol = chars.get();
+            if (this.returned && symbol == '\n') {
+                this.returned = false;
+            } else if (symbol == '\n' || symbol == '\r') {
+                this.returned = symbol == '\r';
+                this.completeRow();
+            } else {
+                this.returned = false;
+                this.started = true;
+                if (symbol == this.delimiter) {
+                    this.cells.add(this.cell.toString());
+                    this.cell.setLength(0);
+                } else {
+                    this.cell.append(symbol);
+                }
+            }
+        }
+    }
+
+    /**
+     * Completes the current row, dropping its trailing empty cells, just like
+     * {@link String#split(String)} does.
+     */
+    private void completeRow() {
+        this.cells.add(this.cell.toString());
+        this.cell.setLength(0);
+        int size = this.cells.size();
+        if (this.started) {
+            while (size > 0 && this.cells.get(size - 1).isEmpty()) {
+                size -= 1;
+            }
+        }
+        this.rows.add(this.cells.subList(0, size).toArray(new String[0]));
+        this.cells.clear();
+        this.started = false;
+    }
+
+    /**
+     * Checks the result of the decoding.
+     *
+     * @param result The result of the decoding.
+     * @throws IOException If the input is not a valid text.
+     */
+    private static void check(final CoderResult result) throws IOException {
+        if (result.isError()) {
+            result.throwException();
+        }
+    }
+
+    /**
+     * The source of the bytes to split, e.g. a file or an entry of an archive.
+     *
+     * @since 0.10.0
+     */
+    @FunctionalInterface
+    interface Source {
+        /**
+         * Opens the channel to read the bytes from.
+         *
+         * @return The channel.
+         * @throws IOException If the bytes cannot be read.
+         */
+        ReadableByteChannel open() throws IOException;
+    }
+}
@@ -28,8 +28,11 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * I am a simple wrapper around the file on a disk. My main responsibility is to read and cache the
@@ -90,9 +93,81 @@ public final class FileContents {
      */
     public List<String> asStrings() {
         if (this.contents == null) {
-            this.contents = this.readAllLines();
+            this.contents = List.copyOf(this.readAllLines());
         }
-        return List.copyOf(this.contents);
+        return this.contents;
+    }
+
+    /**
+     * Reads the file and splits it into rows without keeping its lines. The file is decoded and
+     * split chunk by chunk, if the delimiter allows it. In case of any I/O error, returns an
+     * empty array.
+     *
+     * @param delimiter The delimiter that separates the cells.
+     * @return The file's lines split into cells.
+     */
+    public String[][] asRows(final String delimiter) {
+        String[][] rows;
+        if (DelimitedRows.supports(delimiter)) {
+            try {
+                rows = new DelimitedRows(this.path, delimiter.charAt(0)).asArray();
+            } catch (final IOException exception) {
+                rows = new String[0][];
+            }
+        } else {
+            rows = this.asStrings().stream()
+                .map(line -> line.split(delimiter))
+                .toArray(String[][]::new);
+        }
+        return rows;
+    }
+
+    /**
+     * Reads the file and splits it into the {@link SourceLines} named after the file.
+     *
+     * @param delimiter The delimiter that separates the cells.
+     * @return The file's rows.
+     */
+    SourceLines asSourceLines(final String delimiter) {
+        return new SourceLines(this.nameWithoutExtension(), this.asRows(delimiter), delimiter);
+    }
+
+    /**
+     * Reads the raw contents of the file.
+     *
+     * @return The file's bytes.
+     * @throws IOException If the file cannot be read.
+     */
+    byte[] asBytes() throws IOException {
+        return Files.readAllBytes(this.path);
+    }
+
+    /**
+     * Describes the current version of the file without reading it, i.e. by its absolute path,
+     * size and last modification time.
+     *
+     * @return The version of the file.
+     * @throws IOException If the file's attributes cannot be read.
+     */
+    String version() throws IOException {
+        final BasicFileAttributes attributes = Files.readAttributes(
+            this.path, BasicFileAttributes.class
+        );
+        return "%s|%d|%d".formatted(
+            this.path.toAbsolutePath(),
+            attributes.size(),
+            attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS)
+        );
+    }
+
+    /**
+     * Returns the last modification time of the file.
+     *
+     * @return The last modification time.
+     * @throws IOException If the file's attributes cannot be read.
+     */
+    FileTime modified() throws IOException {
+        return Files.getLastModifiedTime(this.path);
     }
 
     private List<String> readAllLines() {
@@ -0,0 +1,361 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.input;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the local disk cache of the already tokenized source files. My main responsibility is to
+ * keep every parsed file as a {@link SnapshotFile} named after the hash of the file's name,
+ * delimiter and contents, so that only the changed files are parsed again after a restart or a
+ * reset of the tables. The same file in another checkout of the tables reuses the same entry.
+ *
+ * <p>The contents are not hashed on every read: the hash is kept in a small reference named after
+ * the file's path, size and last modification time. The reference is trusted only if the file is
+ * older than the reference itself. The file changed within the same tick of the file system clock
+ * keeps its size and time, so it's hashed again, just like the racily clean files are in git.
+ *
+ * <p>The cache could be shared by several processes: the entries are written to a temporary file
+ * and then moved to their places, the damaged or vanished entries are simply parsed again. The
+ * least recently used entries are removed once the cache grows beyond its limit, along with the
+ * references to them.
+ *
+ * @since 0.10.0
+ */
+public final class ParseCache {
+    /**
+     * The extension of the cache entries.
+     */
+    private static final String SUFFIX = ".snap";
+
+    /**
+     * The extension of the references to the cache entries.
+     */
+    private static final String REFERENCE = ".ref";
+
+    /**
+     * The folder with the cache entries.
+     */
+    private final Path folder;
+
+    /**
+     * The largest total size of the cache entries, in bytes.
+     */
+    private final long limit;
+
+    /**
+     * Ctor.
+     *
+     * @param folder The folder with the cache entries, created if it does not exist.
+     * @param limit The largest total size of the cache entries, in bytes.
+     */
+    public ParseCache(final Path folder, final long limit) {
+        this.folder = folder;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the tokenized file, either from the cache or parsed and stored in the cache.
+     *
+     * @param file The source file.
+     * @param delimiter The symbol that separates CSV-record fields.
+     * @return The tokenized file.
+     */
+    SourceLines sourceLinesOf(final FileContents file, final String delimiter) {
+        SourceLines result;
+        try {
+            final byte[] digest = this.digestOf(file, delimiter);
+            result = this.cachedOrStored(
+                this.folder.resolve(HexFormat.of().formatHex(digest) + ParseCache.SUFFIX),
+                file,
+                delimiter,
+                digest
+            );
+        } catch (final IOException exception) {
+            result = file.asSourceLines(delimiter);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the digest of the file's name, delimiter and contents. The digest is taken from the
+     * file's reference, if it could be trusted, otherwise the file is read, hashed and referred to
+     * again.
+     *
+     * @param file The source file.
+     * @param delimiter The symbol that separates CSV-record fields.
+     * @return The digest of the file.
+     * @throws IOException If the file cannot be read or the reference cannot be written.
+     */
+    private byte[] digestOf(final FileContents file, final String delimiter) throws IOException {
+        final Path reference = this.folder.resolve(
+            ParseCache.keyOf(file, delimiter) + ParseCache.REFERENCE
+        );
+        byte[] result = ParseCache.trusted(reference, file);
+        if (result == null) {
+            result = new SourcesDigest()
+                .with(file.nameWithoutExtension())
+                .with(delimiter)
+                .with(file.asBytes())
+                .value();
+            this.refer(reference, result);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the tokenized file from the cache entry. If the entry is missing or damaged, parses
+     * the file and stores it in the entry.
+     *
+     * @param entry The path to the cache entry.
+     * @param file The source file.
+     * @param delimiter The symbol that separates CSV-record fields.
+     * @param digest The digest of the file.
+     * @return The tokenized file.
+     * @throws IOException If the entry cannot be written.
+     */
+    private SourceLines cachedOrStored(
+        final Path entry,
+        final FileContents file,
+        final String delimiter,
+        final byte[] digest
+    ) throws IOException {
+        SourceLines result;
+        try {
+            result = new SnapshotFile(entry).readAll().get(0);
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (final DecitaException exception) {
+            result = this.stored(entry, file.asSourceLines(delimiter), digest);
+        }
+        return result;
+    }
+
+    /**
+     * Stores the parsed file in the cache and evicts the oldest entries, if needed.
+     *
+     * @param entry The path to the cache entry.
+     * @param lines The parsed file.
+     * @param digest The digest of the file, kept in the entry's header.
+     * @return The parsed file.
+     * @throws IOException If the entry cannot be written.
+     */
+    private SourceLines stored(final Path entry, final SourceLines lines, final byte[] digest)
+        throws IOException {
+        Files.createDirectories(this.folder);
+        new SnapshotFile(entry).writeFrom(
+            new ContentsReader() {
+                @Override
+                public List<SourceLines> readAll() {
+                    return List.of(lines);
+                }
+
+                @Override
+                public byte[] digest() {
+                    return digest.clone();
+                }
+            }
+        );
+        this.evict();
+        return lines;
+    }
+
+    /**
+     * Writes the reference to the digest of the file. The reference is written to a temporary
+     * file first and then moved to its place, so its time is never older than the file's read.
+     *
+     * @param reference The path to the reference.
+     * @param digest The digest of the file.
+     * @throws IOException If the reference cannot be written.
+     */
+    private void refer(final Path reference, final byte[] digest) throws IOException {
+        Files.createDirectories(this.folder);
+        final Path temp = Files.createTempFile(
+            this.folder,
+            reference.getFileName().toString(),
+            ".tmp"
+        );
+        try {
+            Files.writeString(temp, HexFormat.of().formatHex(digest), StandardCharsets.UTF_8);
+            Files.move(
+                temp,
+                reference,
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING
+            );
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Removes the least recently used entries until the cache fits into its limit, and then the
+     * references to the removed entries. The files removed by other processes in the meantime are
+     * skipped. Every entry's modification time is read once, before sorting, so the entries
+     * touched by other processes during the sort cannot break the sort's order.
+     *
+     * @throws IOException If the cache folder cannot be listed.
+     */
+    private void evict() throws IOException {
+        final List<Path> files;
+        try (Stream<Path> listed = Files.list(this.folder)) {
+            files = listed.toList();
+        }
+        final List<Map.Entry<Path, FileTime>> entries = new ArrayList<>(files.size());
+        for (final Path path : files) {
+            if (path.getFileName().toString().endsWith(ParseCache.SUFFIX)) {
+                entries.add(Map.entry(path, ParseCache.modified(path)));
+            }
+        }
+        entries.sort(Map.Entry.comparingByValue(Comparator.reverseOrder()));
+        long total = 0;
+        for (final Map.Entry<Path, FileTime> entry : entries) {
+            total += ParseCache.sizeOf(entry.getKey());
+            if (total > this.limit) {
+                Files.deleteIfExists(entry.getKey());
+            }
+        }
+        for (final Path reference : files) {
+            if (reference.getFileName().toString().endsWith(ParseCache.REFERENCE)
+                && Files.notExists(
+                    this.folder.resolve(ParseCache.targetOf(reference) + ParseCache.SUFFIX)
+                )) {
+                Files.deleteIfExists(reference);
+            }
+        }
+    }
+
+    /**
+     * Computes the key of the file's reference, i.e. the hash of its name, delimiter and version.
+     * The file's contents are not read for that, so the key changes only along with the file's
+     * path, size or its last modification time.
+     *
+     * @param file The source file.
+     * @param delimiter The symbol that separates CSV-record fields.
+     * @return The key of the file as a hexadecimal string.
+     * @throws IOException If the file's attributes cannot be read.
+     */
+    private static String keyOf(final FileContents file, final String delimiter)
+        throws IOException {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(file.nameWithoutExtension().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(delimiter.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(file.version().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IOException(exception);
+        }
+    }
+
+    /**
+     * Reads the digest of the file from its reference, if the reference could be trusted, i.e. it
+     * exists, is intact and was written after the file's last modification.
+     *
+     * @param reference The path to the reference.
+     * @param file The source file.
+     * @return The digest of the file, {@code null} if the file should be hashed again.
+     */
+    private static byte[] trusted(final Path reference, final FileContents file) {
+        byte[] result;
+        try {
+            if (file.modified().compareTo(Files.getLastModifiedTime(reference)) < 0) {
+                result = HexFormat.of().parseHex(ParseCache.targetOf(reference));
+            } else {
+                result = null;
+            }
+        } catch (final IOException | IllegalArgumentException exception) {
+            result = null;
+        }
+        if (result != null && result.length != SourcesDigest.SIZE) {
+            result = null;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the name of the entry the reference points to, or an empty string, if the reference
+     * is already removed.
+     *
+     * @param reference The path to the reference.
+     * @return The name of the entry without its extension.
+     */
+    private static String targetOf(final Path reference) {
+        String result;
+        try {
+            result = Files.readString(reference, StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            result = "";
+        }
+        return result;
+    }
+
+    /**
+     * Returns the last time the entry was used, or the epoch, if it's already removed.
+     *
+     * @param entry The path to the cache entry.
+     * @return The last time the entry was used.
+     */
+    private static FileTime modified(final Path entry) {
+        FileTime result;
+        try {
+            result = Files.getLastModifiedTime(entry);
+        } catch (final IOException exception) {
+            result = FileTime.fromMillis(0);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the size of the entry, or zero, if it's already removed.
+     *
+     * @param entry The path to the cache entry.
+     * @return The size of the entry in bytes.
+     */
+    private static long sizeOf(final Path entry) {
+        long result;
+        try {
+            result = Files.size(entry);
+        } catch (final IOException exception) {
+            result = 0;
+        }
+        return result;
+    }
+}
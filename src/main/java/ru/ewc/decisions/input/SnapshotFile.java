@@ -0,0 +1,429 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.input;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the binary snapshot of the already tokenized tables. My main responsibility is to store
+ * the tables' cells once, e.g. at build time, and then to load them by mapping the file into the
+ * memory, without splitting any lines. All the cells are kept in a single pool of unique strings,
+ * so the same cell is decoded only once, and the rows refer to the pool by their positions. The
+ * pool is followed by the directory of the tables' names and the positions of their rows, so every
+ * table is decoded only when its {@link #sources()} are asked for.
+ *
+ * <p>The file starts with the {@link #MAGIC} number, the {@link #VERSION} of the format, the
+ * checksum of the tables, the digest and the fingerprint of the sources they were written from.
+ * The snapshots of other versions, as well as the damaged ones, are rejected. The snapshot read
+ * along with its sources is also rejected once the sources change, so the outdated tables are
+ * never loaded. The sources are not hashed for that while their fingerprint stays the same and
+ * none of them is modified since the snapshot was written.
+ *
+ * @since 0.10.0
+ */
+public final class SnapshotFile implements ContentsReader {
+    /**
+     * The first bytes of every snapshot file.
+     */
+    private static final int MAGIC = 0x44435453;
+
+    /**
+     * The current version of the format.
+     */
+    private static final int VERSION = 4;
+
+    /**
+     * The size of the file header, i.e. the magic number, the version, the checksum, the digest
+     * and the fingerprint of the sources.
+     */
+    private static final int HEADER = Integer.BYTES * 2 + Long.BYTES + SourcesDigest.SIZE * 2;
+
+    /**
+     * The path to the snapshot file.
+     */
+    private final Path path;
+
+    /**
+     * The sources the snapshot should be up-to-date with, {@code null} if it's never checked.
+     */
+    private final ContentsReader sources;
+
+    /**
+     * Ctor. The snapshot is loaded regardless of the sources it was written from.
+     *
+     * @param path The path to the snapshot file.
+     */
+    public SnapshotFile(final Path path) {
+        this(path, null);
+    }
+
+    /**
+     * Ctor. The snapshot is loaded only if it was written from the same sources. The sources are
+     * hashed for that only if their fingerprint has changed or they could have been modified after
+     * the snapshot was written.
+     *
+     * @param path The path to the snapshot file.
+     * @param sources The sources the snapshot should be up-to-date with.
+     */
+    public SnapshotFile(final Path path, final ContentsReader sources) {
+        this.path = path;
+        this.sources = sources;
+    }
+
+    /**
+     * Writes the snapshot of all the tables provided by the reader. The snapshot is written to a
+     * temporary file first and then moved to its place, so the readers never see it half-written.
+     *
+     * @param source The reader providing the tables.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    public void writeFrom(final ContentsReader source) throws IOException {
+        final byte[] payload = SnapshotFile.payloadOf(source.readAll());
+        final Path temp = Files.createTempFile(
+            this.path.toAbsolutePath().getParent(),
+            this.path.getFileName().toString(),
+            ".tmp"
+        );
+        try {
+            final ByteBuffer header = ByteBuffer.allocate(SnapshotFile.HEADER)
+                .putInt(SnapshotFile.MAGIC)
+                .putInt(SnapshotFile.VERSION)
+                .putLong(SnapshotFile.checksumOf(ByteBuffer.wrap(payload)))
+                .put(source.digest())
+                .put(source.fingerprint());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.write(new ByteBuffer[]{header.flip(), ByteBuffer.wrap(payload)});
+            }
+            Files.move(
+                temp,
+                this.path,
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING
+            );
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public List<SourceLines> readAll() {
+        final Contents contents = this.contents();
+        final List<SourceLines> result = new ArrayList<>(contents.tables.size());
+        contents.tables.forEach((name, offset) -> result.add(contents.tableAt(name, offset)));
+        return result;
+    }
+
+    /**
+     * Provides the tables without decoding them. Every table is decoded from the mapped file only
+     * when its source is asked for.
+     *
+     * @return The sources of the tables, keyed by the tables' names.
+     */
+    @Override
+    public Map<String, Supplier<SourceLines>> sources() {
+        final Contents contents = this.contents();
+        final Map<String, Supplier<SourceLines>> result = new LinkedHashMap<>();
+        contents.tables.forEach(
+            (name, offset) -> result.put(name, () -> contents.tableAt(name, offset))
+        );
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Maps the snapshot file into the memory and reads the directory of its tables.
+     *
+     * @return The contents of the snapshot.
+     * @throws DecitaException If the snapshot cannot be read, is of another version, is damaged or
+     *  is outdated.
+     */
+    private Contents contents() {
+        try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+            return this.contentsOf(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (final IOException | BufferUnderflowException exception) {
+            throw new DecitaException(
+                "Cannot read the snapshot '%s': %s".formatted(this.path, exception.getMessage()),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Checks the header of the mapped file and reads the directory of the tables from it.
+     *
+     * @param buffer The mapped file.
+     * @return The contents of the snapshot.
+     * @throws DecitaException If the snapshot is of another version, is damaged or is outdated.
+     * @throws IOException If the snapshot's attributes cannot be read.
+     */
+    private Contents contentsOf(final MappedByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < SnapshotFile.HEADER
+            || buffer.getInt() != SnapshotFile.MAGIC
+            || buffer.getInt() != SnapshotFile.VERSION) {
+            throw new DecitaException("The snapshot is of another version or is damaged");
+        }
+        final long checksum = buffer.getLong();
+        final byte[] digest = new byte[SourcesDigest.SIZE];
+        buffer.get(digest);
+        final byte[] fingerprint = new byte[SourcesDigest.SIZE];
+        buffer.get(fingerprint);
+        if (checksum != SnapshotFile.checksumOf(buffer.slice())) {
+            throw new DecitaException("The snapshot is of another version or is damaged");
+        }
+        if (this.sources != null && !this.isUpToDate(digest, fingerprint)) {
+            throw new DecitaException("The snapshot is outdated, its sources have changed");
+        }
+        return new Contents(this.path, buffer.slice());
+    }
+
+    /**
+     * Checks that the snapshot is written from the current sources. The sources are hashed only if
+     * their fingerprint differs from the stored one, or if any of them is modified within the same
+     * tick of the clock as the snapshot was written, or later.
+     *
+     * @param digest The digest of the sources the snapshot was written from.
+     * @param fingerprint The fingerprint of the sources the snapshot was written from.
+     * @return True, if the sources have not changed since then.
+     * @throws IOException If the snapshot's attributes cannot be read.
+     */
+    private boolean isUpToDate(final byte[] digest, final byte[] fingerprint) throws IOException {
+        return !this.sources.changedSince(Files.getLastModifiedTime(this.path))
+            && Arrays.equals(fingerprint, this.sources.fingerprint())
+            || Arrays.equals(digest, this.sources.digest());
+    }
+
+    /**
+     * Encodes the tables, i.e. the pool of unique strings, then the directory of the tables'
+     * names and the positions of their rows, and then the rows referring to the pool.
+     *
+     * @param tables The tables to encode.
+     * @return The encoded tables.
+     * @throws IOException If the tables cannot be encoded.
+     */
+    private static byte[] payloadOf(final List<SourceLines> tables) throws IOException {
+        final Map<String, Integer> pool = new HashMap<>();
+        final List<String> strings = new ArrayList<>(0);
+        final int[] names = new int[tables.size()];
+        final int[] offsets = new int[tables.size()];
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final DataOutputStream rows = new DataOutputStream(body);
+        for (int idx = 0; idx < tables.size(); idx += 1) {
+            final SourceLines table = tables.get(idx);
+            names[idx] = SnapshotFile.positionOf(table.fileName(), pool, strings);
+            offsets[idx] = rows.size();
+            rows.writeInt(SnapshotFile.positionOf(table.delimiter(), pool, strings));
+            final List<String[]> lines = new ArrayList<>(0);
+            table.forEach(lines::add);
+            rows.writeInt(lines.size());
+            for (final String[] line : lines) {
+                rows.writeInt(line.length);
+                for (final String cell : line) {
+                    rows.writeInt(SnapshotFile.positionOf(cell, pool, strings));
+                }
+            }
+        }
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(result);
+        output.writeInt(strings.size());
+        for (final String string : strings) {
+            final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+        final int start = output.size() + Integer.BYTES * (1 + tables.size() * 2);
+        output.writeInt(tables.size());
+        for (int idx = 0; idx < tables.size(); idx += 1) {
+            output.writeInt(names[idx]);
+            output.writeInt(start + offsets[idx]);
+        }
+        body.writeTo(output);
+        return result.toByteArray();
+    }
+
+    /**
+     * Finds the position of the string in the pool, adding it if it's not there yet.
+     *
+     * @param string The string to find.
+     * @param pool The positions of the strings in the pool.
+     * @param strings The strings in the pool, in the order of their positions.
+     * @return The position of the string.
+     */
+    private static int positionOf(
+        final String string,
+        final Map<String, Integer> pool,
+        final List<String> strings
+    ) {
+        return pool.computeIfAbsent(
+            string,
+            key -> {
+                strings.add(key);
+                return strings.size() - 1;
+            }
+        );
+    }
+
+    /**
+     * Computes the checksum of the buffer's remaining bytes.
+     *
+     * @param buffer The buffer.
+     * @return The checksum.
+     */
+    private static long checksumOf(final ByteBuffer buffer) {
+        final CRC32C checksum = new CRC32C();
+        checksum.update(buffer);
+        return checksum.getValue();
+    }
+
+    /**
+     * I am the mapped payload of the snapshot. I know where every string of the pool and every
+     * table starts, and decode them only when they are asked for. The decoded strings are kept, so
+     * the cells shared by the tables are decoded once. I read the payload by the absolute
+     * positions only, so the tables could be decoded concurrently.
+     *
+     * @since 0.10.0
+     */
+    private static final class Contents {
+        /**
+         * The path to the snapshot file, used in the error messages.
+         */
+        private final Path path;
+
+        /**
+         * The mapped payload, i.e. the part of the file after the header.
+         */
+        private final ByteBuffer payload;
+
+        /**
+         * The positions of the pool's strings in the payload.
+         */
+        private final int[] positions;
+
+        /**
+         * The pool's strings decoded so far, {@code null} for the ones not decoded yet.
+         */
+        private final String[] strings;
+
+        /**
+         * The positions of the tables' rows in the payload, keyed by the tables' names, in the
+         * order the tables were written in.
+         */
+        private final Map<String, Integer> tables;
+
+        /**
+         * Ctor. Reads the positions of the pool's strings and the directory of the tables.
+         *
+         * @param path The path to the snapshot file.
+         * @param payload The mapped payload.
+         */
+        Contents(final Path path, final ByteBuffer payload) {
+            this.path = path;
+            this.payload = payload;
+            this.positions = new int[payload.getInt()];
+            this.strings = new String[this.positions.length];
+            for (int idx = 0; idx < this.positions.length; idx += 1) {
+                this.positions[idx] = payload.position();
+                payload.position(payload.position() + Integer.BYTES + payload.getInt());
+            }
+            final int count = payload.getInt();
+            this.tables = new LinkedHashMap<>();
+            for (int table = 0; table < count; table += 1) {
+                this.tables.put(this.stringAt(payload.getInt()), payload.getInt());
+            }
+        }
+
+        /**
+         * Decodes the table whose rows start at the specified position.
+         *
+         * @param name The name of the table.
+         * @param offset The position of the table's rows in the payload.
+         * @return The table.
+         * @throws DecitaException If the table cannot be decoded.
+         */
+        SourceLines tableAt(final String name, final int offset) {
+            final SourceLines result;
+            try {
+                int position = offset;
+                final String delimiter = this.stringAt(this.payload.getInt(position));
+                final String[][] rows = new String[this.payload.getInt(position + Integer.BYTES)][];
+                position += Integer.BYTES * 2;
+                for (int row = 0; row < rows.length; row += 1) {
+                    rows[row] = new String[this.payload.getInt(position)];
+                    position += Integer.BYTES;
+                    for (int cell = 0; cell < rows[row].length; cell += 1) {
+                        rows[row][cell] = this.stringAt(this.payload.getInt(position));
+                        position += Integer.BYTES;
+                    }
+                }
+                result = new SourceLines(name, rows, delimiter);
+            } catch (final IndexOutOfBoundsException exception) {
+                throw new DecitaException(
+                    "Cannot read the snapshot '%s': %s".formatted(
+                        this.path, exception.getMessage()
+                    ),
+                    exception
+                );
+            }
+            return result;
+        }
+
+        /**
+         * Returns the string at the specified position in the pool, decoding it on the first
+         * request.
+         *
+         * @param idx The position of the string in the pool.
+         * @return The string.
+         */
+        private String stringAt(final int idx) {
+            String result = this.strings[idx];
+            if (result == null) {
+                final byte[] bytes = new byte[this.payload.getInt(this.positions[idx])];
+                this.payload.get(this.positions[idx] + Integer.BYTES, bytes);
+                result = new String(bytes, StandardCharsets.UTF_8);
+                this.strings[idx] = result;
+            }
+            return result;
+        }
+    }
+}
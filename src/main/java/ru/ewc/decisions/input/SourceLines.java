@@ -24,17 +24,22 @@
 
 package ru.ewc.decisions.input;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import ru.ewc.decisions.api.ComputableLocator;
 import ru.ewc.decisions.api.RuleFragment;
 import ru.ewc.decisions.api.RuleFragments;
+import ru.ewc.decisions.core.DecisionRuleFragments;
 import ru.ewc.decisions.core.DecisionTable;
+import ru.ewc.decisions.core.HitPolicy;
+import ru.ewc.decisions.core.MatchingEngine;
 import ru.ewc.decisions.core.Rule;
+import ru.ewc.decisions.core.Symbols;
 
 /**
  * I am a class that represents the lines from the source file grouped by the type of the line.
@@ -43,89 +48,322 @@ import ru.ewc.decisions.core.Rule;
  */
 public final class SourceLines implements Iterable<String[]> {
     /**
-     * The name of the source file.
+     * The type of the line declaring the table's {@link HitPolicy}.
      */
-    private final String file;
+    private static final String HIT_POLICY = "HIT";
+
+    /**
+     * The type of the line declaring the table's {@link MatchingEngine}.
+     */
+    private static final String ENGINE = "ENG";
 
     /**
-     * All the lines from the source file, preserving the order.
+     * The name of the source file.
      */
-    private final List<String> ungrouped;
+    private final String file;
 
     /**
      * The delimiter used in the source file.
      */
     private final String delimiter;
 
+    /**
+     * The trimmed cells of the rule columns, column by column. The missing and blank cells are
+     * {@code null}s. The first two columns, i.e. the line types and the bases, are trimmed too.
+     */
+    private final String[][] columns;
+
+    /**
+     * The number of cells in every line, preserving the order.
+     */
+    private final int[] widths;
+
     public SourceLines(final String file, final List<String> lines, final String delimiter) {
+        this(file, SourceLines.split(lines, delimiter), delimiter);
+    }
+
+    /**
+     * Ctor for the lines that are already split into cells, e.g. read from a
+     * {@link SnapshotFile}.
+     *
+     * @param file The name of the source file.
+     * @param rows The lines split into cells, preserving the order.
+     * @param delimiter The delimiter used in the source file.
+     */
+    public SourceLines(final String file, final String[][] rows, final String delimiter) {
         this.file = file;
-        this.ungrouped = lines;
         this.delimiter = delimiter;
+        this.columns = SourceLines.transposed(rows);
+        this.widths = Stream.of(rows).mapToInt(row -> row.length).toArray();
     }
 
+    /**
+     * Iterates over the lines split into cells. The lines are rebuilt from the columns, so their
+     * cells are trimmed.
+     *
+     * @return The iterator over the lines, preserving the order.
+     */
     @Override
     public Iterator<String[]> iterator() {
-        return Stream.of(this.toArray(this.ungrouped)).iterator();
+        return IntStream.range(0, this.widths.length).mapToObj(this::row).iterator();
     }
 
     public String fileName() {
         return this.file;
     }
 
+    /**
+     * Returns the lines from the source file, joining their cells back.
+     *
+     * @return The lines, preserving the order.
+     */
+    List<String> lines() {
+        return IntStream.range(0, this.widths.length)
+            .mapToObj(row -> String.join(this.delimiter, this.row(row)))
+            .toList();
+    }
+
+    /**
+     * Returns the delimiter used in the source file.
+     *
+     * @return The delimiter.
+     */
+    String delimiter() {
+        return this.delimiter;
+    }
+
     public ComputableLocator asDecisionTable() {
+        return this.asDecisionTable(new Symbols());
+    }
+
+    /**
+     * Compiles the table. The names of the {@link ru.ewc.decisions.api.Locator}s the table
+     * refers to get their IDs in the specified {@link Symbols} table right away.
+     *
+     * @param symbols The {@link Symbols} table of the tables being loaded.
+     * @return The compiled table.
+     */
+    public ComputableLocator asDecisionTable(final Symbols symbols) {
         return new DecisionTable(
-            this.specifiedRules(),
-            this.elseRule(),
-            this.file
+            this.specifiedRules(symbols),
+            this.elseRule(symbols),
+            this.file,
+            this.hitPolicy(),
+            this.engine(),
+            symbols
         );
     }
 
     public List<RuleFragments> specifiedRulesFragments() {
-        final int columns = this.ungrouped.get(0).split(this.delimiter).length;
+        final int columns = IntStream.range(0, this.widths.length)
+            .filter(
+                row -> !this.isOfType(row, SourceLines.HIT_POLICY)
+                    && !this.isOfType(row, SourceLines.ENGINE)
+            )
+            .map(row -> this.widths[row])
+            .findFirst()
+            .orElse(1);
         return IntStream.range(2, columns)
-            .mapToObj(i -> RuleFragments.listFrom(this, i))
+            .mapToObj(this::ruleFragments)
             .toList();
     }
 
+    /**
+     * Collects the {@link RuleFragment}s of a single rule column. Adds the default header, if the
+     * column has none.
+     *
+     * @param column The number of the column.
+     * @return The rule's fragments.
+     */
+    public RuleFragments ruleFragments(final int column) {
+        final List<RuleFragment> list = new ArrayList<>(0);
+        boolean titled = false;
+        if (column < this.columns.length) {
+            final String[] types = this.columns[0];
+            final String[] bases = this.columns[1];
+            final String[] cells = this.columns[column];
+            for (int row = 0; row < cells.length; row += 1) {
+                if (cells[row] != null) {
+                    final RuleFragment fragment =
+                        new RuleFragment(types[row], bases[row], cells[row]);
+                    titled = titled || fragment.nonEmptyOfType("HDR");
+                    list.add(fragment);
+                }
+            }
+        }
+        if (!titled) {
+            list.add(new RuleFragment("HDR", this.file, "rule_%02d".formatted(column - 1)));
+        }
+        return new RuleFragments(list);
+    }
+
     String[][] asArrayOf(final String key) {
-        return this.toArray(
-            this.ungrouped.stream()
-                .filter(line -> line.startsWith(key))
-                .map(
-                    line -> Arrays.stream(line.split(this.delimiter))
-                        .skip(1)
-                        .collect(Collectors.joining(this.delimiter))
-                )
-                .toList()
-        );
+        return IntStream.range(0, this.widths.length)
+            .filter(row -> this.typeOf(row).startsWith(key))
+            .mapToObj(row -> SourceLines.withoutType(this.row(row)))
+            .toArray(String[][]::new);
     }
 
-    private String[][] toArray(final List<String> source) {
-        final String[][] result;
-        if (source.isEmpty()) {
-            result = new String[0][0];
+    /**
+     * Returns the table's {@link HitPolicy}, declared by the {@code HIT} line.
+     *
+     * @return The declared {@link HitPolicy} or {@link HitPolicy#UNIQUE}, if it's not declared.
+     */
+    HitPolicy hitPolicy() {
+        return this.declared(SourceLines.HIT_POLICY).map(HitPolicy::from).orElse(HitPolicy.UNIQUE);
+    }
+
+    /**
+     * Returns the table's {@link MatchingEngine}, declared by the {@code ENG} line.
+     *
+     * @return The declared {@link MatchingEngine} or {@link MatchingEngine#AUTO}, if it's not
+     *  declared.
+     */
+    MatchingEngine engine() {
+        return this.declared(SourceLines.ENGINE)
+            .map(MatchingEngine::from)
+            .orElse(MatchingEngine.AUTO);
+    }
+
+    /**
+     * Returns the value declared by the first line of the specified type, i.e. its second cell.
+     *
+     * @param type The type of the declaring line.
+     * @return The declared value, if there is one.
+     */
+    private Optional<String> declared(final String type) {
+        return IntStream.range(0, this.widths.length)
+            .filter(row -> this.isOfType(row, type) && this.widths[row] > 1)
+            .mapToObj(row -> this.columns[1][row])
+            .findFirst();
+    }
+
+    /**
+     * Rebuilds the line from the columns. The blank cells of the rule columns are empty.
+     *
+     * @param row The number of the line.
+     * @return The line split into the trimmed cells.
+     */
+    private String[] row(final int row) {
+        final String[] result = new String[this.widths[row]];
+        for (int column = 0; column < result.length; column += 1) {
+            if (this.columns[column][row] == null) {
+                result[column] = "";
+            } else {
+                result[column] = this.columns[column][row];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the line type, i.e. the first cell of the line.
+     *
+     * @param row The number of the line.
+     * @return The type of the line, empty for the empty lines.
+     */
+    private String typeOf(final int row) {
+        final String result;
+        if (this.widths[row] > 0) {
+            result = this.columns[0][row];
         } else {
-            final int width = source.get(0).split(this.delimiter).length;
-            result = new String[source.size()][width];
-            for (int idx = 0; idx < source.size(); idx = idx + 1) {
-                result[idx] = source.get(idx).split(this.delimiter);
+            result = "";
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the line is of exactly the specified type, so that the rule lines starting with
+     * the same letters are never taken for the declarations.
+     *
+     * @param row The number of the line.
+     * @param type The type to check.
+     * @return True, if the line is of the specified type.
+     */
+    private boolean isOfType(final int row, final String type) {
+        return this.typeOf(row).trim().equals(type);
+    }
+
+    /**
+     * Returns the number of cells in the first line of the specified type.
+     *
+     * @param type The type of the line.
+     * @return The number of cells, zero if there are no such lines.
+     */
+    private int widthOf(final String type) {
+        return IntStream.range(0, this.widths.length)
+            .filter(row -> this.typeOf(row).startsWith(type))
+            .map(row -> this.widths[row])
+            .findFirst()
+            .orElse(0);
+    }
+
+    /**
+     * Splits the lines into cells.
+     *
+     * @param lines The lines from the source file.
+     * @param delimiter The delimiter used in the source file.
+     * @return The lines split into cells, preserving the order.
+     */
+    private static String[][] split(final List<String> lines, final String delimiter) {
+        final String[][] result = new String[lines.size()][];
+        for (int idx = 0; idx < lines.size(); idx = idx + 1) {
+            result[idx] = lines.get(idx).split(delimiter);
+        }
+        return result;
+    }
+
+    /**
+     * Transposes the rows into the columns, trimming every cell once.
+     *
+     * @param rows The lines split into cells.
+     * @return The trimmed cells, column by column, with {@code null}s for the missing cells and
+     *  for the blank cells of the rule columns.
+     */
+    private static String[][] transposed(final String[][] rows) {
+        int width = 2;
+        for (final String[] row : rows) {
+            width = Math.max(width, row.length);
+        }
+        final String[][] result = new String[width][rows.length];
+        for (int row = 0; row < rows.length; row += 1) {
+            for (int column = 0; column < rows[row].length; column += 1) {
+                final String cell = rows[row][column].trim();
+                if (column < 2 || !cell.isEmpty()) {
+                    result[column][row] = cell;
+                }
             }
         }
         return result;
     }
 
-    private List<Rule> specifiedRules() {
+    /**
+     * Removes the line type, i.e. the first cell, from the row.
+     *
+     * @param row The row to remove the type from.
+     * @return The rest of the row's cells, at least one (possibly empty) cell.
+     */
+    private static String[] withoutType(final String[] row) {
+        final String[] result;
+        if (row.length > 1) {
+            result = Arrays.copyOfRange(row, 1, row.length);
+        } else {
+            result = new String[]{""};
+        }
+        return result;
+    }
+
+    private List<Rule> specifiedRules(final Symbols symbols) {
         return this.specifiedRulesFragments().stream()
-            .map(Rule::new)
+            .map(fragments -> new Rule(fragments, symbols))
             .toList();
     }
 
-    private Rule elseRule() {
-        final String[][] outcomes = this.asArrayOf("OUT");
-        final String[][] conditions = this.asArrayOf("CND");
+    private Rule elseRule(final Symbols symbols) {
+        final int outcomes = this.widthOf("OUT");
         final RuleFragments fragments;
-        if (outcomes[0].length > conditions[0].length) {
-            fragments = RuleFragments.listFrom(this, outcomes[0].length);
+        if (outcomes > this.widthOf("CND")) {
+            fragments = this.ruleFragments(outcomes - 1);
         } else {
             fragments = new RuleFragments(
                 List.of(
@@ -133,6 +371,8 @@ public final class SourceLines implements Iterable<String[]> {
                 )
             );
         }
-        return new Rule("%s::else".formatted(this.file), fragments);
+        return new Rule(
+            "%s::else".formatted(this.file), new DecisionRuleFragments(fragments), symbols
+        );
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.input;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the digest of the tables' sources. My main responsibility is to hash the names, the cells
+ * or the raw bytes of the sources, so that any change of the sources changes the digest. Every
+ * added part is prefixed with its length, so the parts could never be mistaken for one another.
+ *
+ * @since 0.10.0
+ */
+final class SourcesDigest {
+    /**
+     * The size of the digest, in bytes.
+     */
+    static final int SIZE = 32;
+
+    /**
+     * The hash function.
+     */
+    private final MessageDigest digest;
+
+    /**
+     * Ctor.
+     */
+    SourcesDigest() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new DecitaException(exception.getMessage());
+        }
+    }
+
+    /**
+     * Adds the string to the digest.
+     *
+     * @param text The string to add.
+     * @return This digest.
+     */
+    SourcesDigest with(final String text) {
+        return this.with(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Adds the bytes to the digest.
+     *
+     * @param bytes The bytes to add.
+     * @return This digest.
+     */
+    SourcesDigest with(final byte[] bytes) {
+        this.digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).flip());
+        this.digest.update(bytes);
+        return this;
+    }
+
+    /**
+     * Adds the row of cells to the digest.
+     *
+     * @param row The cells to add.
+     * @return This digest.
+     */
+    SourcesDigest withRow(final String... row) {
+        this.digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(row.length).flip());
+        for (final String cell : row) {
+            this.with(cell);
+        }
+        return this;
+    }
+
+    /**
+     * Completes the digest.
+     *
+     * @return The {@link #SIZE} bytes of the digest.
+     */
+    byte[] value() {
+        return this.digest.digest();
+    }
+}
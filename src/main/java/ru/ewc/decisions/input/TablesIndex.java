@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.input;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the {@link BundledTablesReader#INDEX} manifest of the tables in a folder. My main
+ * responsibility is to list the paths of the tables relative to the folder at build time, e.g. by
+ * the {@code decita-maven-plugin}, so that the manifest of the bundle is never written by hand.
+ *
+ * @since 0.10.0
+ */
+public final class TablesIndex {
+    /**
+     * The root of the bundle, i.e. the folder with the tables.
+     */
+    private final Path root;
+
+    /**
+     * The extension of the tables' files.
+     */
+    private final String extension;
+
+    /**
+     * Ctor.
+     *
+     * @param root The root of the bundle, i.e. the folder with the tables.
+     * @param extension The extension of the tables' files.
+     */
+    public TablesIndex(final Path root, final String extension) {
+        this.root = root;
+        this.extension = extension;
+    }
+
+    /**
+     * Lists the tables found under the root, sorted by their paths.
+     *
+     * @return The manifest's contents, one path per line.
+     * @throws DecitaException If the folder cannot be listed.
+     */
+    public String asString() throws DecitaException {
+        try (Stream<Path> files = Files.walk(this.root)) {
+            return files
+                .filter(Files::isRegularFile)
+                .filter(path -> path.getFileName().toString().endsWith(this.extension))
+                .map(path -> this.root.relativize(path).toString().replace('\\', '/'))
+                .sorted()
+                .map(path -> "%s\n".formatted(path))
+                .collect(Collectors.joining());
+        } catch (final IOException exception) {
+            throw new DecitaException(
+                "Cannot list the tables in '%s'".formatted(this.root),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Writes the manifest into the root of the bundle.
+     *
+     * @return The path of the written manifest.
+     * @throws IOException If the manifest cannot be written.
+     */
+    public Path write() throws IOException {
+        return Files.writeString(
+            this.root.resolve(BundledTablesReader.INDEX),
+            this.asString(),
+            StandardCharsets.UTF_8
+        );
+    }
+}
@@ -59,7 +59,7 @@ public final class State extends BaseLocators {
 
     public State extendedWithConstant() {
         if (!this.locators().containsKey("constant")) {
-            this.locators().put("constant", new ConstantLocator());
+            this.include(new ConstantLocator());
         }
         return this;
     }
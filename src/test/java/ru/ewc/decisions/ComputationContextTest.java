@@ -24,12 +24,20 @@
 
 package ru.ewc.decisions;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecisionTables;
 import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.api.InMemoryLocator;
+import ru.ewc.decisions.api.Locator;
+import ru.ewc.decisions.api.OutputTracker;
 import ru.ewc.decisions.core.Coordinate;
+import ru.ewc.decisions.input.SourceLines;
 import ru.ewc.state.State;
 
 /**
@@ -58,4 +66,104 @@ final class ComputationContextTest {
             Matchers.containsInAnyOrder("request::shop")
         );
     }
+
+    @Test
+    void shouldReportMissingLocatorsUpFront() {
+        final ComputationContext context = new ComputationContext(
+            new State(List.of(new InMemoryLocator("data", Map.of("x", "1")))),
+            DecisionTables.using(
+                () -> List.of(
+                    new SourceLines(
+                        "checks",
+                        List.of(
+                            "CND;data::x;1",
+                            "CND;other::y;>absent::z",
+                            "CND;inner::out;!${dynamic::name}",
+                            "OUT;out;third::w"
+                        ),
+                        ";"
+                    ),
+                    new SourceLines("inner", List.of("CND;data::x;1", "OUT;out;a"), ";")
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Should report the directly referenced locators that are missing",
+            context.missingLocators(),
+            Matchers.contains("absent", "other", "third")
+        );
+    }
+
+    @Test
+    void shouldPrepareMessagesOnlyForTrackedEvents() {
+        final ComputationContext context = TestObjects.defaultContext();
+        final List<String> prepared = new ArrayList<>(1);
+        context.logComputation(
+            OutputTracker.EventType.ST,
+            () -> {
+                prepared.add("untracked");
+                return "untracked";
+            }
+        );
+        context.startTracking();
+        context.logComputation(
+            OutputTracker.EventType.ST,
+            () -> {
+                prepared.add("tracked");
+                return "tracked";
+            }
+        );
+        MatcherAssert.assertThat(
+            "Should prepare the message only when someone tracks the events",
+            prepared,
+            Matchers.contains("tracked")
+        );
+    }
+
+    @Test
+    void shouldReadEveryFragmentOncePerEvaluation() {
+        final List<String> reads = new ArrayList<>(2);
+        final ComputationContext context = new ComputationContext(
+            new State(
+                List.of(
+                    new Locator() {
+                        @Override
+                        public String fragmentBy(final String frag, final ComputationContext ctx) {
+                            reads.add(frag);
+                            return "1";
+                        }
+
+                        @Override
+                        public void setFragmentValue(final String frag, final String value) {
+                            // nothing to set
+                        }
+
+                        @Override
+                        public String locatorName() {
+                            return "data";
+                        }
+                    },
+                    InMemoryLocator.empty("request")
+                )
+            ),
+            DecisionTables.using(
+                () -> List.of(
+                    new SourceLines(
+                        "outer",
+                        List.of("CND;data::x;1;1", "CND;inner::out;a;b", "OUT;out;a;b"),
+                        ";"
+                    ),
+                    new SourceLines("inner", List.of("CND;data::x;1", "OUT;out;a"), ";")
+                )
+            )
+        );
+        context.decisionFor("outer");
+        context.setValueFor("request", "y", "2");
+        context.decisionFor("outer");
+        MatcherAssert.assertThat(
+            "Should read the fragment once per evaluation, despite the nested tables",
+            reads,
+            Matchers.contains("x", "x")
+        );
+    }
 }
@@ -24,12 +24,14 @@
 
 package ru.ewc.decisions;
 
+import java.util.List;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.api.OutputTracker;
 import ru.ewc.decisions.core.Coordinate;
 
 /**
@@ -69,10 +71,10 @@ final class CoordinateTest {
             final Coordinate target = Coordinate.from("${cells::A1}");
             final ComputationContext context = TestObjects.ticTacToeContext();
             context.setValueFor("cells", "A1", "empty");
-            target.resolveIn(context);
+            final Coordinate resolved = target.resolveIn(context);
             MatcherAssert.assertThat(
                 "Dynamic coordinate defined by a single placeholder is resolved to a constant coordinate",
-                target.asString(),
+                resolved.asString(),
                 Matchers.is("constant::empty")
             );
         }
@@ -82,10 +84,10 @@ final class CoordinateTest {
             final Coordinate target = Coordinate.from("${request::locator}::A1");
             final ComputationContext context = TestObjects.ticTacToeContext();
             context.setValueFor("request", "locator", "cells");
-            target.resolveIn(context);
+            final Coordinate resolved = target.resolveIn(context);
             MatcherAssert.assertThat(
                 "Dynamic coordinate with a single placeholder is resolved to a static coordinate",
-                target.asString(),
+                resolved.asString(),
                 Matchers.is("cells::A1")
             );
         }
@@ -95,10 +97,10 @@ final class CoordinateTest {
             final Coordinate target = Coordinate.from("cells::${request::fragment}");
             final ComputationContext context = TestObjects.ticTacToeContext();
             context.setValueFor("request", "fragment", "A1");
-            target.resolveIn(context);
+            final Coordinate resolved = target.resolveIn(context);
             MatcherAssert.assertThat(
                 "Dynamic coordinate with a single placeholder is resolved to a static coordinate",
-                target.asString(),
+                resolved.asString(),
                 Matchers.is("cells::A1")
             );
         }
@@ -108,10 +110,10 @@ final class CoordinateTest {
             final Coordinate target = Coordinate.from("${constant::cells}::${request::fragment}");
             final ComputationContext context = TestObjects.ticTacToeContext();
             context.setValueFor("request", "fragment", "A1");
-            target.resolveIn(context);
+            final Coordinate resolved = target.resolveIn(context);
             MatcherAssert.assertThat(
                 "Dynamic coordinate with two placeholders is resolved to a static coordinate",
-                target.asString(),
+                resolved.asString(),
                 Matchers.is("cells::A1")
             );
         }
@@ -123,14 +125,48 @@ final class CoordinateTest {
             );
             final ComputationContext context = TestObjects.ticTacToeContext();
             context.setValueFor("request", "fragment", "A1");
-            target.resolveIn(context);
+            final Coordinate resolved = target.resolveIn(context);
             MatcherAssert.assertThat(
                 "Dynamic coordinate with two placeholders is resolved to a static coordinate",
-                target.asString(),
+                resolved.asString(),
                 Matchers.is("cells::A1")
             );
         }
 
+        @Test
+        void whenPlaceholderRepeatsThenShouldLocateItOnce() {
+            final Coordinate target = Coordinate.from(
+                "${request::fragment}::${request::fragment}"
+            );
+            final ComputationContext context = TestObjects.ticTacToeContext();
+            context.setValueFor("request", "fragment", "A1");
+            final OutputTracker<String> tracker = context.startTracking();
+            final Coordinate resolved = target.resolveIn(context);
+            MatcherAssert.assertThat(
+                "The repeated placeholder is located once and substituted everywhere",
+                List.of(
+                    resolved.asString(),
+                    String.valueOf(
+                        tracker.events().stream().filter(event -> event.startsWith("ST")).count()
+                    )
+                ),
+                Matchers.contains("A1::A1", "1")
+            );
+        }
+
+        @Test
+        void whenResolvedThenShouldStayUnchanged() {
+            final Coordinate target = Coordinate.from("cells::${request::fragment}");
+            final ComputationContext context = TestObjects.ticTacToeContext();
+            context.setValueFor("request", "fragment", "A1");
+            target.resolveIn(context);
+            MatcherAssert.assertThat(
+                "Dynamic coordinate is not changed by its resolution",
+                target.isResolved(),
+                Matchers.is(false)
+            );
+        }
+
         @Test
         void testDynamicCoordinateNotResolvedAfterCreation() {
             final Coordinate target = Coordinate.from("outcome::${dynamically::defined}");
@@ -173,12 +209,16 @@ final class CoordinateTest {
         void testChangesUponLocation() throws DecitaException {
             final Coordinate target = Coordinate.from("always_true::outcome");
             final ComputationContext context = TestObjects.defaultContext();
-            target.locateIn(context);
             MatcherAssert.assertThat(
                 "Locating the coordinate means computing its constant value",
-                target.isComputed(),
+                target.locateIn(context).isComputed(),
                 Matchers.is(true)
             );
+            MatcherAssert.assertThat(
+                "Locating the coordinate does not change the coordinate itself",
+                target.isComputed(),
+                Matchers.is(false)
+            );
         }
     }
 }
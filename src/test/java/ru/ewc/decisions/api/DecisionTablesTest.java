@@ -0,0 +1,312 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.input.CombinedCsvFileReader;
+import ru.ewc.decisions.input.ContentsReader;
+import ru.ewc.decisions.input.SourceLines;
+import ru.ewc.state.State;
+
+/**
+ * Tests for {@link DecisionTables}.
+ *
+ * @since 0.10.0
+ */
+final class DecisionTablesTest {
+    /**
+     * The number of threads evaluating the shared tables.
+     */
+    private static final int THREADS = 8;
+
+    /**
+     * The number of evaluations performed by every thread.
+     */
+    private static final int EVALUATIONS = 200;
+
+    @Test
+    void shouldReportAllBrokenTablesInOrder() {
+        final DecitaException failure = Assertions.assertThrows(
+            DecitaException.class,
+            () -> DecisionTables.using(
+                () -> List.of(
+                    new SourceLines(
+                        "zeta",
+                        List.of("HIT;SOMETIMES", "CND;data::x;1", "OUT;out;a"),
+                        ";"
+                    ),
+                    new SourceLines("fine", List.of("CND;data::x;1", "OUT;out;a"), ";"),
+                    new SourceLines(
+                        "twice",
+                        List.of("CND;data::x;1", "OUT;out;a", "OUT;out;b"),
+                        ";"
+                    ),
+                    new SourceLines("alpha", List.of("ENG;WARP", "CND;data::x;1", "OUT;out;a"), ";")
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Should report every broken table, ordered by name",
+            failure.getMessage(),
+            Matchers.stringContainsInOrder(
+                "alpha: Unknown matching engine 'WARP'",
+                "twice: Outcome 'out' is specified more than once",
+                "zeta: Unknown hit policy 'SOMETIMES'"
+            )
+        );
+    }
+
+    @Test
+    void shouldReadAndCompileEveryTableOffCommonPool() {
+        final List<Boolean> pooled = new CopyOnWriteArrayList<>();
+        final Map<String, Supplier<SourceLines>> sources = new HashMap<>();
+        DecisionTablesTest.folder().sources().forEach(
+            (name, source) -> sources.put(
+                name,
+                () -> {
+                    pooled.add(ForkJoinTask.inForkJoinPool());
+                    return source.get();
+                }
+            )
+        );
+        sources.put(
+            "b-gone",
+            () -> {
+                throw new DecitaException("Cannot read the file");
+            }
+        );
+        sources.put(
+            "a-gone",
+            () -> {
+                throw new DecitaException("Cannot read the file");
+            }
+        );
+        final DecitaException failure = Assertions.assertThrows(
+            DecitaException.class,
+            () -> DecisionTables.using(
+                new ContentsReader() {
+                    @Override
+                    public List<SourceLines> readAll() {
+                        throw new UnsupportedOperationException("Every table is read by its task");
+                    }
+
+                    @Override
+                    public Map<String, Supplier<SourceLines>> sources() {
+                        return sources;
+                    }
+                }
+            )
+        );
+        MatcherAssert.assertThat(
+            "Should report the failed reads by the tables' names, off the common pool",
+            List.of(failure.getMessage(), pooled.size(), pooled.contains(true)),
+            Matchers.contains(
+                String.join(
+                    "\n",
+                    "Cannot load the tables:",
+                    "a-gone: Cannot read the file",
+                    "b-gone: Cannot read the file"
+                ),
+                sources.size() - 2,
+                false
+            )
+        );
+    }
+
+    @Test
+    void shouldBeSharedBetweenConcurrentContexts() throws Exception {
+        final DecisionTables tables = DecisionTables.using(DecisionTablesTest.folder());
+        final ExecutorService executor = Executors.newFixedThreadPool(DecisionTablesTest.THREADS);
+        final List<Future<List<String>>> results = new ArrayList<>(DecisionTablesTest.THREADS);
+        for (int thread = 0; thread < DecisionTablesTest.THREADS; thread += 1) {
+            results.add(executor.submit(DecisionTablesTest.session(tables, thread % 2 == 0)));
+        }
+        executor.shutdown();
+        for (int thread = 0; thread < DecisionTablesTest.THREADS; thread += 1) {
+            final String expected;
+            if (thread % 2 == 0) {
+                expected = "true";
+            } else {
+                expected = "false";
+            }
+            MatcherAssert.assertThat(
+                "Every session should see only its own state",
+                results.get(thread).get(),
+                Matchers.everyItem(Matchers.is(expected))
+            );
+        }
+    }
+
+    @Test
+    void shouldCompileLazyTablesOnceOnFirstUse() throws Exception {
+        final AtomicInteger compiled = new AtomicInteger();
+        final Map<String, Supplier<SourceLines>> sources =
+            DecisionTablesTest.folder().sources();
+        final DecisionTables tables = DecisionTables.lazy(
+            new ContentsReader() {
+                @Override
+                public List<SourceLines> readAll() {
+                    throw new UnsupportedOperationException("Lazy tables are never read at once");
+                }
+
+                @Override
+                public Map<String, Supplier<SourceLines>> sources() {
+                    final Map<String, Supplier<SourceLines>> result = new HashMap<>();
+                    sources.forEach(
+                        (name, source) -> result.put(
+                            name,
+                            () -> {
+                                compiled.incrementAndGet();
+                                return source.get();
+                            }
+                        )
+                    );
+                    result.put(
+                        "broken",
+                        () -> new SourceLines("broken", List.of("HIT;SOMETIMES"), ";")
+                    );
+                    return result;
+                }
+            }
+        );
+        final ExecutorService executor = Executors.newFixedThreadPool(DecisionTablesTest.THREADS);
+        final List<Future<List<String>>> results = new ArrayList<>(DecisionTablesTest.THREADS);
+        for (int thread = 0; thread < DecisionTablesTest.THREADS; thread += 1) {
+            results.add(executor.submit(DecisionTablesTest.session(tables, true)));
+        }
+        executor.shutdown();
+        for (final Future<List<String>> result : results) {
+            MatcherAssert.assertThat(
+                "Every thread should get the outcomes of the lazily compiled table",
+                result.get(),
+                Matchers.everyItem(Matchers.equalTo("true"))
+            );
+        }
+        MatcherAssert.assertThat(
+            "Only the used table should be compiled, and only once",
+            List.of(compiled.get(), tables.hasLocator("broken")),
+            Matchers.contains(1, true)
+        );
+    }
+
+    @Test
+    void shouldResolveThroughLinksOnFirstEvaluation() {
+        final Locator data = new InMemoryLocator("linked-data", Map.of("x", "1"));
+        final ComputationContext context = new ComputationContext(
+            new State(List.of(data)),
+            DecisionTables.using(DecisionTablesTest.linkedTables())
+        );
+        final Locator before = context.linkOf("linked-data");
+        final String outcome = context.decisionFor("linked-outer").get("out");
+        MatcherAssert.assertThat(
+            "Should link the referenced locators as soon as the context is built",
+            List.of(before == data, context.linkOf("linked-inner") != null, outcome),
+            Matchers.contains(true, true, "done")
+        );
+    }
+
+    @Test
+    void shouldLinkNamesOfLazyTablesOnceCompiled() {
+        final Locator data = new InMemoryLocator("linked-data", Map.of("x", "1"));
+        final ComputationContext context = new ComputationContext(
+            new State(List.of(data)),
+            DecisionTables.lazy(DecisionTablesTest.linkedTables())
+        );
+        final boolean table = context.linkOf("linked-outer") != null;
+        final boolean early = context.linkOf("linked-data") != null;
+        final String outcome = context.decisionFor("linked-outer").get("out");
+        MatcherAssert.assertThat(
+            "Should link the tables at once and their locators after they are compiled",
+            List.of(table, early, context.linkOf("linked-data") == data, outcome),
+            Matchers.contains(true, false, true, "done")
+        );
+    }
+
+    private static ContentsReader linkedTables() {
+        return () -> List.of(
+            new SourceLines(
+                "linked-inner", List.of("CND;linked-data::x;1", "OUT;out;yes"), ";"
+            ),
+            new SourceLines(
+                "linked-outer", List.of("CND;linked-inner::out;yes", "OUT;out;done"), ";"
+            )
+        );
+    }
+
+    private static ContentsReader folder() {
+        return new CombinedCsvFileReader(
+            Path.of(Paths.get("").toAbsolutePath().toString(), "src/test/resources/tables")
+                .toUri(),
+            ".csv",
+            ";"
+        );
+    }
+
+    private static Callable<List<String>> session(
+        final DecisionTables tables,
+        final boolean available
+    ) {
+        return () -> {
+            final String cell;
+            if (available) {
+                cell = "A1";
+            } else {
+                cell = "A2";
+            }
+            final ComputationContext context = new ComputationContext(
+                new State(
+                    List.of(
+                        new InMemoryLocator("cells", Map.of("A1", "empty", "A2", "X")),
+                        new InMemoryLocator("request", Map.of("move", cell, "player", "X")),
+                        new InMemoryLocator("game", Map.of("currentPlayer", "X"))
+                    )
+                ),
+                tables
+            );
+            final List<String> outcomes = new ArrayList<>(DecisionTablesTest.EVALUATIONS);
+            for (int idx = 0; idx < DecisionTablesTest.EVALUATIONS; idx += 1) {
+                outcomes.add(context.decisionFor("dynamic-coordinate").get("moveAvailable"));
+            }
+            return outcomes;
+        };
+    }
+}
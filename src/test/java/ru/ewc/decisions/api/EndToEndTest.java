@@ -100,7 +100,7 @@ final class EndToEndTest {
         MatcherAssert.assertThat(
             "Should have logged all the computations",
             tracker.events().size(),
-            Matchers.is(27)
+            Matchers.is(17)
         );
     }
 
@@ -126,6 +126,25 @@ final class EndToEndTest {
         );
     }
 
+    @Test
+    void shouldReuseCompiledTableForSubsequentEvaluations() {
+        final State state = new State(
+            List.of(
+                new InMemoryLocator("cells", Map.of("A1", "empty", "A2", "X", "A3", "O")),
+                new InMemoryLocator("request", Map.of("move", "A1", "player", "X")),
+                new InMemoryLocator("game", Map.of("currentPlayer", "X"))
+            )
+        );
+        final ComputationContext context = TestObjects.tablesFolderWithState(state);
+        context.decisionFor("dynamic-coordinate");
+        context.setValueFor("request", "move", "A2");
+        MatcherAssert.assertThat(
+            "Should not reuse the coordinates resolved during the previous evaluation",
+            context.decisionFor("dynamic-coordinate"),
+            Matchers.hasEntry("moveAvailable", "false")
+        );
+    }
+
     @Test
     void shouldThrowIfSeveralRulesResolveToTrue() {
         final State state = new State(
@@ -140,6 +159,49 @@ final class EndToEndTest {
             .hasMessageContaining("Multiple rules are satisfied");
     }
 
+    @Test
+    void shouldStopAtFirstSatisfiedRuleForFirstHitPolicy() {
+        final ComputationContext context = EndToEndTest.contextWithDataValue(1);
+        final OutputTracker<String> tracker = context.startTracking();
+        MatcherAssert.assertThat(
+            "The first satisfied rule wins",
+            context.decisionFor("first-hit"),
+            Matchers.hasEntry(EndToEndTest.OUT, "hello")
+        );
+        MatcherAssert.assertThat(
+            "The rules after the first satisfied one are not checked",
+            tracker.events().stream().filter(e -> e.startsWith("RL")).count(),
+            Matchers.is(1L)
+        );
+    }
+
+    @Test
+    void shouldChooseRuleWithHighestPriorityForPriorityHitPolicy() {
+        MatcherAssert.assertThat(
+            "The satisfied rule with the highest priority wins",
+            EndToEndTest.contextWithDataValue(1).decisionFor("priority-hit"),
+            Matchers.hasEntry(EndToEndTest.OUT, "positive")
+        );
+    }
+
+    @Test
+    void shouldReturnAllSatisfiedOutcomesForCollectHitPolicy() {
+        final ComputationContext context = EndToEndTest.contextWithDataValue(1);
+        MatcherAssert.assertThat(
+            "All the satisfied rules' outcomes are collected",
+            context.decisionsFor("collect-hit"),
+            Matchers.contains(
+                Matchers.hasEntry(EndToEndTest.OUT, "one"),
+                Matchers.hasEntry(EndToEndTest.OUT, "any")
+            )
+        );
+        MatcherAssert.assertThat(
+            "The collected outcomes are merged into a single one",
+            context.decisionFor("collect-hit"),
+            Matchers.hasEntry(EndToEndTest.OUT, "one,any")
+        );
+    }
+
     @Test
     void shouldPerformCommandFromTable() {
         final State state = new State(
@@ -183,6 +245,12 @@ final class EndToEndTest {
         );
     }
 
+    private static ComputationContext contextWithDataValue(final int value) {
+        return TestObjects.tablesFolderWithState(
+            new State(List.of(new InMemoryLocator("data", Map.of("value", value))))
+        );
+    }
+
     private static InMemoryLocator locatorShopsInRequest(final int shops) {
         return new InMemoryLocator("request", Map.of(EndToEndTest.SHOP, shops));
     }
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.core.Coordinate;
+import ru.ewc.state.State;
+
+/**
+ * Tests for {@link GridLocator}.
+ *
+ * @since 0.10.0
+ */
+final class GridLocatorTest {
+    @Test
+    void shouldKeepCellsAndOtherFragmentsApart() {
+        final GridLocator locator = new GridLocator(
+            "cells", 3, 3, Map.of("B2", "X", "A01", "other", "size", 3)
+        );
+        locator.cell(3, 3, "O");
+        MatcherAssert.assertThat(
+            "Should read the cells and the rest of the fragments",
+            List.of(
+                locator.fragmentBy("B2", null),
+                locator.fragmentBy("C3", null),
+                locator.fragmentBy("A1", null),
+                locator.fragmentBy("A01", null),
+                locator.fragmentBy("D1", null),
+                locator.fragmentBy("size", null),
+                locator.cell(2, 2)
+            ),
+            Matchers.contains("X", "O", "undefined", "other", "undefined", "3", "X")
+        );
+    }
+
+    @Test
+    void shouldReadAndWriteWholeBoard() {
+        final GridLocator locator = new GridLocator("cells", 2, 2);
+        locator.board("X", null, "O", "X");
+        locator.setFragmentValue("B1", "O");
+        MatcherAssert.assertThat(
+            "Should store the board row by row",
+            List.of(List.of(locator.board()), locator.state()),
+            Matchers.contains(
+                List.of("X", "O", "O", "X"),
+                Map.of("A1", "X", "B1", "O", "A2", "O", "B2", "X")
+            )
+        );
+        Assertions.assertThrows(DecitaException.class, () -> locator.board("X"));
+    }
+
+    @Test
+    void shouldResolveDynamicCoordinates() {
+        final ComputationContext context = new ComputationContext(
+            new State(
+                List.of(
+                    new GridLocator("cells", 8, 8, Map.of("E4", "pawn")),
+                    new InMemoryLocator("request", Map.of("move", "E4"))
+                )
+            ),
+            DecisionTables.using(List::of)
+        );
+        MatcherAssert.assertThat(
+            "Should find the cell named by another fragment",
+            Coordinate.from("cells::${request::move}").valueIn(context),
+            Matchers.equalTo("pawn")
+        );
+    }
+
+    @Test
+    void shouldRejectUnsupportedBoards() {
+        Assertions.assertThrows(DecitaException.class, () -> new GridLocator("cells", 100, 8));
+    }
+}
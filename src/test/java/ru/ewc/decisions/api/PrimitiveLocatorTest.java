@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PrimitiveLocator}.
+ *
+ * @since 0.10.0
+ */
+final class PrimitiveLocatorTest {
+    @Test
+    void shouldReadValuesLikeInMemoryLocator() {
+        final Map<String, Object> values = Map.of(
+            "count", 42, "big", 1L << 40, "ratio", 0.25, "flag", true, "text", "X", "float", 0.1f
+        );
+        final Locator expected = new InMemoryLocator("data", values);
+        final Locator actual = new PrimitiveLocator("data", values);
+        final List<String> fragments = List.of(
+            "count", "big", "ratio", "flag", "text", "float", "no"
+        );
+        for (final String fragment : fragments) {
+            MatcherAssert.assertThat(
+                "Should read '%s' just like the in-memory locator".formatted(fragment),
+                actual.fragmentBy(fragment, null),
+                Matchers.equalTo(expected.fragmentBy(fragment, null))
+            );
+        }
+    }
+
+    @Test
+    void shouldKeepAllFragmentsWhileGrowing() {
+        final PrimitiveLocator locator = new PrimitiveLocator("cells");
+        final List<String> expected = new ArrayList<>(1000);
+        final List<String> actual = new ArrayList<>(1000);
+        for (int idx = 0; idx < 1000; idx += 1) {
+            locator.put("cell_%d".formatted(idx), idx);
+            expected.add(String.valueOf(idx));
+        }
+        for (int idx = 0; idx < 1000; idx += 1) {
+            actual.add(locator.fragmentBy("cell_%d".formatted(idx), null));
+        }
+        MatcherAssert.assertThat(
+            "Should find every stored fragment",
+            List.of(actual, locator.state().size()),
+            Matchers.contains(expected, 1000)
+        );
+    }
+
+    @Test
+    void shouldFormatPrimitiveValueOnce() {
+        final PrimitiveLocator locator = new PrimitiveLocator("data", Map.of("count", 42));
+        final String first = locator.fragmentBy("count", null);
+        final String second = locator.fragmentBy("count", null);
+        locator.put("count", 43);
+        MatcherAssert.assertThat(
+            "Should reuse the formatted value until it changes",
+            List.of(first == second, locator.fragmentBy("count", null)),
+            Matchers.contains(true, "43")
+        );
+    }
+
+    @Test
+    void shouldExposeLiveReadOnlyState() {
+        final PrimitiveLocator locator = new PrimitiveLocator("data", Map.of("count", 1));
+        final Map<String, Object> state = locator.state();
+        locator.setFragmentValue("move", "A1");
+        locator.put("count", 2);
+        MatcherAssert.assertThat(
+            "The state should reflect the later changes",
+            state,
+            Matchers.equalTo(Map.of("count", 2L, "move", "A1"))
+        );
+        Assertions.assertThrows(
+            UnsupportedOperationException.class,
+            () -> state.put("count", 3)
+        );
+    }
+}
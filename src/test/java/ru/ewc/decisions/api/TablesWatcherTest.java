@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.ewc.decisions.input.SourceLines;
+import ru.ewc.state.State;
+
+/**
+ * Tests for {@link TablesWatcher}.
+ *
+ * @since 0.10.0
+ */
+final class TablesWatcherTest {
+    /**
+     * The longest time to wait for the change to be noticed, in milliseconds.
+     */
+    private static final long TIMEOUT = 20_000L;
+
+    @Test
+    void shouldReloadChangedTable(@TempDir final Path folder) throws Exception {
+        final Path table = folder.resolve("table.csv");
+        Files.writeString(table, "CND;data::x;1\nOUT;out;old\n");
+        try (TablesWatcher watcher = new TablesWatcher(folder.toUri(), ".csv", ";")) {
+            final ComputationContext context =
+                new ComputationContext(TablesWatcherTest.state(), watcher);
+            Files.writeString(table, "CND;data::x;1\nOUT;out;new\n");
+            Files.writeString(folder.resolve("added.csv"), "CND;data::x;1\nOUT;out;added\n");
+            TablesWatcherTest.await(watcher, "added");
+            MatcherAssert.assertThat(
+                "Should evaluate the reloaded tables",
+                List.of(
+                    context.decisionFor("table").get("out"),
+                    context.decisionFor("added").get("out")
+                ),
+                Matchers.contains("new", "added")
+            );
+        }
+    }
+
+    @Test
+    void shouldKeepPreviousTableWhenChangeIsBroken(@TempDir final Path folder) throws Exception {
+        final Path table = folder.resolve("table.csv");
+        Files.writeString(table, "CND;data::x;1\nOUT;out;old\n");
+        try (TablesWatcher watcher = new TablesWatcher(folder.toUri(), ".csv", ";")) {
+            Files.writeString(table, "HIT;SOMETIMES\nCND;data::x;1\nOUT;out;new\n");
+            TablesWatcherTest.await(() -> TablesWatcherTest.failureOf(watcher).contains("SOMETIMES"));
+            MatcherAssert.assertThat(
+                "Should report the failure and keep the previous table",
+                List.of(
+                    TablesWatcherTest.failureOf(watcher),
+                    new ComputationContext(TablesWatcherTest.state(), watcher)
+                        .decisionFor("table").get("out")
+                ),
+                Matchers.contains("Unknown hit policy 'SOMETIMES'", "old")
+            );
+            Files.writeString(table, "CND;data::x;1\nOUT;out;fixed\n");
+            TablesWatcherTest.await(() -> watcher.lastFailure().isEmpty());
+            MatcherAssert.assertThat(
+                "Should forget the failure once the file is fixed",
+                List.of(
+                    watcher.failures(),
+                    new ComputationContext(TablesWatcherTest.state(), watcher)
+                        .decisionFor("table").get("out")
+                ),
+                Matchers.contains(Map.of(), "fixed")
+            );
+        }
+    }
+
+    @Test
+    void shouldDropTablesOfRemovedFolder(@TempDir final Path folder) throws Exception {
+        final Path nested = Files.createDirectories(folder.resolve("nested/deeper"));
+        Files.writeString(folder.resolve("kept.csv"), "CND;data::x;1\nOUT;out;kept\n");
+        Files.writeString(nested.resolve("inner.csv"), "CND;data::x;1\nOUT;out;inner\n");
+        try (TablesWatcher watcher = new TablesWatcher(folder.toUri(), ".csv", ";")) {
+            Files.delete(nested.resolve("inner.csv"));
+            Files.delete(nested);
+            Files.delete(nested.getParent());
+            TablesWatcherTest.await(() -> !watcher.get().hasLocator("inner"));
+            MatcherAssert.assertThat(
+                "Should drop the tables of the removed folder only",
+                watcher.get().tableNames(),
+                Matchers.contains("kept")
+            );
+        }
+    }
+
+    @Test
+    void shouldPinTablesForWholeEvaluation() {
+        final AtomicInteger taken = new AtomicInteger();
+        final DecisionTables tables = DecisionTables.using(
+            () -> List.of(
+                new SourceLines("inner", List.of("CND;data::x;1", "OUT;out;a"), ";"),
+                new SourceLines("outer", List.of("CND;inner::out;a", "OUT;out;b"), ";")
+            )
+        );
+        final ComputationContext context = new ComputationContext(
+            TablesWatcherTest.state(),
+            () -> {
+                taken.incrementAndGet();
+                return tables;
+            }
+        );
+        context.decisionFor("outer");
+        context.decisionFor("outer");
+        MatcherAssert.assertThat(
+            "Should take the tables once per top-level evaluation",
+            taken.get(),
+            Matchers.is(3)
+        );
+    }
+
+    private static State state() {
+        return new State(List.of(new InMemoryLocator("data", Map.of("x", "1"))));
+    }
+
+    private static void await(final TablesWatcher watcher, final String table)
+        throws InterruptedException {
+        TablesWatcherTest.await(() -> watcher.get().hasLocator(table));
+    }
+
+    private static void await(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TablesWatcherTest.TIMEOUT;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+        }
+    }
+
+    private static String failureOf(final TablesWatcher watcher) {
+        return watcher.lastFailure().map(Throwable::getMessage).orElse("");
+    }
+}
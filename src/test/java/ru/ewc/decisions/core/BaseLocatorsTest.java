@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecisionTables;
+import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.api.InMemoryLocator;
+import ru.ewc.decisions.api.Locator;
+import ru.ewc.decisions.input.SourceLines;
+import ru.ewc.state.State;
+
+/**
+ * Tests for the {@link BaseLocators}' lookup by the {@link Symbols}' IDs.
+ *
+ * @since 0.10.0
+ */
+final class BaseLocatorsTest {
+    @Test
+    void shouldFindLocatorsBySymbolsAddedLater() {
+        final Locator data = new InMemoryLocator("symbols-data", Map.of("x", "1"));
+        final State state = new State(List.of(data));
+        MatcherAssert.assertThat(
+            "Should find the same locators as by their names",
+            List.of(
+                state.locatorFor(state.symbols().idOf("symbols-data")) == data,
+                state.hasLocator(state.symbols().idOf("symbols-missing"))
+            ),
+            Matchers.contains(true, false)
+        );
+    }
+
+    @Test
+    void shouldReportMissingLocatorByItsName() {
+        final State state = new State(List.of());
+        final DecitaException failure = Assertions.assertThrows(
+            DecitaException.class,
+            () -> state.locatorFor(state.symbols().idOf("symbols-absent"))
+        );
+        MatcherAssert.assertThat(
+            "Should name the missing locator",
+            failure.getMessage(),
+            Matchers.equalTo("Locator 'symbols-absent' not found in computation context")
+        );
+    }
+
+    @Test
+    void shouldNotAddNamesResolvedDuringEvaluation() {
+        final ComputationContext context = new ComputationContext(
+            new State(
+                List.of(
+                    new InMemoryLocator("symbols-request", Map.of("target", "symbols-dynamic")),
+                    new InMemoryLocator("symbols-dynamic", Map.of("x", "2"))
+                )
+            ),
+            DecisionTables.using(List::of)
+        );
+        final String value = Coordinate.from("${symbols-request::target}::x").valueIn(context);
+        MatcherAssert.assertThat(
+            "Should find the resolved locator by its name without adding it to the table",
+            List.of(value, String.valueOf(context.symbols().find("symbols-dynamic"))),
+            Matchers.contains("2", String.valueOf(Symbols.UNKNOWN))
+        );
+    }
+
+    @Test
+    void shouldGiveIdsToNamesWhenTablesAreLoaded() {
+        final DecisionTables tables = DecisionTables.using(
+            () -> List.of(
+                new SourceLines(
+                    "symbols-table",
+                    List.of("CND;symbols-loaded::x;${symbols-hole::y}", "OUT;outcome;yes"),
+                    ";"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Should give the IDs to the names of the loaded tables before any evaluation",
+            List.of(
+                tables.symbols().find("symbols-loaded") != Symbols.UNKNOWN,
+                tables.symbols().find("symbols-hole") != Symbols.UNKNOWN
+            ),
+            Matchers.contains(true, true)
+        );
+    }
+
+    @Test
+    void shouldKeepSymbolsOfEveryTablesApart() {
+        final ComputationContext first = new ComputationContext(
+            new State(
+                List.of(
+                    new InMemoryLocator("symbols-other", Map.of("x", "0")),
+                    new InMemoryLocator("symbols-scoped", Map.of("x", "1"))
+                )
+            ),
+            DecisionTables.using(List::of)
+        );
+        first.symbols().idOf("symbols-other");
+        final Coordinate coordinate = Coordinate.from("symbols-scoped::x", first.symbols());
+        final ComputationContext second = new ComputationContext(
+            new State(List.of(new InMemoryLocator("symbols-scoped", Map.of("x", "2")))),
+            DecisionTables.using(List::of)
+        );
+        MatcherAssert.assertThat(
+            "Should find the locator by its own ID in the table of every set of tables",
+            List.of(
+                coordinate.valueIn(first),
+                coordinate.valueIn(second),
+                coordinate.valueIn(first),
+                String.valueOf(second.symbols().find("symbols-other"))
+            ),
+            Matchers.contains("1", "2", "1", String.valueOf(Symbols.UNKNOWN))
+        );
+    }
+}
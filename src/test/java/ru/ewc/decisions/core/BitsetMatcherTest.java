@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.api.ComputationContext;
+
+/**
+ * Tests for {@link BitsetMatcher}.
+ *
+ * @since 0.10.0
+ */
+final class BitsetMatcherTest {
+    /**
+     * The number of rules in the generated wide table.
+     */
+    private static final int RULES = 150;
+
+    @Test
+    void shouldBeUsedForWideTables() {
+        MatcherAssert.assertThat(
+            "The wide table should be matched with bitsets",
+            ((ExhaustiveMatcher) RuleMatcher.suitableFor(
+                MatcherTestObjects.rulesOf("wide", BitsetMatcherTest.wideTable()), new Symbols()
+            )).guarded(),
+            Matchers.instanceOf(BitsetMatcher.class)
+        );
+    }
+
+    @Test
+    void shouldFindTheSameRulesAsSequentialMatcher() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf("wide", BitsetMatcherTest.wideTable());
+        final RuleMatcher bitset = new BitsetMatcher(rules, new Symbols());
+        final RuleMatcher sequential = new SequentialMatcher(rules);
+        for (int number = -1; number <= 11; number += 1) {
+            for (final String word : List.of("a", "b", "c", "d")) {
+                final ComputationContext context = MatcherTestObjects.contextWith(
+                    "data", Map.of("number", number, "word", word)
+                );
+                MatcherAssert.assertThat(
+                    "Bitset matching should give the same result as the sequential one",
+                    bitset.satisfied(context, HitPolicy.COLLECT, "wide"),
+                    Matchers.equalTo(sequential.satisfied(context, HitPolicy.COLLECT, "wide"))
+                );
+            }
+        }
+    }
+
+    @Test
+    void shouldFailJustLikeSequentialMatcher() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf("wide", BitsetMatcherTest.wideTable());
+        final RuleMatcher bitset = MatchingEngine.BITSET.matcherFor(rules);
+        final RuleMatcher sequential = MatchingEngine.SEQUENTIAL.matcherFor(rules);
+        for (final String number : List.of("x", "1.5", "7")) {
+            for (final HitPolicy policy : List.of(HitPolicy.COLLECT, HitPolicy.UNIQUE)) {
+                final ComputationContext context = MatcherTestObjects.contextWith(
+                    "data", Map.of("number", number, "word", "b")
+                );
+                MatcherAssert.assertThat(
+                    "Bitset matching should fail only where the sequential one does",
+                    MatcherTestObjects.resultOf(bitset, context, policy),
+                    Matchers.equalTo(MatcherTestObjects.resultOf(sequential, context, policy))
+                );
+            }
+        }
+    }
+
+    @Test
+    void shouldApplyHitPolicyToSatisfiedRules() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf("wide", BitsetMatcherTest.wideTable());
+        final ComputationContext context = MatcherTestObjects.contextWith(
+            "data", Map.of("number", 5, "word", "a")
+        );
+        MatcherAssert.assertThat(
+            "The first satisfied rule should be chosen",
+            new BitsetMatcher(rules, new Symbols()).satisfied(context, HitPolicy.FIRST, "wide"),
+            Matchers.equalTo(
+                new SequentialMatcher(rules).satisfied(context, HitPolicy.FIRST, "wide")
+            )
+        );
+    }
+
+    private static List<String> wideTable() {
+        final Random random = new Random(42L);
+        final List<String> numbers = new ArrayList<>(BitsetMatcherTest.RULES);
+        final List<String> words = new ArrayList<>(BitsetMatcherTest.RULES);
+        final List<String> outcomes = new ArrayList<>(BitsetMatcherTest.RULES);
+        final String[] operations = {"", ">", "<", "!", "~"};
+        final String[] letters = {"a", "b", "c", "!a", "~", "~b", "!~b"};
+        for (int idx = 0; idx < BitsetMatcherTest.RULES; idx += 1) {
+            final String operation = operations[random.nextInt(operations.length)];
+            if ("~".equals(operation)) {
+                numbers.add(operation);
+            } else {
+                numbers.add(operation + random.nextInt(10));
+            }
+            words.add(letters[random.nextInt(letters.length)]);
+            outcomes.add("rule_%d".formatted(idx));
+        }
+        return List.of(
+            "CND;data::number;%s".formatted(String.join(";", numbers)),
+            "CND;data::word;%s".formatted(String.join(";", words)),
+            "OUT;outcome;%s".formatted(String.join(";", outcomes))
+        );
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.api.ComputationContext;
+
+/**
+ * Tests for {@link BytecodeMatcher}.
+ *
+ * @since 0.10.0
+ */
+final class BytecodeMatcherTest {
+    /**
+     * The number of rules in the generated table.
+     */
+    private static final int RULES = 100;
+
+    @Test
+    void shouldCompileTableIntoHiddenClass() {
+        final RuleMatcher matcher = ((ExhaustiveMatcher) MatchingEngine.BYTECODE.matcherFor(
+            MatcherTestObjects.rulesOf("random", BytecodeMatcherTest.randomTable())
+        )).guarded();
+        MatcherAssert.assertThat(
+            "The table should get its own hidden class",
+            List.of(matcher instanceof BytecodeMatcher, matcher.getClass().isHidden()),
+            Matchers.contains(true, true)
+        );
+    }
+
+    @Test
+    void shouldFindTheSameRulesAsSequentialMatcher() {
+        final List<Rule> rules =
+            MatcherTestObjects.rulesOf("random", BytecodeMatcherTest.randomTable());
+        final RuleMatcher compiled = MatchingEngine.BYTECODE.matcherFor(rules);
+        final RuleMatcher sequential = MatchingEngine.SEQUENTIAL.matcherFor(rules);
+        for (int number = -1; number <= 11; number += 1) {
+            for (final String word : List.of("a", "b", "c", "d")) {
+                final ComputationContext context = MatcherTestObjects.contextWith(
+                    "data", Map.of("number", number, "word", word, "pick", "b")
+                );
+                MatcherAssert.assertThat(
+                    "Compiled matching should give the same result as the sequential one",
+                    compiled.satisfied(context, HitPolicy.COLLECT, "random"),
+                    Matchers.equalTo(sequential.satisfied(context, HitPolicy.COLLECT, "random"))
+                );
+            }
+        }
+    }
+
+    @Test
+    void shouldNotCompareStrings() {
+        final RuleMatcher compiled = MatchingEngine.BYTECODE.matcherFor(
+            MatcherTestObjects.rulesOf("random", List.of("CND;data::word;>1;<1", "OUT;outcome;A;B"))
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> compiled.satisfied(
+                MatcherTestObjects.contextWith(
+                    "data", Map.of("number", 0, "word", "a", "pick", "b")
+                ),
+                HitPolicy.COLLECT,
+                "strings"
+            )
+        );
+    }
+
+    @Test
+    void shouldFailJustLikeSequentialMatcher() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf(
+            "failing",
+            List.of("CND;data::word;b;b;b", "CND;data::number;~;~;>1", "OUT;outcome;A;B;C")
+        );
+        final RuleMatcher compiled = MatchingEngine.BYTECODE.matcherFor(rules);
+        final RuleMatcher sequential = MatchingEngine.SEQUENTIAL.matcherFor(rules);
+        for (final String number : List.of("x", "1", "2")) {
+            for (final HitPolicy policy : List.of(HitPolicy.COLLECT, HitPolicy.UNIQUE)) {
+                final ComputationContext context = MatcherTestObjects.contextWith(
+                    "data", Map.of("number", number, "word", "b")
+                );
+                MatcherAssert.assertThat(
+                    "Compiled matching should fail only where the sequential one does",
+                    MatcherTestObjects.resultOf(compiled, context, policy),
+                    Matchers.equalTo(MatcherTestObjects.resultOf(sequential, context, policy))
+                );
+            }
+        }
+    }
+
+    private static List<String> randomTable() {
+        final Random random = new Random(13L);
+        final List<String> numbers = new ArrayList<>(BytecodeMatcherTest.RULES);
+        final List<String> words = new ArrayList<>(BytecodeMatcherTest.RULES);
+        final List<String> outcomes = new ArrayList<>(BytecodeMatcherTest.RULES);
+        final String[] operations = {"", ">", "<", "!", "~", "!>", "!<"};
+        final String[] letters = {"a", "b", "c", "!a", "~", "~b", "!~b", "${data::pick}"};
+        for (int idx = 0; idx < BytecodeMatcherTest.RULES; idx += 1) {
+            final String operation = operations[random.nextInt(operations.length)];
+            if ("~".equals(operation)) {
+                numbers.add(operation);
+            } else {
+                numbers.add(operation + random.nextInt(10));
+            }
+            words.add(letters[random.nextInt(letters.length)]);
+            outcomes.add("rule_%d".formatted(idx));
+        }
+        return List.of(
+            "CND;data::number;%s".formatted(String.join(";", numbers)),
+            "CND;data::word;%s".formatted(String.join(";", words)),
+            "OUT;outcome;%s".formatted(String.join(";", outcomes))
+        );
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.input.SourceLines;
+
+/**
+ * Tests for {@link DecisionTree}.
+ *
+ * @since 0.10.0
+ */
+final class DecisionTreeTest {
+    /**
+     * The number of rules in the generated table.
+     */
+    private static final int RULES = 40;
+
+    @Test
+    void shouldFindTheSameRulesAsSequentialMatcher() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf("mixed", DecisionTreeTest.mixedTable());
+        final RuleMatcher tree = MatchingEngine.TREE.matcherFor(rules);
+        final RuleMatcher sequential = MatchingEngine.SEQUENTIAL.matcherFor(rules);
+        for (int number = -1; number <= 6; number += 1) {
+            for (final String word : List.of("a", "b", "c", "d")) {
+                for (final String color : List.of("red", "green", "blue")) {
+                    final ComputationContext context =
+                        MatcherTestObjects.contextWith(
+                            "data", Map.of("number", number, "word", word, "color", color)
+                        );
+                    MatcherAssert.assertThat(
+                        "Tree matching should give the same result as the sequential one",
+                        tree.satisfied(context, HitPolicy.COLLECT, "mixed"),
+                        Matchers.equalTo(sequential.satisfied(context, HitPolicy.COLLECT, "mixed"))
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldComputeOutcomeThroughTree() {
+        final ComputationContext context = MatcherTestObjects.contextWith(
+            "data", Map.of("number", 3, "word", "b", "color", "blue")
+        );
+        MatcherAssert.assertThat(
+            "The tree-matched table should compute the outcome",
+            new SourceLines(
+                "tree",
+                List.of(
+                    "ENG;TREE",
+                    "CND;data::word;a;b;b;~",
+                    "CND;data::color;red;blue;red;~",
+                    "CND;data::number;~;>2;~;<0",
+                    "OUT;outcome;A;B;C;D"
+                ),
+                ";"
+            ).asDecisionTable().outcome(context),
+            Matchers.hasEntry("outcome", "B")
+        );
+    }
+
+    private static List<String> mixedTable() {
+        final Random random = new Random(7L);
+        final List<String> words = new ArrayList<>(DecisionTreeTest.RULES);
+        final List<String> colors = new ArrayList<>(DecisionTreeTest.RULES);
+        final List<String> numbers = new ArrayList<>(DecisionTreeTest.RULES);
+        final List<String> outcomes = new ArrayList<>(DecisionTreeTest.RULES);
+        final String[] letters = {"a", "b", "c", "~", "~b"};
+        final String[] paints = {"red", "green", "blue", "!red", "~"};
+        final String[] operations = {">", "<", "", "~"};
+        for (int idx = 0; idx < DecisionTreeTest.RULES; idx += 1) {
+            words.add(letters[random.nextInt(letters.length)]);
+            colors.add(paints[random.nextInt(paints.length)]);
+            final String operation = operations[random.nextInt(operations.length)];
+            if ("~".equals(operation)) {
+                numbers.add(operation);
+            } else {
+                numbers.add(operation + random.nextInt(6));
+            }
+            outcomes.add("rule_%d".formatted(idx));
+        }
+        return List.of(
+            "CND;data::word;%s".formatted(String.join(";", words)),
+            "CND;data::color;%s".formatted(String.join(";", colors)),
+            "CND;data::number;%s".formatted(String.join(";", numbers)),
+            "OUT;outcome;%s".formatted(String.join(";", outcomes))
+        );
+    }
+}
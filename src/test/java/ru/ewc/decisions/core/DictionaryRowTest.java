@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecisionTables;
+import ru.ewc.decisions.api.InMemoryLocator;
+import ru.ewc.state.State;
+
+/**
+ * Tests for {@link DictionaryRow}.
+ *
+ * @since 0.10.0
+ */
+final class DictionaryRowTest {
+    /**
+     * The cells of the row over the cell states, with the wildcards and the negations.
+     */
+    private static final String[] CELLS = {
+        "empty", "X", null, "!O", "O", "X", "!empty", null, "constant::O",
+    };
+
+    @Test
+    void shouldAcceptOnlyConstantEqualities() {
+        MatcherAssert.assertThat(
+            "Only the rows of the constant equalities and their negations should be encoded",
+            List.of(
+                DictionaryRow.accepts(DictionaryRowTest.CELLS),
+                DictionaryRow.accepts(new String[]{"X", ">1"}),
+                DictionaryRow.accepts(new String[]{"X", "${data::cell}"}),
+                DictionaryRow.accepts(new String[]{"X", "!!O"}),
+                DictionaryRow.accepts(new String[]{"X", "~O"}),
+                DictionaryRow.accepts(new String[]{"X", "!~O"}),
+                DictionaryRow.accepts(new String[]{null, null})
+            ),
+            Matchers.contains(true, false, false, false, false, false, false)
+        );
+    }
+
+    @Test
+    void shouldFindTheSameRulesAsConditions() {
+        final Symbols symbols = new Symbols();
+        final BitsetRow dictionary =
+            new DictionaryRow("data::cell", DictionaryRowTest.CELLS, symbols);
+        final BitsetRow conditions =
+            new ConditionRow("data::cell", DictionaryRowTest.CELLS, symbols);
+        for (final String value : List.of("empty", "X", "O", "undefined", "x")) {
+            final ComputationContext context = new ComputationContext(
+                new State(List.of(new InMemoryLocator("data", Map.of("cell", value)))),
+                DecisionTables.using(List::of)
+            );
+            final long[] expected = {(1L << DictionaryRowTest.CELLS.length) - 1};
+            conditions.narrow(expected, context);
+            final long[] actual = {(1L << DictionaryRowTest.CELLS.length) - 1};
+            dictionary.narrow(actual, context);
+            MatcherAssert.assertThat(
+                "The encoded row should be satisfied by the same rules for '%s'".formatted(value),
+                actual,
+                Matchers.equalTo(expected)
+            );
+        }
+    }
+}
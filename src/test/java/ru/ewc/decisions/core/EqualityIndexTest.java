@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.OutputTracker;
+import ru.ewc.decisions.input.SourceLines;
+
+/**
+ * Tests for {@link EqualityIndex}.
+ *
+ * @since 0.10.0
+ */
+final class EqualityIndexTest {
+    /**
+     * The lookup-style table with a wildcard rule.
+     */
+    private static final List<String> LOOKUP = List.of(
+        "CND;request::suit;hearts;hearts;spades;spades;clubs;clubs;diamonds;diamonds;~",
+        "CND;request::rank;ace;king;ace;king;ace;king;ace;king;joker",
+        "OUT;outcome;H-A;H-K;S-A;S-K;C-A;C-K;D-A;D-K;J"
+    );
+
+    @Test
+    void shouldBeUsedForLookupTables() {
+        MatcherAssert.assertThat(
+            "The lookup table should be indexed",
+            ((ExhaustiveMatcher) RuleMatcher.suitableFor(
+                MatcherTestObjects.rulesOf("table", EqualityIndexTest.LOOKUP), new Symbols()
+            )).guarded(),
+            Matchers.instanceOf(EqualityIndex.class)
+        );
+    }
+
+    @Test
+    void shouldNotBeUsedForSmallTables() {
+        MatcherAssert.assertThat(
+            "The small table should not be indexed",
+            RuleMatcher.suitableFor(
+                MatcherTestObjects.rulesOf(
+                    "table", List.of("CND;request::suit;hearts;spades", "OUT;outcome;H;S")
+                ),
+                new Symbols()
+            ),
+            Matchers.instanceOf(RowMajorMatcher.class)
+        );
+    }
+
+    @Test
+    void shouldFindTheSameRulesAsSequentialMatcher() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf(
+            "table",
+            EqualityIndexTest.LOOKUP.stream()
+                .map(line -> line.replace(";clubs;clubs;", ";~clubs;clubs;"))
+                .toList()
+        );
+        final RuleMatcher index = EqualityIndex.suitableFor(rules, new Symbols()).orElseThrow();
+        final RuleMatcher sequential = new SequentialMatcher(rules);
+        for (final String suit : List.of("hearts", "clubs", "stars")) {
+            for (final String rank : List.of("ace", "king", "joker")) {
+                final ComputationContext context = EqualityIndexTest.lookupContext(suit, rank);
+                MatcherAssert.assertThat(
+                    "Indexed matching should give the same result as the sequential one",
+                    index.satisfied(context, HitPolicy.COLLECT, "table"),
+                    Matchers.equalTo(sequential.satisfied(context, HitPolicy.COLLECT, "table"))
+                );
+            }
+        }
+    }
+
+    @Test
+    void shouldFailJustLikeSequentialMatcher() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf(
+            "table",
+            List.of(
+                "CND;data::number;>1;~;~;~;~;~;~;~;~",
+                "CND;data::word;a;a;b;b;c;c;d;d;e",
+                "OUT;outcome;A1;A2;B1;B2;C1;C2;D1;D2;E"
+            )
+        );
+        final RuleMatcher index = EqualityIndex.suitableFor(rules, new Symbols()).orElseThrow();
+        final RuleMatcher sequential = new SequentialMatcher(rules);
+        for (final String number : List.of("x", "2")) {
+            for (final HitPolicy policy : List.of(HitPolicy.COLLECT, HitPolicy.UNIQUE)) {
+                final ComputationContext context = MatcherTestObjects.contextWith(
+                    "data", Map.of("number", number, "word", "b")
+                );
+                MatcherAssert.assertThat(
+                    "Indexed matching should fail only where the sequential one does",
+                    MatcherTestObjects.resultOf(index, context, policy),
+                    Matchers.equalTo(MatcherTestObjects.resultOf(sequential, context, policy))
+                );
+            }
+        }
+    }
+
+    @Test
+    void shouldTraceTheRulesJustLikeSequentialMatcher() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf("table", EqualityIndexTest.LOOKUP);
+        MatcherAssert.assertThat(
+            "The indexed table should report the same conditions and rules as the sequential one",
+            EqualityIndexTest.traceOf(
+                EqualityIndex.suitableFor(rules, new Symbols()).orElseThrow()
+            ),
+            Matchers.equalTo(EqualityIndexTest.traceOf(new SequentialMatcher(rules)))
+        );
+    }
+
+    @Test
+    void shouldLocateEveryIndexedValueOnce() {
+        final ComputationContext context = EqualityIndexTest.lookupContext("clubs", "king");
+        final OutputTracker<String> tracker = context.startTracking();
+        context.inFrame(
+            () -> EqualityIndexTest.lookupIndex().satisfied(context, HitPolicy.UNIQUE, "lookup")
+        );
+        MatcherAssert.assertThat(
+            "The candidate rules should reuse the values located by the index",
+            tracker.events().stream().filter(e -> e.startsWith("ST: request")).toList(),
+            Matchers.contains("ST: request::suit => clubs", "ST: request::rank => king")
+        );
+    }
+
+    @Test
+    void shouldCheckRulesAcceptingAnyValue() {
+        MatcherAssert.assertThat(
+            "The rule with a wildcard should be found for any key",
+            EqualityIndexTest.lookupContext("hearts", "joker").decisionFor("lookup"),
+            Matchers.hasEntry("outcome", "J")
+        );
+    }
+
+    @Test
+    void shouldFallBackToElseRuleForUnknownKey() {
+        MatcherAssert.assertThat(
+            "The else rule should be used for unknown keys",
+            EqualityIndexTest.lookupContext("stars", "ace").decisionFor("lookup"),
+            Matchers.hasEntry("outcome", "undefined")
+        );
+    }
+
+    private static List<String> traceOf(final RuleMatcher matcher) {
+        final ComputationContext context = EqualityIndexTest.lookupContext("clubs", "king");
+        final OutputTracker<String> tracker = context.startTracking();
+        context.inFrame(() -> matcher.satisfied(context, HitPolicy.UNIQUE, "table"));
+        return tracker.events().stream()
+            .filter(event -> event.startsWith("CN") || event.startsWith("RL"))
+            .toList();
+    }
+
+    private static RuleMatcher lookupIndex() {
+        return EqualityIndex.suitableFor(
+            MatcherTestObjects.rulesOf("table", EqualityIndexTest.LOOKUP), new Symbols()
+        ).orElseThrow();
+    }
+
+    private static ComputationContext lookupContext(final String suit, final String rank) {
+        return MatcherTestObjects.contextWith(
+            "request",
+            Map.of("suit", suit, "rank", rank),
+            () -> List.of(new SourceLines("lookup", EqualityIndexTest.LOOKUP, ";"))
+        );
+    }
+}
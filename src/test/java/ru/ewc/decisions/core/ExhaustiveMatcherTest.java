@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ru.ewc.decisions.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.OutputTracker;
+
+/**
+ * Tests for {@link ExhaustiveMatcher}.
+ *
+ * @since 0.10.0
+ */
+final class ExhaustiveMatcherTest {
+    /**
+     * The lookup-style table, indexed by the {@link EqualityIndex}.
+     */
+    private static final List<String> LOOKUP = List.of(
+        "CND;data::word;a;b;c;d;e;f;g;h",
+        "OUT;outcome;A;B;C;D;E;F;G;H"
+    );
+
+    /**
+     * The tables failing to compare the non-numeric values in some of their rules.
+     */
+    private static final List<List<String>> FAILING = List.of(
+        List.of("CND;data::x;;>1;~", "CND;data::y;a;1;1", "OUT;outcome;A;B;C"),
+        List.of(
+            "CND;data::x;;!1;1;;2;~b;1",
+            "CND;data::y;!!2;;>1;;~b;1.0;<3",
+            "CND;data::z;;!~b;;!1;;1;data::y",
+            "CND;data::x;>data::y;1;>1;;>1;;",
+            "OUT;outcome;r0;r1;r2;r3;r4;r5;r6"
+        )
+    );
+
+    @Test
+    void shouldNotCheckRulesAfterFirstSatisfied() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf("table", List.of(
+                "CND;data::word;a%s".formatted(
+                    String.join("", Collections.nCopies(BitsetMatcher.MIN_RULES, ";>5"))
+                ),
+                "OUT;outcome;first%s".formatted(
+                    String.join("", Collections.nCopies(BitsetMatcher.MIN_RULES, ";big"))
+                )
+            ));
+        MatcherAssert.assertThat(
+            "The rule that cannot compare the value should not be reached",
+            RuleMatcher.suitableFor(rules, new Symbols())
+                .satisfied(
+                    MatcherTestObjects.contextWith("data", Map.of("word", "a")),
+                    HitPolicy.FIRST,
+                    "table"
+                ),
+            Matchers.contains(rules.get(0))
+        );
+    }
+
+    @Test
+    void shouldTraceJustLikeSequentialMatcherWhenTracked() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf("table", ExhaustiveMatcherTest.LOOKUP);
+        for (final MatchingEngine engine : MatchingEngine.values()) {
+            MatcherAssert.assertThat(
+                "The trace should show every condition and rule, just like the sequential one",
+                ExhaustiveMatcherTest.traceOf(engine.matcherFor(rules)),
+                Matchers.equalTo(
+                    ExhaustiveMatcherTest.traceOf(MatchingEngine.SEQUENTIAL.matcherFor(rules))
+                )
+            );
+        }
+    }
+
+    @Test
+    void shouldFindTheSameRulesAsSequentialMatcher() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf("table", ExhaustiveMatcherTest.LOOKUP);
+        final RuleMatcher sequential = new SequentialMatcher(rules);
+        for (final MatchingEngine engine : MatchingEngine.values()) {
+            final RuleMatcher matcher = engine.matcherFor(rules);
+            for (final String word : List.of("a", "d", "z")) {
+                final ComputationContext context =
+                    MatcherTestObjects.contextWith("data", Map.of("word", word));
+                MatcherAssert.assertThat(
+                    "Every engine should give the same result as the sequential one",
+                    List.of(
+                        matcher.satisfied(context, HitPolicy.COLLECT, "table"),
+                        matcher.satisfied(context, HitPolicy.FIRST, "table")
+                    ),
+                    Matchers.contains(
+                        sequential.satisfied(context, HitPolicy.COLLECT, "table"),
+                        sequential.satisfied(context, HitPolicy.FIRST, "table")
+                    )
+                );
+            }
+        }
+    }
+
+    @Test
+    void shouldFailJustLikeSequentialMatcher() {
+        for (final List<String> table : ExhaustiveMatcherTest.FAILING) {
+            final List<Rule> rules = MatcherTestObjects.rulesOf("table", table);
+            final RuleMatcher sequential = new SequentialMatcher(rules);
+            for (final MatchingEngine engine : MatchingEngine.values()) {
+                final RuleMatcher matcher = engine.matcherFor(rules);
+                for (final List<String> values : List.of(
+                    List.of("a", "1.5", "2"), List.of("3", "a", "2"), List.of("3", "1", "b")
+                )) {
+                    final ComputationContext context = MatcherTestObjects.contextWith(
+                        "data", Map.of("x", values.get(0), "y", values.get(1), "z", values.get(2))
+                    );
+                    for (final HitPolicy policy : List.of(
+                        HitPolicy.COLLECT, HitPolicy.UNIQUE, HitPolicy.FIRST
+                    )) {
+                        MatcherAssert.assertThat(
+                            "Every engine should fail only where the sequential one does",
+                            MatcherTestObjects.resultOf(matcher, context, policy),
+                            Matchers.equalTo(
+                                MatcherTestObjects.resultOf(sequential, context, policy)
+                            )
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<String> traceOf(final RuleMatcher matcher) {
+        final ComputationContext context =
+            MatcherTestObjects.contextWith("data", Map.of("word", "b"));
+        final OutputTracker<String> tracker = context.startTracking();
+        context.inFrame(() -> matcher.satisfied(context, HitPolicy.UNIQUE, "table"));
+        return tracker.events().stream()
+            .filter(event -> event.startsWith("CN") || event.startsWith("RL"))
+            .toList();
+    }
+}
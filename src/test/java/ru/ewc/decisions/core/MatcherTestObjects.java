@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ru.ewc.decisions.core;
+
+import java.util.List;
+import java.util.Map;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecisionTables;
+import ru.ewc.decisions.api.InMemoryLocator;
+import ru.ewc.decisions.input.ContentsReader;
+import ru.ewc.decisions.input.SourceLines;
+import ru.ewc.state.State;
+
+/**
+ * I hold the preconfigured objects for the unit-tests of the {@link RuleMatcher}s.
+ *
+ * @since 0.10.0
+ */
+@SuppressWarnings("PMD.TestClassWithoutTestCases")
+final class MatcherTestObjects {
+    /**
+     * Ctor.
+     */
+    private MatcherTestObjects() {
+        // empty
+    }
+
+    /**
+     * The {@link Rule}s of the table, in the order of the table's columns.
+     *
+     * @param table The name of the table.
+     * @param lines The lines of the table's source file.
+     * @return The table's {@link Rule}s.
+     */
+    static List<Rule> rulesOf(final String table, final List<String> lines) {
+        return new SourceLines(table, lines, ";").specifiedRulesFragments().stream()
+            .map(Rule::new)
+            .toList();
+    }
+
+    /**
+     * The {@link ComputationContext} with a single in-memory locator and no tables.
+     *
+     * @param locator The name of the locator.
+     * @param values The values the locator holds.
+     * @return A prefilled {@link ComputationContext}.
+     */
+    static ComputationContext contextWith(final String locator, final Map<String, Object> values) {
+        return MatcherTestObjects.contextWith(locator, values, List::of);
+    }
+
+    /**
+     * The {@link ComputationContext} with a single in-memory locator and the specified tables.
+     *
+     * @param locator The name of the locator.
+     * @param values The values the locator holds.
+     * @param tables The reader of the tables.
+     * @return A prefilled {@link ComputationContext}.
+     */
+    static ComputationContext contextWith(
+        final String locator,
+        final Map<String, Object> values,
+        final ContentsReader tables
+    ) {
+        return new ComputationContext(
+            new State(List.of(new InMemoryLocator(locator, values))),
+            DecisionTables.using(tables)
+        );
+    }
+
+    /**
+     * Finds the satisfied {@link Rule}s, describing the failure instead, if the matcher fails.
+     * Allows to compare the matchers' failures along with their results.
+     *
+     * @param matcher The {@link RuleMatcher} to find the {@link Rule}s with.
+     * @param context The {@link ComputationContext} to check the {@link Rule}s in.
+     * @param policy The {@link HitPolicy} of the table.
+     * @return The names of the satisfied {@link Rule}s or the description of the failure.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    static String resultOf(
+        final RuleMatcher matcher,
+        final ComputationContext context,
+        final HitPolicy policy
+    ) {
+        String result;
+        try {
+            result = matcher.satisfied(context, policy, "table").stream()
+                .map(Rule::asString)
+                .toList()
+                .toString();
+        } catch (final RuntimeException exception) {
+            result = exception.toString();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecisionTables;
+import ru.ewc.decisions.api.Locator;
+import ru.ewc.decisions.api.OutputTracker;
+import ru.ewc.state.State;
+
+/**
+ * Tests for {@link RowMajorMatcher}.
+ *
+ * @since 0.10.0
+ */
+final class RowMajorMatcherTest {
+    /**
+     * The ordinary table, too small for the other matchers.
+     */
+    private static final List<String> TABLE = List.of(
+        "CND;data::number;>5;>5;<6;~",
+        "CND;data::word;a;!a;~;b",
+        "OUT;outcome;big-a;big;small;b"
+    );
+
+    /**
+     * The table with the repeated base and the comparisons of the non-numeric values.
+     */
+    private static final List<String> MIXED = List.of(
+        "CND;data::x;;!1;1;;2;~b;1",
+        "CND;data::y;!!2;;>1;;~b;1.0;<3",
+        "CND;data::z;;!~b;;!1;;1;data::y",
+        "CND;data::x;>data::y;1;>1;;>1;;",
+        "OUT;outcome;r0;r1;r2;r3;r4;r5;r6"
+    );
+
+    /**
+     * The table whose rules check the repeated base in the opposite orders.
+     */
+    private static final List<String> CROSSED = List.of(
+        "CND;data::x;;>1",
+        "CND;data::y;a;b",
+        "CND;data::x;2;",
+        "OUT;outcome;r0;r1"
+    );
+
+    @Test
+    void shouldBeUsedForOrdinaryTables() {
+        MatcherAssert.assertThat(
+            "The ordinary table should be matched row by row",
+            RuleMatcher.suitableFor(
+                MatcherTestObjects.rulesOf("table", RowMajorMatcherTest.TABLE), new Symbols()
+            ),
+            Matchers.instanceOf(RowMajorMatcher.class)
+        );
+    }
+
+    @Test
+    void shouldFindTheSameRulesAsSequentialMatcher() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf("table", RowMajorMatcherTest.TABLE);
+        final RuleMatcher rows = new RowMajorMatcher(rules, new Symbols());
+        final RuleMatcher sequential = new SequentialMatcher(rules);
+        for (int number = 0; number <= 10; number += 1) {
+            for (final String word : List.of("a", "b", "c")) {
+                final ComputationContext context = MatcherTestObjects.contextWith(
+                    "data", Map.of("number", number, "word", word)
+                );
+                MatcherAssert.assertThat(
+                    "Row matching should give the same result as the sequential one",
+                    List.of(
+                        rows.satisfied(context, HitPolicy.COLLECT, "table"),
+                        rows.satisfied(context, HitPolicy.FIRST, "table")
+                    ),
+                    Matchers.contains(
+                        sequential.satisfied(context, HitPolicy.COLLECT, "table"),
+                        sequential.satisfied(context, HitPolicy.FIRST, "table")
+                    )
+                );
+            }
+        }
+    }
+
+    @Test
+    void shouldNotCompareCellsOfFailedRules() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf("table", RowMajorMatcherTest.MIXED);
+        MatcherAssert.assertThat(
+            "The rule failed by its earlier cell should not compare the non-numeric value",
+            RuleMatcher.suitableFor(rules, new Symbols()).satisfied(
+                MatcherTestObjects.contextWith("data", Map.of("x", 3, "y", "a", "z", 2)),
+                HitPolicy.UNIQUE,
+                "table"
+            ),
+            Matchers.contains(rules.get(3))
+        );
+    }
+
+    @Test
+    void shouldFailJustLikeSequentialMatcher() {
+        final List<List<String>> tables =
+            List.of(RowMajorMatcherTest.MIXED, RowMajorMatcherTest.CROSSED);
+        for (final List<String> table : tables) {
+            final List<Rule> rules = MatcherTestObjects.rulesOf("table", table);
+            final RuleMatcher rows = new RowMajorMatcher(rules, new Symbols());
+            final RuleMatcher sequential = MatchingEngine.SEQUENTIAL.matcherFor(rules);
+            for (final String x : List.of("1", "3", "a")) {
+                for (final String y : List.of("1.5", "2", "a", "b")) {
+                    for (final String z : List.of("1", "2", "b")) {
+                        RowMajorMatcherTest.assertSameResults(
+                            rows, sequential, Map.of("x", x, "y", y, "z", z)
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldLocateEveryBaseOnce() {
+        final List<String> reads = new ArrayList<>(2);
+        final ComputationContext context = new ComputationContext(
+            new State(
+                List.of(
+                    new Locator() {
+                        @Override
+                        public String fragmentBy(final String frag, final ComputationContext ctx) {
+                            reads.add(frag);
+                            return Map.of("number", "7", "word", "b").get(frag);
+                        }
+
+                        @Override
+                        public void setFragmentValue(final String frag, final String value) {
+                            // nothing to set
+                        }
+
+                        @Override
+                        public String locatorName() {
+                            return "data";
+                        }
+                    }
+                )
+            ),
+            DecisionTables.using(List::of)
+        );
+        new RowMajorMatcher(
+            MatcherTestObjects.rulesOf("table", RowMajorMatcherTest.TABLE), new Symbols()
+        )
+            .satisfied(context, HitPolicy.COLLECT, "table");
+        MatcherAssert.assertThat(
+            "Every row's base should be located once for all the rules",
+            reads,
+            Matchers.contains("number", "word")
+        );
+    }
+
+    @Test
+    void shouldTraceEveryRuleWhenTracked() {
+        final ComputationContext context = MatcherTestObjects.contextWith(
+            "data", Map.of("number", 7, "word", "b")
+        );
+        final OutputTracker<String> tracker = context.startTracking();
+        new RowMajorMatcher(
+            MatcherTestObjects.rulesOf("table", RowMajorMatcherTest.TABLE), new Symbols()
+        )
+            .satisfied(context, HitPolicy.COLLECT, "table");
+        MatcherAssert.assertThat(
+            "The trace should show the failed rules as well",
+            tracker.events().stream().filter(event -> event.startsWith("RL")).toList(),
+            Matchers.contains(
+                "RL: table::rule_01 => false",
+                "RL: table::rule_02 => true",
+                "RL: table::rule_03 => false",
+                "RL: table::rule_04 => true"
+            )
+        );
+    }
+
+    private static void assertSameResults(
+        final RuleMatcher rows,
+        final RuleMatcher sequential,
+        final Map<String, Object> values
+    ) {
+        for (final HitPolicy policy : List.of(HitPolicy.UNIQUE, HitPolicy.COLLECT)) {
+            final ComputationContext context = MatcherTestObjects.contextWith("data", values);
+            MatcherAssert.assertThat(
+                "Row matching should fail only where the sequential one does",
+                MatcherTestObjects.resultOf(rows, context, policy),
+                Matchers.equalTo(MatcherTestObjects.resultOf(sequential, context, policy))
+            );
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.api.ComputationContext;
+
+/**
+ * Tests for {@link ThresholdRow}.
+ *
+ * @since 0.10.0
+ */
+final class ThresholdRowTest {
+    @Test
+    void shouldAcceptOnlyNumericThresholds() {
+        MatcherAssert.assertThat(
+            "Only the numeric threshold rows should be indexed",
+            List.of(
+                ThresholdRow.accepts(new String[]{">1", null, "<-2.5"}),
+                ThresholdRow.accepts(new String[]{">1", "2"}),
+                ThresholdRow.accepts(new String[]{">${data::number}"}),
+                ThresholdRow.accepts(new String[]{null, null})
+            ),
+            Matchers.contains(true, false, false, false)
+        );
+    }
+
+    @Test
+    void shouldBeUsedForTierTables() {
+        MatcherAssert.assertThat(
+            "The tier table should be matched with bitsets",
+            ((ExhaustiveMatcher) RuleMatcher.suitableFor(
+                MatcherTestObjects.rulesOf("tiers", ThresholdRowTest.tierTable()), new Symbols()
+            )).guarded(),
+            Matchers.instanceOf(BitsetMatcher.class)
+        );
+    }
+
+    @Test
+    void shouldFindTheSameRulesAsSequentialMatcher() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf("tiers", ThresholdRowTest.tierTable());
+        final RuleMatcher bitset = new BitsetMatcher(rules, new Symbols());
+        final RuleMatcher sequential = new SequentialMatcher(rules);
+        for (final Object number : List.of(-10, 0, 0.5, 10, 15, 20, 55.5, 90, 100, 1000)) {
+            final ComputationContext context =
+                MatcherTestObjects.contextWith("data", Map.of("number", number));
+            MatcherAssert.assertThat(
+                "Threshold matching should give the same result as the sequential one",
+                bitset.satisfied(context, HitPolicy.COLLECT, "tiers"),
+                Matchers.equalTo(sequential.satisfied(context, HitPolicy.COLLECT, "tiers"))
+            );
+        }
+    }
+
+    @Test
+    void shouldNotCompareStrings() {
+        final List<Rule> rules = MatcherTestObjects.rulesOf("tiers", ThresholdRowTest.tierTable());
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new BitsetMatcher(rules, new Symbols()).satisfied(
+                MatcherTestObjects.contextWith("data", Map.of("number", "many")),
+                HitPolicy.COLLECT,
+                "tiers"
+            )
+        );
+    }
+
+    private static List<String> tierTable() {
+        final List<String> lower = new ArrayList<>(10);
+        final List<String> upper = new ArrayList<>(10);
+        final List<String> outcomes = new ArrayList<>(10);
+        for (int tier = 0; tier < 10; tier += 1) {
+            lower.add(">%d".formatted(tier * 10 - 1));
+            if (tier == 9) {
+                upper.add("~");
+            } else {
+                upper.add("<%d".formatted(tier * 10 + 10));
+            }
+            outcomes.add("tier_%d".formatted(tier));
+        }
+        return List.of(
+            "CND;data::number;%s".formatted(String.join(";", lower)),
+            "CND;data::number;%s".formatted(String.join(";", upper)),
+            "OUT;outcome;%s".formatted(String.join(";", outcomes))
+        );
+    }
+}
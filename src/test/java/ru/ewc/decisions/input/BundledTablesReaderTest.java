@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.input;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the test for {@link BundledTablesReader}.
+ *
+ * @since 0.10.0
+ */
+final class BundledTablesReaderTest {
+    @Test
+    void shouldReadTablesListedInManifestOfJar(@TempDir final Path temp) throws IOException {
+        final Path jar = BundledTablesReaderTest.bundle(temp);
+        try (FileSystem zip = FileSystems.newFileSystem(jar)) {
+            MatcherAssert.assertThat(
+                "Should read only the listed tables from the jar",
+                BundledTablesReaderTest.contentsOf(
+                    new BundledTablesReader(zip.getPath("tables"), ";")
+                ),
+                Matchers.contains("first", "CND;data::x;1", "OUT;out;a", "second", "OUT;out;b")
+            );
+        }
+    }
+
+    @Test
+    void shouldReadTablesFromClasspath(@TempDir final Path temp) throws IOException {
+        final Path jar = BundledTablesReaderTest.bundle(temp);
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)) {
+            MatcherAssert.assertThat(
+                "Should read the listed tables from the classpath",
+                BundledTablesReaderTest.contentsOf(
+                    new BundledTablesReader(loader, "tables", ";")
+                ),
+                Matchers.contains("first", "CND;data::x;1", "OUT;out;a", "second", "OUT;out;b")
+            );
+        }
+    }
+
+    @Test
+    void shouldFailWhenListedTableIsMissing(@TempDir final Path temp) throws IOException {
+        final Path jar = BundledTablesReaderTest.bundle(temp);
+        try (FileSystem zip = FileSystems.newFileSystem(jar)) {
+            Files.writeString(zip.getPath("tables", BundledTablesReader.INDEX), "missing.csv\n");
+            MatcherAssert.assertThat(
+                "Should keep the I/O failure as the cause",
+                Assertions.assertThrows(
+                    DecitaException.class,
+                    () -> new BundledTablesReader(zip.getPath("tables"), ";").readAll()
+                ).getCause(),
+                Matchers.instanceOf(IOException.class)
+            );
+        }
+    }
+
+    @Test
+    void shouldReportTablesWithSameName(@TempDir final Path temp) throws IOException {
+        final Path jar = BundledTablesReaderTest.bundle(temp);
+        try (FileSystem zip = FileSystems.newFileSystem(jar)) {
+            Files.writeString(
+                zip.getPath("tables", BundledTablesReader.INDEX),
+                "nested/second.csv\nsecond.csv\n"
+            );
+            final DecitaException failure = Assertions.assertThrows(
+                DecitaException.class,
+                () -> new BundledTablesReader(zip.getPath("tables"), ";").sources()
+            );
+            MatcherAssert.assertThat(
+                "Should name both paths of the same table",
+                failure.getMessage(),
+                Matchers.equalTo(
+                    String.join(
+                        " ",
+                        "The bundled tables 'nested/second.csv' and 'second.csv'",
+                        "have the same name 'second'"
+                    )
+                )
+            );
+        }
+    }
+
+    @Test
+    void shouldReadTablesListedByGeneratedIndex(@TempDir final Path temp) throws IOException {
+        final Path root = Files.createDirectories(temp.resolve("tables/nested"));
+        Files.writeString(temp.resolve("tables/first.csv"), "OUT;out;a\n");
+        Files.writeString(root.resolve("second.csv"), "OUT;out;b\n");
+        Files.writeString(root.resolve("notes.txt"), "not a table\n");
+        new TablesIndex(temp.resolve("tables"), ".csv").write();
+        MatcherAssert.assertThat(
+            "Should list every table relative to the root",
+            Stream.concat(
+                Stream.of(
+                    Files.readString(temp.resolve("tables").resolve(BundledTablesReader.INDEX))
+                ),
+                BundledTablesReaderTest.contentsOf(
+                    new BundledTablesReader(temp.resolve("tables"), ";")
+                ).stream()
+            ).toList(),
+            Matchers.contains(
+                "first.csv\nnested/second.csv\n", "first", "OUT;out;a", "second", "OUT;out;b"
+            )
+        );
+    }
+
+    private static Path bundle(final Path temp) throws IOException {
+        final Path jar = temp.resolve("bundle.jar");
+        try (FileSystem zip = FileSystems.newFileSystem(jar, Map.of("create", "true"))) {
+            final Path root = Files.createDirectories(zip.getPath("tables", "nested"));
+            Files.writeString(
+                zip.getPath("tables", BundledTablesReader.INDEX),
+                "# the bundled tables\nfirst.csv\n\nnested/second.csv\n"
+            );
+            Files.writeString(zip.getPath("tables", "first.csv"), "CND;data::x;1\nOUT;out;a\n");
+            Files.writeString(root.resolve("second.csv"), "OUT;out;b\n");
+            Files.writeString(root.resolve("unlisted.csv"), "OUT;out;c\n");
+        }
+        return jar;
+    }
+
+    private static List<String> contentsOf(final ContentsReader reader) {
+        return reader.readAll().stream()
+            .flatMap(
+                table -> Stream.concat(
+                    Stream.of(table.fileName()),
+                    table.lines().stream()
+                )
+            )
+            .toList();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.input;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the test for {@link CompiledTablesSource}.
+ *
+ * @since 0.10.0
+ */
+final class CompiledTablesSourceTest {
+    /**
+     * The number of the rows of the large table.
+     */
+    private static final int ROWS = 26;
+
+    /**
+     * The number of the rules of the large table.
+     */
+    private static final int RULES = 400;
+
+    @Test
+    void shouldEmbedTablesIntoContentsReader() {
+        final CompiledTablesSource source = new CompiledTablesSource(
+            "ru.ewc.generated.CompiledTables",
+            () -> List.of(
+                new SourceLines(
+                    "hello-world",
+                    List.of("CND;data::is-stored;true;false", "OUT;outcome;hello;world"),
+                    ";"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Should generate the reader class with the table's cells",
+            source.asString(),
+            Matchers.stringContainsInOrder(
+                "package ru.ewc.generated;",
+                "public final class CompiledTables implements ContentsReader",
+                "CompiledTables.table0()",
+                "private static SourceLines table0()",
+                "CompiledTables.table0Part0(rows);",
+                "\"hello-world\"",
+                "\";\"",
+                "fill(rows, 0, 4, 0, \"CND\", \"data::is-stored\", \"true\", \"false\");",
+                "fill(rows, 1, 4, 0, \"OUT\", \"outcome\", \"hello\", \"world\");"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Should place the source by its package",
+            source.relativePath(),
+            Matchers.equalTo("ru/ewc/generated/CompiledTables.java")
+        );
+    }
+
+    @Test
+    void shouldEscapeStringLiterals() {
+        MatcherAssert.assertThat(
+            "Should escape quotes, backslashes and non-ASCII symbols",
+            new CompiledTablesSource(
+                "Tables",
+                () -> List.of(
+                    new SourceLines(
+                        "quotes",
+                        List.of("CND;data::x;1", "OUT;out;\"a\\b\";приве"),
+                        ";"
+                    )
+                )
+            ).asString(),
+            Matchers.containsString(
+                "\"\\\"a\\\\b\\\"\", \"\\u043f\\u0440\\u0438\\u0432\\u0435\""
+            )
+        );
+    }
+
+    @Test
+    void shouldKeepCellsOfRegexDelimitedTable() {
+        MatcherAssert.assertThat(
+            "Should embed the cells split by the regular expression as they are",
+            new CompiledTablesSource(
+                "Tables",
+                () -> List.of(
+                    new SourceLines("piped", List.of("CND|data::x|1", "OUT|out|a"), "\\|")
+                )
+            ).asString(),
+            Matchers.stringContainsInOrder(
+                "fill(rows, 0, 3, 0, \"CND\", \"data::x\", \"1\");",
+                "fill(rows, 1, 3, 0, \"OUT\", \"out\", \"a\");"
+            )
+        );
+    }
+
+    @Test
+    void shouldCompileTableTooLargeForSingleMethod(@TempDir final Path temp) throws Exception {
+        final List<String> lines = new ArrayList<>(CompiledTablesSourceTest.ROWS);
+        for (int row = 1; row < CompiledTablesSourceTest.ROWS; row += 1) {
+            final StringBuilder line = new StringBuilder("CND;data::c%d".formatted(row));
+            for (int rule = 0; rule < CompiledTablesSourceTest.RULES; rule += 1) {
+                line.append(";value-%d-%d".formatted(row, rule));
+            }
+            lines.add(line.toString());
+        }
+        final StringBuilder outcome = new StringBuilder("OUT;outcome");
+        for (int rule = 0; rule < CompiledTablesSourceTest.RULES; rule += 1) {
+            outcome.append(";rule-%d".formatted(rule));
+        }
+        lines.add(outcome.toString());
+        final CompiledTablesSource source = new CompiledTablesSource(
+            "ru.ewc.generated.LargeTables",
+            () -> List.of(new SourceLines("large", lines, ";"))
+        );
+        final Path file = temp.resolve(source.relativePath());
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source.asString());
+        final int status = new ProcessBuilder(
+            Path.of(System.getProperty("java.home"), "bin", "javac").toString(),
+            "-classpath",
+            Path.of(SourceLines.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .toString(),
+            "-d",
+            temp.toString(),
+            file.toString()
+        ).inheritIO().start().waitFor();
+        MatcherAssert.assertThat("Should compile the generated source", status, Matchers.is(0));
+        try (URLClassLoader loader = new URLClassLoader(
+            new URL[]{temp.toUri().toURL()}, SourceLines.class.getClassLoader()
+        )) {
+            final ContentsReader reader = (ContentsReader) loader
+                .loadClass("ru.ewc.generated.LargeTables")
+                .getDeclaredConstructor()
+                .newInstance();
+            MatcherAssert.assertThat(
+                "Should read the same lines back",
+                reader.readAll().get(0).lines(),
+                Matchers.equalTo(lines)
+            );
+        }
+    }
+
+    @Test
+    void shouldFailOnMalformedTable() {
+        final DecitaException failure = Assertions.assertThrows(
+            DecitaException.class,
+            () -> new CompiledTablesSource(
+                "Tables",
+                () -> List.of(
+                    new SourceLines(
+                        "broken",
+                        List.of("HIT;SOMETIMES", "CND;data::x;1", "OUT;out;a"),
+                        ";"
+                    )
+                )
+            ).asString()
+        );
+        MatcherAssert.assertThat(
+            "Should keep the original failure as the cause",
+            failure.getCause(),
+            Matchers.instanceOf(DecitaException.class)
+        );
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.input;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * I am the test for {@link DelimitedRows}.
+ *
+ * @since 0.10.0
+ */
+final class DelimitedRowsTest {
+    @Test
+    void shouldSplitLikeReadingAllLines(@TempDir final Path temp) throws IOException {
+        final StringBuilder text = new StringBuilder(
+            "CND;data::a;1;;2;;\r\n\n;;\r;lead\rOUT;привет;мир"
+        );
+        for (int idx = 0; idx < 3000; idx += 1) {
+            text.append("\r\nCND;ключ::").append(idx).append(";значение;;");
+        }
+        final Path file = temp.resolve("table.csv");
+        Files.writeString(file, text, StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            "Should give the same cells as splitting every line",
+            new DelimitedRows(file, ';').asArray(),
+            Matchers.equalTo(
+                Files.readAllLines(file).stream()
+                    .map(line -> line.split(";"))
+                    .toArray(String[][]::new)
+            )
+        );
+    }
+
+    @Test
+    void shouldRejectMalformedText(@TempDir final Path temp) throws IOException {
+        final Path file = temp.resolve("broken.csv");
+        Files.write(file, new byte[]{'C', 'N', 'D', (byte) 0xC3, ';'});
+        Assertions.assertThrows(IOException.class, () -> new DelimitedRows(file, ';').asArray());
+    }
+
+    @Test
+    void shouldSupportOnlyLiteralDelimiters() {
+        MatcherAssert.assertThat(
+            "Only the single non-special symbols could be streamed",
+            List.of(
+                DelimitedRows.supports(";"),
+                DelimitedRows.supports(","),
+                DelimitedRows.supports("|"),
+                DelimitedRows.supports(";;")
+            ),
+            Matchers.contains(true, true, false, false)
+        );
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.input;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * I am the test for {@link ParseCache}.
+ *
+ * @since 0.10.0
+ */
+final class ParseCacheTest {
+    /**
+     * The limit large enough for all the cache entries in the tests.
+     */
+    private static final long LIMIT = 1 << 20;
+
+    /**
+     * The time the cache entries are marked as used long ago.
+     */
+    private static final FileTime LONG_AGO = FileTime.fromMillis(1000);
+
+    @Test
+    void shouldParseOnlyChangedFiles(@TempDir final Path temp) throws IOException {
+        final Path tables = Files.createDirectory(temp.resolve("tables"));
+        final Path cache = temp.resolve("cache");
+        Files.writeString(tables.resolve("changed.csv"), "CND;data::x;1\nOUT;out;old\n");
+        Files.writeString(tables.resolve("same.csv"), "CND;data::x;1\nOUT;out;same\n");
+        ParseCacheTest.reader(tables, new ParseCache(cache, ParseCacheTest.LIMIT)).readAll();
+        for (final Path entry : ParseCacheTest.entries(cache)) {
+            Files.setLastModifiedTime(entry, ParseCacheTest.LONG_AGO);
+        }
+        Files.writeString(tables.resolve("changed.csv"), "CND;data::x;1\nOUT;out;new\n");
+        final List<SourceLines> read =
+            ParseCacheTest.reader(tables, new ParseCache(cache, ParseCacheTest.LIMIT)).readAll();
+        final List<String> summary = new ArrayList<>(0);
+        summary.add("entries: %d".formatted(ParseCacheTest.entries(cache).size()));
+        summary.add(
+            "untouched: %d".formatted(
+                ParseCacheTest.entries(cache).stream()
+                    .filter(entry -> ParseCacheTest.LONG_AGO.equals(ParseCacheTest.used(entry)))
+                    .count()
+            )
+        );
+        read.forEach(lines -> summary.addAll(lines.lines()));
+        MatcherAssert.assertThat(
+            "Should reuse the unchanged entry and add the entry for the changed file",
+            summary,
+            Matchers.hasItems("entries: 3", "untouched: 1", "OUT;out;new", "OUT;out;same")
+        );
+    }
+
+    @Test
+    void shouldHashFileChangedWithinSameTick(@TempDir final Path temp) throws IOException {
+        final Path tables = Files.createDirectory(temp.resolve("tables"));
+        final Path cache = temp.resolve("cache");
+        final Path table = tables.resolve("table.csv");
+        Files.writeString(table, "CND;data::x;1\nOUT;out;old\n");
+        ParseCacheTest.reader(tables, new ParseCache(cache, ParseCacheTest.LIMIT)).readAll();
+        final FileTime tick = Files.getLastModifiedTime(table);
+        Files.writeString(table, "CND;data::x;1\nOUT;out;new\n");
+        Files.setLastModifiedTime(table, tick);
+        try (Stream<Path> files = Files.list(cache)) {
+            for (final Path reference : files.filter(path -> path.toString().endsWith(".ref"))
+                .toList()) {
+                Files.setLastModifiedTime(reference, tick);
+            }
+        }
+        MatcherAssert.assertThat(
+            "Should read the file of the same size and time again, if it's not older than its ref",
+            ParseCacheTest.reader(tables, new ParseCache(cache, ParseCacheTest.LIMIT))
+                .readAll().get(0).lines(),
+            Matchers.contains("CND;data::x;1", "OUT;out;new")
+        );
+    }
+
+    @Test
+    void shouldShareEntriesBetweenCheckouts(@TempDir final Path temp) throws IOException {
+        final Path first = Files.createDirectory(temp.resolve("first"));
+        final Path second = Files.createDirectory(temp.resolve("second"));
+        final Path cache = temp.resolve("cache");
+        Files.writeString(first.resolve("table.csv"), "CND;data::x;1\nOUT;out;a\n");
+        Files.writeString(second.resolve("table.csv"), "CND;data::x;1\nOUT;out;a\n");
+        ParseCacheTest.reader(first, new ParseCache(cache, ParseCacheTest.LIMIT)).readAll();
+        final Path entry = ParseCacheTest.entries(cache).get(0);
+        Files.setLastModifiedTime(entry, ParseCacheTest.LONG_AGO);
+        ParseCacheTest.reader(second, new ParseCache(cache, ParseCacheTest.LIMIT)).readAll();
+        MatcherAssert.assertThat(
+            "Should reuse the entry of the same file from another folder",
+            List.of(
+                ParseCacheTest.entries(cache).size(),
+                ParseCacheTest.LONG_AGO.equals(ParseCacheTest.used(entry))
+            ),
+            Matchers.contains(1, false)
+        );
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntries(@TempDir final Path temp) throws IOException {
+        final Path first = Files.createDirectory(temp.resolve("first"));
+        final Path second = Files.createDirectory(temp.resolve("second"));
+        final Path cache = temp.resolve("cache");
+        Files.writeString(first.resolve("old.csv"), "CND;data::x;1\nOUT;out;old\n");
+        Files.writeString(second.resolve("new.csv"), "CND;data::x;1\nOUT;out;new\n");
+        ParseCacheTest.reader(first, new ParseCache(cache, ParseCacheTest.LIMIT)).readAll();
+        final Path old = ParseCacheTest.entries(cache).get(0);
+        Files.setLastModifiedTime(old, ParseCacheTest.LONG_AGO);
+        ParseCacheTest.reader(second, new ParseCache(cache, Files.size(old) * 3 / 2)).readAll();
+        MatcherAssert.assertThat(
+            "Should keep only the recently used entry within the limit",
+            List.of(Files.exists(old), ParseCacheTest.entries(cache).size()),
+            Matchers.contains(false, 1)
+        );
+    }
+
+    @Test
+    void shouldParseFileAgainWhenEntryIsDamaged(@TempDir final Path temp) throws IOException {
+        final Path tables = Files.createDirectory(temp.resolve("tables"));
+        final Path cache = temp.resolve("cache");
+        Files.writeString(tables.resolve("table.csv"), "CND;data::x;1\nOUT;out;a\n");
+        ParseCacheTest.reader(tables, new ParseCache(cache, ParseCacheTest.LIMIT)).readAll();
+        final Path entry = ParseCacheTest.entries(cache).get(0);
+        Files.write(entry, new byte[]{1, 2, 3});
+        MatcherAssert.assertThat(
+            "Should parse the file and repair the entry",
+            List.of(
+                ParseCacheTest.reader(tables, new ParseCache(cache, ParseCacheTest.LIMIT))
+                    .readAll().get(0).lines(),
+                new SnapshotFile(entry).readAll().get(0).lines()
+            ),
+            Matchers.everyItem(Matchers.contains("CND;data::x;1", "OUT;out;a"))
+        );
+    }
+
+    private static ContentsReader reader(final Path folder, final ParseCache cache) {
+        return new CombinedCsvFileReader(folder.toUri(), ".csv", ";", cache);
+    }
+
+    private static List<Path> entries(final Path cache) throws IOException {
+        try (Stream<Path> files = Files.list(cache)) {
+            return files.filter(path -> path.toString().endsWith(".snap")).toList();
+        }
+    }
+
+    private static FileTime used(final Path entry) {
+        try {
+            return Files.getLastModifiedTime(entry);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.input;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the test for {@link SnapshotFile}.
+ *
+ * @since 0.10.0
+ */
+final class SnapshotFileTest {
+    @Test
+    void shouldReadTheSameTablesItWrote(@TempDir final Path temp) throws IOException {
+        final ContentsReader source = SnapshotFileTest.tables();
+        final SnapshotFile snapshot = new SnapshotFile(temp.resolve("tables.snapshot"));
+        snapshot.writeFrom(source);
+        MatcherAssert.assertThat(
+            "Should restore the names and the cells of all the tables",
+            SnapshotFileTest.contentsOf(snapshot),
+            Matchers.equalTo(SnapshotFileTest.contentsOf(source))
+        );
+    }
+
+    @Test
+    void shouldDecodeEveryTableOnDemand(@TempDir final Path temp) throws IOException {
+        final ContentsReader source = SnapshotFileTest.tables();
+        final SnapshotFile snapshot = new SnapshotFile(temp.resolve("tables.snapshot"));
+        snapshot.writeFrom(source);
+        final List<String> restored = new ArrayList<>(0);
+        snapshot.sources().values().stream()
+            .map(Supplier::get)
+            .sorted(Comparator.comparing(SourceLines::fileName))
+            .forEach(
+                table -> {
+                    restored.add(table.fileName());
+                    restored.addAll(table.lines());
+                }
+            );
+        final List<String> expected = new ArrayList<>(0);
+        source.readAll().stream()
+            .sorted(Comparator.comparing(SourceLines::fileName))
+            .forEach(
+                table -> {
+                    expected.add(table.fileName());
+                    expected.addAll(table.lines());
+                }
+            );
+        MatcherAssert.assertThat(
+            "Should restore every table from its own source",
+            restored,
+            Matchers.equalTo(expected)
+        );
+    }
+
+    @Test
+    void shouldRejectDamagedSnapshot(@TempDir final Path temp) throws IOException {
+        final Path path = temp.resolve("tables.snapshot");
+        new SnapshotFile(path).writeFrom(SnapshotFileTest.tables());
+        final byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes);
+        Assertions.assertThrows(DecitaException.class, () -> new SnapshotFile(path).readAll());
+    }
+
+    @Test
+    void shouldRejectSnapshotOfAnotherVersion(@TempDir final Path temp) throws IOException {
+        final Path path = temp.resolve("tables.snapshot");
+        new SnapshotFile(path).writeFrom(SnapshotFileTest.tables());
+        final byte[] bytes = Files.readAllBytes(path);
+        bytes[Integer.BYTES * 2 - 1] += 1;
+        Files.write(path, bytes);
+        Assertions.assertThrows(DecitaException.class, () -> new SnapshotFile(path).readAll());
+    }
+
+    @Test
+    void shouldRejectSnapshotOfChangedSources(@TempDir final Path temp) throws IOException {
+        final Path folder = Files.createDirectory(temp.resolve("sources"));
+        Files.writeString(folder.resolve("table.csv"), "CND;r1\nOUT;r1\nout;one\n");
+        final ContentsReader source = new CombinedCsvFileReader(folder.toUri(), ".csv", ";");
+        final SnapshotFile snapshot = new SnapshotFile(temp.resolve("tables.snapshot"), source);
+        snapshot.writeFrom(source);
+        final int before = snapshot.readAll().size();
+        Files.writeString(folder.resolve("table.csv"), "CND;r1\nOUT;r1\nout;two\n");
+        final DecitaException failure = Assertions.assertThrows(
+            DecitaException.class,
+            snapshot::readAll
+        );
+        MatcherAssert.assertThat(
+            "Should load the snapshot only while its sources stay the same",
+            List.of(String.valueOf(before), failure.getMessage()),
+            Matchers.contains("1", "The snapshot is outdated, its sources have changed")
+        );
+    }
+
+    @Test
+    void shouldNotHashUnchangedSources(@TempDir final Path temp) throws IOException {
+        final Path folder = Files.createDirectory(temp.resolve("sources"));
+        final Path table = folder.resolve("table.csv");
+        Files.writeString(table, "CND;r1\nOUT;r1\nout;one\n");
+        Files.setLastModifiedTime(table, FileTime.fromMillis(1000));
+        final ContentsReader files = new CombinedCsvFileReader(folder.toUri(), ".csv", ";");
+        final AtomicInteger hashed = new AtomicInteger();
+        final ContentsReader source = new ContentsReader() {
+            @Override
+            public List<SourceLines> readAll() {
+                return files.readAll();
+            }
+
+            @Override
+            public byte[] digest() {
+                hashed.incrementAndGet();
+                return files.digest();
+            }
+
+            @Override
+            public byte[] fingerprint() {
+                return files.fingerprint();
+            }
+
+            @Override
+            public boolean changedSince(final FileTime time) {
+                return files.changedSince(time);
+            }
+        };
+        final SnapshotFile snapshot = new SnapshotFile(temp.resolve("tables.snapshot"), source);
+        snapshot.writeFrom(source);
+        final int written = hashed.get();
+        snapshot.readAll();
+        final int unchanged = hashed.get() - written;
+        Files.setLastModifiedTime(table, FileTime.fromMillis(2000));
+        snapshot.readAll();
+        MatcherAssert.assertThat(
+            "Should hash the sources only once their fingerprint changes",
+            List.of(unchanged, hashed.get() - written),
+            Matchers.contains(0, 1)
+        );
+    }
+
+    @Test
+    void shouldKeepCauseOfReadFailure(@TempDir final Path temp) {
+        MatcherAssert.assertThat(
+            "Should keep the I/O failure as the cause",
+            Assertions.assertThrows(
+                DecitaException.class,
+                () -> new SnapshotFile(temp.resolve("missing.snapshot")).readAll()
+            ).getCause(),
+            Matchers.instanceOf(IOException.class)
+        );
+    }
+
+    private static ContentsReader tables() {
+        return new CombinedCsvFileReader(
+            Path.of(Paths.get("").toAbsolutePath().toString(), "src/test/resources/tables")
+                .toUri(),
+            ".csv",
+            ";"
+        );
+    }
+
+    private static List<String> contentsOf(final ContentsReader reader) {
+        final List<String> result = new ArrayList<>(0);
+        for (final SourceLines table : reader.readAll()) {
+            result.add(table.fileName());
+            result.addAll(table.lines());
+        }
+        return result;
+    }
+}
@@ -32,6 +32,8 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import ru.ewc.decisions.api.RuleFragment;
+import ru.ewc.decisions.core.MatchingEngine;
 
 /**
  * I am the test for {@link SourceLines}.
@@ -135,6 +137,57 @@ final class SourceLinesTest {
         );
     }
 
+    @Test
+    void shouldCollectTrimmedFragmentsOfRuleColumn() {
+        MatcherAssert.assertThat(
+            "Should skip blank cells, trim the rest and add the default header",
+            new SourceLines(
+                "columns",
+                List.of("CND ; data::a ; 1 ;  ", "CND;data::b;;2", "OUT;outcome; x ;y"),
+                ";"
+            ).ruleFragments(2).getFragments(),
+            Matchers.contains(
+                new RuleFragment("CND", "data::a", "1"),
+                new RuleFragment("OUT", "outcome", "x"),
+                new RuleFragment("HDR", "columns", "rule_01")
+            )
+        );
+    }
+
+    @Test
+    void shouldRebuildLinesFromTrimmedColumns() {
+        MatcherAssert.assertThat(
+            "Should rebuild every line with its cells trimmed and its blank cells kept",
+            new SourceLines(
+                "columns",
+                List.of("CND ; data::a ; 1 ;  ", "", "OUT;outcome; x ;y"),
+                ";"
+            ).lines(),
+            Matchers.contains("CND;data::a;1;", "", "OUT;outcome;x;y")
+        );
+    }
+
+    @Test
+    void shouldReadDeclaredMatchingEngine() {
+        MatcherAssert.assertThat(
+            "Should read the matching engine from the ENG line",
+            List.of(sourceLinesFor("ENG;tree").engine(), sourceLinesFor("CND;hello").engine()),
+            Matchers.contains(MatchingEngine.TREE, MatchingEngine.AUTO)
+        );
+    }
+
+    @Test
+    void shouldReadOnlyExactDeclarations() {
+        MatcherAssert.assertThat(
+            "Should take only the lines of exactly the ENG type for the declarations",
+            List.of(
+                sourceLinesFor(" ENG ;tree").engine(),
+                sourceLinesFor("ENGINE;tree").engine()
+            ),
+            Matchers.contains(MatchingEngine.TREE, MatchingEngine.AUTO)
+        );
+    }
+
     private static SourceLines sourceLinesFor(final String input) {
         return new SourceLines("test_line", Collections.singletonList(input), ";");
     }